@@ -8,6 +8,7 @@ import java.util.logging.Logger;
 import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DataLayout;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
@@ -22,12 +23,15 @@ import seedu.address.model.ReadOnlyProductiveNus;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.JsonProductiveNusStorage;
+import seedu.address.storage.JournalingProductiveNusStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.ProductiveNusStorage;
+import seedu.address.storage.SegmentedProductiveNusStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.timetable.ModuleDataCache;
+import seedu.address.timetable.TimetableRetriever;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -56,8 +60,19 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        ProductiveNusStorage productiveNusStorage = new JsonProductiveNusStorage(userPrefs.getProductiveNusFilePath());
+        ProductiveNusStorage productiveNusStorage;
+        if (config.getDataLayout() == DataLayout.SEGMENTED_BY_MODULE) {
+            productiveNusStorage = new SegmentedProductiveNusStorage(userPrefs.getProductiveNusFilePath(),
+                    config.getSyncPolicy(), config.getSaveCoalescingWindowMillis(), config.getDataFormat(),
+                    config.getDataCompressionLevel());
+        } else {
+            productiveNusStorage = new JournalingProductiveNusStorage(userPrefs.getProductiveNusFilePath(),
+                    config.getSyncPolicy(), config.getSaveCoalescingWindowMillis(), config.getDataFormat(),
+                    config.getDataCompressionLevel());
+        }
         storage = new StorageManager(productiveNusStorage, userPrefsStorage);
+        TimetableRetriever.setCache(new ModuleDataCache(userPrefs.getProductiveNusFilePath()
+                .resolveSibling(ModuleDataCache.DIRECTORY_NAME), ModuleDataCache.DEFAULT_MAX_SIZE_BYTES));
 
         initLogging(config);
 
@@ -90,7 +105,7 @@ public class MainApp extends Application {
             initialData = new ProductiveNus();
         }
 
-        return new ModelManager(initialData, userPrefs, null);
+        return new ModelManager(initialData, userPrefs);
     }
 
     private void initLogging(Config config) {
@@ -105,6 +120,7 @@ public class MainApp extends Application {
     protected Config initConfig(Path configFilePath) {
         Config initializedConfig;
         Path configFilePathUsed;
+        boolean isConfigFileValid = false;
 
         configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
 
@@ -118,17 +134,20 @@ public class MainApp extends Application {
         try {
             Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
             initializedConfig = configOptional.orElse(new Config());
+            isConfigFileValid = configOptional.isPresent();
         } catch (DataConversionException e) {
             logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
                     + "Using default config properties");
             initializedConfig = new Config();
         }
 
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        //Create config file in case it was missing or invalid to begin with; a valid file is left as it is
+        if (!isConfigFileValid) {
+            try {
+                ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+            } catch (IOException e) {
+                logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+            }
         }
         return initializedConfig;
     }
@@ -155,7 +174,7 @@ public class MainApp extends Application {
             initializedPrefs = new UserPrefs();
         }
 
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        //Create prefs file in case it was missing or invalid to begin with; prefs just read are not written again
         try {
             storage.saveUserPrefs(initializedPrefs);
         } catch (IOException e) {
@@ -174,6 +193,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping ProductiveNus ] =============================");
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -15,6 +15,11 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private SyncPolicy syncPolicy = SyncPolicy.PERIODIC;
+    private long saveCoalescingWindowMillis = 100;
+    private DataFormat dataFormat = DataFormat.JSON;
+    private DataLayout dataLayout = DataLayout.SINGLE_FILE;
+    private int dataCompressionLevel = 0;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +37,46 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public SyncPolicy getSyncPolicy() {
+        return syncPolicy;
+    }
+
+    public void setSyncPolicy(SyncPolicy syncPolicy) {
+        this.syncPolicy = syncPolicy;
+    }
+
+    public long getSaveCoalescingWindowMillis() {
+        return saveCoalescingWindowMillis;
+    }
+
+    public void setSaveCoalescingWindowMillis(long saveCoalescingWindowMillis) {
+        this.saveCoalescingWindowMillis = saveCoalescingWindowMillis;
+    }
+
+    public DataFormat getDataFormat() {
+        return dataFormat;
+    }
+
+    public void setDataFormat(DataFormat dataFormat) {
+        this.dataFormat = dataFormat;
+    }
+
+    public DataLayout getDataLayout() {
+        return dataLayout;
+    }
+
+    public void setDataLayout(DataLayout dataLayout) {
+        this.dataLayout = dataLayout;
+    }
+
+    public int getDataCompressionLevel() {
+        return dataCompressionLevel;
+    }
+
+    public void setDataCompressionLevel(int dataCompressionLevel) {
+        this.dataCompressionLevel = dataCompressionLevel;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +89,18 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(syncPolicy, o.syncPolicy)
+                && saveCoalescingWindowMillis == o.saveCoalescingWindowMillis
+                && Objects.equals(dataFormat, o.dataFormat)
+                && Objects.equals(dataLayout, o.dataLayout)
+                && dataCompressionLevel == o.dataCompressionLevel;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, syncPolicy, saveCoalescingWindowMillis, dataFormat,
+                dataLayout, dataCompressionLevel);
     }
 
     @Override
@@ -57,6 +108,11 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nData sync policy : " + syncPolicy);
+        sb.append("\nData save window : " + saveCoalescingWindowMillis + "ms");
+        sb.append("\nData format : " + dataFormat);
+        sb.append("\nData layout : " + dataLayout);
+        sb.append("\nData compression level : " + dataCompressionLevel);
         return sb.toString();
     }
 
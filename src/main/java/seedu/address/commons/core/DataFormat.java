@@ -0,0 +1,12 @@
+package seedu.address.commons.core;
+
+/**
+ * The format that assignment and lesson data is saved in. Data in either format can be read no matter which format
+ * is chosen.
+ */
+public enum DataFormat {
+    /** Json, which can be read and edited by hand. */
+    JSON,
+    /** A compact binary format, which is faster to read and write. */
+    BINARY
+}
@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * How assignment and lesson data is laid out in files.
+ */
+public enum DataLayout {
+    /** One data file, with a journal of the changes made since it was written. */
+    SINGLE_FILE,
+    /** One file for the data of each module, so that only the files of modules that changed are rewritten. */
+    SEGMENTED_BY_MODULE
+}
@@ -0,0 +1,14 @@
+package seedu.address.commons.core;
+
+/**
+ * How often saved data is forced onto the storage device, instead of being left for the operating system to write
+ * out later. Data that has not been forced onto the storage device may be lost if the computer crashes.
+ */
+public enum SyncPolicy {
+    /** Forces data onto the storage device every time it is saved. */
+    ALWAYS,
+    /** Forces data onto the storage device when it is saved, at most once a second. */
+    PERIODIC,
+    /** Leaves writing data out to the operating system. */
+    NEVER
+}
@@ -0,0 +1,89 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list backed by an {@code ArrayList}, whose changes can be grouped with {@link #batch(Runnable)} so that
+ * listeners are notified of all of them in one {@code Change}.
+ *
+ * Unlike replacing the whole list with {@code setAll}, each change in a batch is reported as a change to the positions
+ * it affected, so listeners only need to do work proportional to what has changed.
+ */
+public class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+
+    /**
+     * Makes the changes in {@code changes} to this list, notifying listeners of all of them once they have been made.
+     */
+    public void batch(Runnable changes) {
+        requireNonNull(changes);
+        beginChange();
+        try {
+            changes.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+
+    @Override
+    public void clear() {
+        // the base class removes the elements one at a time from the front, which takes quadratic time
+        if (elements.isEmpty()) {
+            return;
+        }
+        beginChange();
+        nextRemove(0, new ArrayList<>(elements));
+        elements.clear();
+        modCount++;
+        endChange();
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends E> replacement) {
+        requireNonNull(replacement);
+        beginChange();
+        try {
+            clear();
+            if (!replacement.isEmpty()) {
+                elements.addAll(replacement);
+                nextAdd(0, elements.size());
+                modCount++;
+            }
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+}
@@ -1,17 +1,32 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+
     private static final String CHARSET = "UTF-8";
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+    // the first two bytes of a gzip file, in the order they are in the file
+    private static final int GZIP_MAGIC = 0x1f8b;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -74,10 +89,140 @@ public class FileUtil {
 
     /**
      * Writes given string to a file.
-     * Will create the file if it does not exist yet.
+     * Will create the file if it does not exist yet. The file is replaced in one step, so it is never left partly
+     * written.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFileAtomically(file, content.getBytes(CHARSET), true);
+    }
+
+    /**
+     * Replaces the contents of {@code file} with {@code content}, creating the file if it does not exist yet.
+     * The content is written to a temporary file in the same directory, which is then renamed to {@code file}, so a
+     * crash part way leaves either the old or the new contents in {@code file}.
+     *
+     * @param isSynced whether the content is forced onto the storage device before the old contents are replaced.
+     */
+    public static void writeToFileAtomically(Path file, byte[] content, boolean isSynced) throws IOException {
+        writeToFileAtomically(file, out -> out.write(content), isSynced);
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, byte[], boolean)}, but the contents are streamed into the file
+     * by {@code contentWriter}, through a buffer, instead of being held in memory all at once.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter, boolean isSynced)
+            throws IOException {
+        writeToFileAtomically(file, contentWriter, isSynced, null);
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, ContentWriter, boolean)}, but the old contents of {@code file},
+     * if any, are kept at {@code previousFile} if it is not null. The old contents are only moved there once the new
+     * contents have been completely written, and {@code file} stays in place until it is replaced where the file
+     * system supports hard links.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter, boolean isSynced,
+            Path previousFile) throws IOException {
+        Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_FILE_EXTENSION);
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+            contentWriter.writeTo(out);
+            out.flush();
+            if (isSynced) {
+                channel.force(true);
+            }
+        }
+        if (previousFile != null && Files.exists(file)) {
+            keepAs(file, previousFile);
+        }
+        moveReplacing(temporaryFile, file);
+        if (isSynced) {
+            syncDirectory(file.toAbsolutePath().getParent());
+        }
+    }
+
+    /**
+     * Makes {@code previousFile} hold the current contents of {@code file}, replacing it if it exists.
+     * {@code file} is linked rather than moved where possible, so that it is never missing.
+     */
+    private static void keepAs(Path file, Path previousFile) throws IOException {
+        Files.deleteIfExists(previousFile);
+        try {
+            Files.createLink(previousFile, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            moveReplacing(file, previousFile);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as files renamed into it, onto the storage device. Does nothing
+     * where directories cannot be opened, such as on Windows, as renames are already durable there.
+     */
+    private static void syncDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the directory cannot be opened or synced on this platform
+        }
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, replacing {@code target} if it exists.
+     * The move is done in one step where the file system supports it.
+     */
+    public static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns a {@code ContentWriter} that writes what {@code contentWriter} writes, compressed in gzip format.
+     *
+     * @param compressionLevel from 1 (fastest) to 9 (smallest). Levels outside this range are treated as the nearest
+     *     level in it.
+     */
+    public static ContentWriter compressing(ContentWriter contentWriter, int compressionLevel) {
+        int level = Math.max(Deflater.BEST_SPEED, Math.min(compressionLevel, Deflater.BEST_COMPRESSION));
+        return out -> {
+            GZIPOutputStream compressedOut = new GZIPOutputStream(out, WRITE_BUFFER_SIZE) {
+                {
+                    def.setLevel(level);
+                }
+            };
+            contentWriter.writeTo(compressedOut);
+            compressedOut.finish();
+        };
+    }
+
+    /**
+     * Returns true if the file open in {@code channel} is compressed in gzip format.
+     */
+    public static boolean isCompressed(FileChannel channel) throws IOException {
+        ByteBuffer start = ByteBuffer.allocate(2);
+        channel.position(0);
+        while (start.hasRemaining() && channel.read(start) >= 0) {
+            // reads until the buffer is full
+        }
+        return !start.hasRemaining() && (start.getShort(0) & 0xffff) == GZIP_MAGIC;
+    }
+
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the contents to {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
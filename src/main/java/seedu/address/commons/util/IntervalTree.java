@@ -0,0 +1,310 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.BiConsumer;
+
+/**
+ * A collection of values that are each associated with an interval from a start point (inclusive) to an end point
+ * (exclusive), which can be searched for values whose intervals overlap.
+ *
+ * The intervals are kept in a balanced binary tree ordered by their start points, where every node also knows the
+ * latest end point in its subtree. Adding and removing a value takes O(log n) time, and finding the k values that
+ * overlap an interval takes O(log n + k) time. Intervals that end where they start do not overlap anything.
+ */
+public class IntervalTree<K extends Comparable<? super K>, V> {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code value} with the interval from {@code start} to {@code end}.
+     */
+    public void add(K start, K end, V value) {
+        requireAllNonNull(start, end, value);
+        root = insert(root, new Interval<>(start, end, value));
+        size++;
+    }
+
+    /**
+     * Removes one {@code value} with the interval from {@code start} to {@code end}.
+     *
+     * @return true if such a value was found and removed.
+     */
+    public boolean remove(K start, K end, V value) {
+        requireAllNonNull(start, end, value);
+        int oldSize = size;
+        root = delete(root, new Interval<>(start, end, value));
+        return size < oldSize;
+    }
+
+    /**
+     * Removes all values.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the values whose intervals overlap the interval from {@code start} to {@code end}, in the order of the
+     * start points of their intervals.
+     */
+    public List<V> getOverlapping(K start, K end) {
+        requireAllNonNull(start, end);
+        List<V> overlapping = new ArrayList<>();
+        if (start.compareTo(end) < 0) {
+            collectOverlapping(root, start, end, overlapping);
+        }
+        return overlapping;
+    }
+
+    /**
+     * Passes every pair of values whose intervals overlap to {@code action}, with the value whose interval starts
+     * first as the first argument. Takes O((n + k) log n) time for k pairs.
+     */
+    public void forEachOverlappingPair(BiConsumer<? super V, ? super V> action) {
+        List<Interval<K, V>> intervals = new ArrayList<>(size);
+        collectInOrder(root, intervals);
+
+        // sweeps through the intervals by start point, keeping those that have not ended yet
+        PriorityQueue<Interval<K, V>> ongoing = new PriorityQueue<>(Comparator.comparing(interval -> interval.end));
+        for (Interval<K, V> interval : intervals) {
+            while (!ongoing.isEmpty() && ongoing.peek().end.compareTo(interval.start) <= 0) {
+                ongoing.poll();
+            }
+            if (interval.isEmpty()) {
+                continue;
+            }
+            for (Interval<K, V> other : ongoing) {
+                action.accept(other.value, interval.value);
+            }
+            ongoing.add(interval);
+        }
+    }
+
+    private void collectOverlapping(Node node, K start, K end, List<V> overlapping) {
+        if (node == null || node.maxEnd.compareTo(start) <= 0) {
+            return;
+        }
+        collectOverlapping(node.left, start, end, overlapping);
+        if (node.start.compareTo(end) >= 0) {
+            return;
+        }
+        for (Interval<K, V> interval : node.intervals) {
+            if (!interval.isEmpty() && interval.end.compareTo(start) > 0) {
+                overlapping.add(interval.value);
+            }
+        }
+        collectOverlapping(node.right, start, end, overlapping);
+    }
+
+    private void collectInOrder(Node node, List<Interval<K, V>> intervals) {
+        if (node == null) {
+            return;
+        }
+        collectInOrder(node.left, intervals);
+        intervals.addAll(node.intervals);
+        collectInOrder(node.right, intervals);
+    }
+
+    //// tree operations
+
+    private Node insert(Node node, Interval<K, V> interval) {
+        if (node == null) {
+            return new Node(interval);
+        }
+        int comparison = interval.start.compareTo(node.start);
+        if (comparison < 0) {
+            node.left = insert(node.left, interval);
+        } else if (comparison > 0) {
+            node.right = insert(node.right, interval);
+        } else {
+            node.intervals.add(interval);
+            node.updateIntervalsMaxEnd();
+        }
+        return balance(node);
+    }
+
+    private Node delete(Node node, Interval<K, V> interval) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = interval.start.compareTo(node.start);
+        if (comparison < 0) {
+            node.left = delete(node.left, interval);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, interval);
+        } else if (node.intervals.remove(interval)) {
+            size--;
+            if (!node.intervals.isEmpty()) {
+                node.updateIntervalsMaxEnd();
+            } else if (node.left == null || node.right == null) {
+                return node.left == null ? node.right : node.left;
+            } else {
+                Node successor = node.right;
+                while (successor.left != null) {
+                    successor = successor.left;
+                }
+                node.right = deleteFirst(node.right);
+                successor.left = node.left;
+                successor.right = node.right;
+                node = successor;
+            }
+        }
+        return balance(node);
+    }
+
+    private Node deleteFirst(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteFirst(node.left);
+        return balance(node);
+    }
+
+    /**
+     * Updates {@code node} after its children have changed, rotating it if the heights of its children differ by two.
+     */
+    private Node balance(Node node) {
+        node.update();
+        int difference = heightOf(node.left) - heightOf(node.right);
+        if (difference > 1) {
+            if (heightOf(node.left.left) < heightOf(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (difference < -1) {
+            if (heightOf(node.right.right) < heightOf(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node rotateRight(Node node) {
+        Node newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private int heightOf(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private K maxEndOf(Node node, K otherEnd) {
+        return node == null || node.maxEnd.compareTo(otherEnd) <= 0 ? otherEnd : node.maxEnd;
+    }
+
+    /**
+     * Returns true if the tree is balanced and every node knows the correct height and latest end point.
+     * Used by tests.
+     */
+    boolean isBalanced() {
+        return isBalanced(root);
+    }
+
+    private boolean isBalanced(Node node) {
+        if (node == null) {
+            return true;
+        }
+        K expectedMaxEnd = maxEndOf(node.right, maxEndOf(node.left, node.intervalsMaxEnd));
+        return Math.abs(heightOf(node.left) - heightOf(node.right)) <= 1
+                && node.height == Math.max(heightOf(node.left), heightOf(node.right)) + 1
+                && node.maxEnd.equals(expectedMaxEnd)
+                && isBalanced(node.left) && isBalanced(node.right);
+    }
+
+    /**
+     * A node of the tree, holding all intervals with the same start point.
+     */
+    private class Node {
+        private final K start;
+        private final List<Interval<K, V>> intervals = new ArrayList<>();
+        private Node left;
+        private Node right;
+        private int height;
+        private K intervalsMaxEnd;
+        private K maxEnd;
+
+        Node(Interval<K, V> interval) {
+            start = interval.start;
+            intervals.add(interval);
+            updateIntervalsMaxEnd();
+            update();
+        }
+
+        void updateIntervalsMaxEnd() {
+            intervalsMaxEnd = intervals.get(0).end;
+            for (Interval<K, V> interval : intervals) {
+                if (interval.end.compareTo(intervalsMaxEnd) > 0) {
+                    intervalsMaxEnd = interval.end;
+                }
+            }
+        }
+
+        void update() {
+            height = Math.max(heightOf(left), heightOf(right)) + 1;
+            maxEnd = maxEndOf(right, maxEndOf(left, intervalsMaxEnd));
+        }
+    }
+
+    /**
+     * A value with its interval.
+     */
+    private static class Interval<K extends Comparable<? super K>, V> {
+        private final K start;
+        private final K end;
+        private final V value;
+
+        Interval(K start, K end, V value) {
+            this.start = start;
+            this.end = end;
+            this.value = value;
+        }
+
+        boolean isEmpty() {
+            return start.compareTo(end) >= 0;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Interval)) {
+                return false;
+            }
+            Interval<?, ?> otherInterval = (Interval<?, ?>) other;
+            return start.equals(otherInterval.start)
+                    && end.equals(otherInterval.end)
+                    && value.equals(otherInterval.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list backed by a {@code PersistentList}, so that the elements it holds at any time can be taken with
+ * {@link #snapshot()} in constant time, without a copy of them being kept alongside.
+ *
+ * Each change replaces the backing {@code PersistentList} with a new version, which takes O(log n) time, and is
+ * reported to listeners as a change to the positions it affected. Changes can be grouped with {@link #batch(Runnable)}
+ * so that listeners are notified of all of them in one {@code Change}.
+ */
+public class PersistentObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private PersistentList<E> elements = PersistentList.empty();
+
+    /**
+     * Makes the changes in {@code changes} to this list, notifying listeners of all of them once they have been made.
+     */
+    public void batch(Runnable changes) {
+        requireNonNull(changes);
+        beginChange();
+        try {
+            changes.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Returns the elements currently in the list. Takes constant time, and the returned list is not affected by later
+     * changes to this list.
+     */
+    public PersistentList<E> snapshot() {
+        return elements;
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        // goes through the tree in order, instead of looking up each position from the root
+        int index = 0;
+        for (E element : elements) {
+            if (element.equals(o)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements = elements.plus(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        E old = elements.get(index);
+        elements = elements.with(index, element);
+        return old;
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        E old = elements.get(index);
+        elements = elements.minus(index);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        // the base class removes the elements one at a time from the front
+        if (elements.isEmpty()) {
+            return;
+        }
+        beginChange();
+        nextRemove(0, elements);
+        elements = PersistentList.empty();
+        modCount++;
+        endChange();
+    }
+
+    /**
+     * Replaces the elements of this list with {@code replacement}. Takes constant time if {@code replacement} is a
+     * {@code PersistentList}, as it is then used as it is.
+     */
+    @Override
+    public boolean setAll(Collection<? extends E> replacement) {
+        requireNonNull(replacement);
+        beginChange();
+        try {
+            clear();
+            if (!replacement.isEmpty()) {
+                elements = PersistentList.of(replacement);
+                nextAdd(0, elements.size());
+                modCount++;
+            }
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+}
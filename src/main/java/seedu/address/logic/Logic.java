@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -54,4 +55,10 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler to be given the error message when data fails to be saved in the background.
+     * The handler is not called on the JavaFX application thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
 }
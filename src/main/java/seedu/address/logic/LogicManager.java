@@ -2,6 +2,7 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -9,6 +10,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.ProductiveNusParser;
@@ -29,6 +31,7 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final ProductiveNusParser productiveNusParser;
+    private long savedVersion;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -37,6 +40,8 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         productiveNusParser = new ProductiveNusParser();
+        // the data the model starts with has either just been read from storage or can be created again
+        savedVersion = model.getProductiveNusVersion();
     }
 
     @Override
@@ -46,24 +51,31 @@ public class LogicManager implements Logic {
         CommandResult commandResult;
         Command command = productiveNusParser.parseCommand(commandText);
 
-        if (!(command instanceof UndoCommand)) {
+        boolean isHistoryCommand = command instanceof UndoCommand || command instanceof RedoCommand;
+        if (!isHistoryCommand) {
             model.preUpdateModel();
         }
 
         try {
             commandResult = command.execute(model);
         } catch (CommandException commandException) {
-            if (!(command instanceof UndoCommand)) {
+            if (!isHistoryCommand) {
                 model.goToPreviousModel();
             }
             throw commandException;
         }
 
+        long version = model.getProductiveNusVersion();
+        if (version == savedVersion) {
+            return commandResult;
+        }
+
         try {
             storage.saveProductiveNus(model.getProductiveNus());
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
+        savedVersion = version;
 
         return commandResult;
     }
@@ -102,4 +114,9 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        storage.setSaveFailureHandler(exception -> saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + exception));
+    }
 }
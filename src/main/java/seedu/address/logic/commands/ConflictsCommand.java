@@ -0,0 +1,47 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.task.Conflict;
+
+/**
+ * Lists every clash between lessons and scheduled assignments in ProductiveNus.
+ */
+public class ConflictsCommand extends Command {
+
+    public static final String COMMAND_WORD = "conflicts";
+    public static final String MESSAGE_USAGE = "Format: " + COMMAND_WORD;
+    public static final String MESSAGE_NO_CONFLICTS = "No clashes found.";
+    public static final String MESSAGE_CONFLICTS = "%1$d clash(es) found:%2$s";
+
+    private final String userInput;
+
+    public ConflictsCommand(String userInput) {
+        this.userInput = userInput;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        boolean hasNoArgument = userInput.trim().contentEquals(COMMAND_WORD);
+        if (!hasNoArgument) {
+            throw new CommandException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+        }
+
+        List<Conflict> conflicts = model.getConflicts();
+        if (conflicts.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_CONFLICTS);
+        }
+
+        StringBuilder conflictList = new StringBuilder();
+        for (int i = 0; i < conflicts.size(); i++) {
+            conflictList.append("\n").append(i + 1).append(". ").append(conflicts.get(i));
+        }
+        return new CommandResult(String.format(MESSAGE_CONFLICTS, conflicts.size(), conflictList));
+    }
+}
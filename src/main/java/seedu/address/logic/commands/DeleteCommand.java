@@ -49,8 +49,8 @@ public class DeleteCommand extends Command {
         for (Index targetIndex : targetIndexes) {
             Assignment assignmentToDelete = lastShownList.get(targetIndex.getZeroBased());
             deletedAssignments.add(assignmentToDelete);
-            model.deleteAssignment(assignmentToDelete);
         }
+        model.deleteAssignments(deletedAssignments);
 
         return new CommandResult(String.format(MESSAGE_DELETE_TASK_SUCCESS, deletedAssignments));
     }
@@ -55,6 +55,7 @@ public class DoneCommand extends Command {
         requireNonNull(model);
         List<Assignment> lastShownList = model.getFilteredAssignmentList();
         List<Assignment> assignmentsToMarkDone = new ArrayList<>();
+        List<Assignment> assignmentsMarkedDone = new ArrayList<>();
         List<Integer> assignmentsAlreadyMarkedDone = new ArrayList<>();
 
         CommandLogic.checkForDuplicatedIndexes(targetIndexes);
@@ -75,8 +76,8 @@ public class DoneCommand extends Command {
             assert(!assignmentToMarkDone.isMarkedDone());
             Assignment assignmentMarkedDone = createAssignmentMarkedDone(assignmentToMarkDone);
 
-            model.setAssignment(assignmentToMarkDone, assignmentMarkedDone);
             assignmentsToMarkDone.add(assignmentToMarkDone);
+            assignmentsMarkedDone.add(assignmentMarkedDone);
         }
 
         if (hasException) {
@@ -91,6 +92,9 @@ public class DoneCommand extends Command {
             }
         }
 
+        // all assignments are updated at once, and only if none of them fails
+        model.setAssignments(assignmentsToMarkDone, assignmentsMarkedDone);
+
         return isMultipleIndexes
                 ? new CommandResult(String.format(MESSAGE_MARK_ASSIGNMENTS_AS_DONE_SUCCESS, assignmentsToMarkDone))
                 : new CommandResult(String.format(MESSAGE_MARK_ASSIGNMENT_AS_DONE_SUCCESS, assignmentsToMarkDone));
@@ -3,6 +3,9 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIMETABLE_URL;
 
+import java.io.IOException;
+import java.util.List;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.timetable.TimetableData;
@@ -14,6 +17,12 @@ public class ImportCommand extends Command {
     public static final String MESSAGE_USAGE = "Format: " + COMMAND_WORD + " "
             + PREFIX_TIMETABLE_URL + "TIMETABLE URL ";
     public static final String MESSAGE_SUCCESS = "Timetable imported.";
+    public static final String MESSAGE_IMPORT_FAILED = "Timetable could not be imported, your lessons are unchanged:\n"
+            + "%1$s";
+    public static final String MESSAGE_CONFLICTS_FOUND = " %1$d clash(es) found, enter `"
+            + ConflictsCommand.COMMAND_WORD + "` to view them.";
+    public static final String MESSAGE_STALE_MODULES = " NUSMods could not be reached, so the lessons of %1$s were"
+            + " imported from data downloaded earlier and may be out of date.";
 
     private final TimetableData data;
 
@@ -28,7 +37,21 @@ public class ImportCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.importTimetable(data);
-        return new CommandResult(MESSAGE_SUCCESS);
+        List<String> staleModuleCodes;
+        try {
+            staleModuleCodes = model.importTimetable(data);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_IMPORT_FAILED, e.getMessage()), e);
+        }
+
+        StringBuilder message = new StringBuilder(MESSAGE_SUCCESS);
+        if (!staleModuleCodes.isEmpty()) {
+            message.append(String.format(MESSAGE_STALE_MODULES, String.join(", ", staleModuleCodes)));
+        }
+        int conflictCount = model.getConflicts().size();
+        if (conflictCount != 0) {
+            message.append(String.format(MESSAGE_CONFLICTS_FOUND, conflictCount));
+        }
+        return new CommandResult(message.toString());
     }
 }
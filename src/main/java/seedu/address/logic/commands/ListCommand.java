@@ -4,8 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ASSIGNMENT;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.ResolverStyle;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -43,21 +41,15 @@ public class ListCommand extends Command {
     }
 
     private Predicate<Assignment> showLimitedAssignments() {
-        return assignment -> {
-            DateTimeFormatter inputFormat = DateTimeFormatter.ofPattern(Time.TIME_DATE_TIME_FORMAT)
-                    .withResolverStyle(ResolverStyle.STRICT);
-            String dateAndTimeToParse = assignment.getDeadline().value;
-            LocalDateTime currentDateAndTime = LocalDateTime.now();
-            assert numberOfDays.isPresent();
-            int zeroBaseValue = numberOfDays.get().getZeroBased();
-            long inputNumberOfDays = Optional.of(zeroBaseValue).get();
-            LocalDateTime lastDateAndTime = currentDateAndTime.plusDays(inputNumberOfDays);
-            LocalDateTime parsedDateAndTime = LocalDateTime.parse(dateAndTimeToParse, inputFormat);
-
-            boolean isAfterCurrentDateAndTime = parsedDateAndTime.isAfter(currentDateAndTime);
-            boolean isBeforeLastDateAndTime = parsedDateAndTime.isBefore(lastDateAndTime);
+        assert numberOfDays.isPresent();
+        LocalDateTime currentDateAndTime = LocalDateTime.now();
+        long inputNumberOfDays = numberOfDays.get().getZeroBased();
+        Time currentTime = new Time(currentDateAndTime);
+        Time lastTime = new Time(currentDateAndTime.plusDays(inputNumberOfDays));
 
-            return isAfterCurrentDateAndTime && isBeforeLastDateAndTime;
+        return assignment -> {
+            Time deadline = assignment.getDeadline();
+            return deadline.isAfter(currentTime) && deadline.isBefore(lastTime);
         };
     }
 
@@ -0,0 +1,56 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Redoes the most recently undone commands.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_USAGE = "Format: " + COMMAND_WORD + " [NUMBER_OF_COMMANDS]";
+    public static final String MESSAGE_REDO_SUCCESS = "Successfully redo the most recently undone command.";
+    public static final String MESSAGE_REDO_MULTIPLE_SUCCESS = "Successfully redo the %1$d most recently undone "
+            + "commands.";
+    public static final String MESSAGE_REDO_FAIL = "No undone command.";
+    public static final String MESSAGE_NOT_ENOUGH_COMMANDS = "Only %1$d undone command(s) can be redone.";
+
+    private final int steps;
+
+    /**
+     * Constructs a RedoCommand to redo the {@code steps} most recently undone commands.
+     */
+    public RedoCommand(int steps) {
+        assert steps > 0;
+        this.steps = steps;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        int redoableCount = model.getRedoableCommandCount();
+
+        if (redoableCount == 0) {
+            throw new CommandException(MESSAGE_REDO_FAIL);
+        }
+
+        if (steps > redoableCount) {
+            throw new CommandException(String.format(MESSAGE_NOT_ENOUGH_COMMANDS, redoableCount));
+        }
+
+        model.redo(steps);
+        return new CommandResult(steps == 1
+                ? MESSAGE_REDO_SUCCESS
+                : String.format(MESSAGE_REDO_MULTIPLE_SUCCESS, steps));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RedoCommand // instanceof handles nulls
+                && steps == ((RedoCommand) other).steps);
+    }
+}
@@ -56,6 +56,7 @@ public class RemindCommand extends Command {
         requireNonNull(model);
         List<Assignment> lastShownList = model.getFilteredAssignmentList();
         List<Assignment> assignmentsToRemind = new ArrayList<>();
+        List<Assignment> remindedAssignments = new ArrayList<>();
         List<Integer> assignmentsAlreadyReminded = new ArrayList<>();
 
         CommandLogic.checkForDuplicatedIndexes(targetIndexes);
@@ -76,8 +77,8 @@ public class RemindCommand extends Command {
             assert(!assignmentToRemind.isReminded());
             Assignment remindedAssignment = createRemindedAssignment(assignmentToRemind);
 
-            model.setAssignment(assignmentToRemind, remindedAssignment);
             assignmentsToRemind.add(assignmentToRemind);
+            remindedAssignments.add(remindedAssignment);
         }
 
         if (hasException) {
@@ -92,6 +93,9 @@ public class RemindCommand extends Command {
             }
         }
 
+        // all assignments are updated at once, and only if none of them fails
+        model.setAssignments(assignmentsToRemind, remindedAssignments);
+
         return isMultipleIndexes
                 ? new CommandResult(String.format(MESSAGE_REMIND_ASSIGNMENTS_SUCCESS, assignmentsToRemind))
                 : new CommandResult(String.format(MESSAGE_REMIND_ASSIGNMENT_SUCCESS, assignmentsToRemind));
@@ -22,7 +22,7 @@ import seedu.address.model.assignment.Done;
 import seedu.address.model.assignment.Priority;
 import seedu.address.model.assignment.Remind;
 import seedu.address.model.assignment.Schedule;
-import seedu.address.model.lesson.Lesson;
+import seedu.address.model.task.Availability;
 import seedu.address.model.task.ModuleCode;
 import seedu.address.model.task.Name;
 import seedu.address.model.task.Task;
@@ -123,46 +123,21 @@ public class ScheduleCommand extends Command {
     }
 
     private List<LocalDateTime> generateAllPossibleTime(LocalDateTime start, LocalDateTime end, List<Task> taskList) {
+        Availability availability = new Availability(new Time(start), new Time(end));
+        availability.markBusyOutside(WORKING_START_TIME, WORKING_END_TIME);
+        for (Task task : taskList) {
+            task.getTimeBlock().ifPresent(block -> availability.markBusy(block.getStartTime(), block.getEndTime()));
+        }
+
         List<LocalDateTime> possibleTime = new ArrayList<>();
         for (LocalDateTime i = start; !i.plusHours(expectedHours).isAfter(end); i = i.plusHours(1)) {
-            boolean canSchedule = true;
-            // working hours
-            if (!isWorkingHour(i, i.plusHours(expectedHours))) {
-                canSchedule = false;
-            }
-            // no overlap
-            for (Task j: taskList) {
-                if (!haveNoOverlap(i, i.plusHours(expectedHours), j)) {
-                    if (canSchedule) {
-                        System.out.println(i + " " + j.getTime());
-                    }
-                    canSchedule = false;
-                }
-            }
-            if (canSchedule) {
+            if (availability.isFree(new Time(i), new Time(i.plusHours(expectedHours)))) {
                 possibleTime.add(i);
             }
         }
         return possibleTime;
     }
 
-    private boolean isWorkingHour(LocalDateTime start, LocalDateTime end) {
-        return !start.toLocalTime().isBefore(WORKING_START_TIME) && !end.toLocalTime().isAfter(WORKING_END_TIME)
-                && !end.toLocalTime().isBefore(WORKING_START_TIME);
-    }
-
-    private boolean haveNoOverlap(LocalDateTime start, LocalDateTime end, Task task) {
-        if (task instanceof Assignment) {
-            if (!((Assignment) task).getSchedule().isScheduled()) {
-                return true;
-            }
-            return (!end.isAfter(((Assignment) task).getSchedule().getSuggestedStartTime().toLocalDateTime())
-                    || (!start.isBefore(((Assignment) task).getSchedule().getSuggestedEndTime().toLocalDateTime())));
-        }
-        return (!end.isAfter(task.getTime().toLocalDateTime())
-                || (!start.isBefore(((Lesson) task).getEndTime().toLocalDateTime())));
-    }
-
     /**
      * Creates and returns a {@code Assignment} with the details of {@code assignmentToSchedule}.
      */
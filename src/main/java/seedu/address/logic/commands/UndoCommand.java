@@ -2,49 +2,54 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 
 /**
- * Undoes the most recent command.
+ * Undoes the most recent commands.
  */
 public class UndoCommand extends Command {
 
     public static final String COMMAND_WORD = "undo";
-    public static final String MESSAGE_USAGE = "Format: " + COMMAND_WORD;
+    public static final String MESSAGE_USAGE = "Format: " + COMMAND_WORD + " [NUMBER_OF_COMMANDS]";
     public static final String MESSAGE_UNDO_SUCCESS = "Successfully undo the most recent command.";
+    public static final String MESSAGE_UNDO_MULTIPLE_SUCCESS = "Successfully undo the %1$d most recent commands.";
     public static final String MESSAGE_UNDO_FAIL = "No recent command.";
+    public static final String MESSAGE_NOT_ENOUGH_COMMANDS = "Only %1$d recent command(s) can be undone.";
 
-    private final String userInput;
+    private final int steps;
 
     /**
-     * Constructs a UndoCommand to undo the most recent command.
+     * Constructs an UndoCommand to undo the {@code steps} most recent commands.
      */
-    public UndoCommand(String userInput) {
-        this.userInput = userInput;
+    public UndoCommand(int steps) {
+        assert steps > 0;
+        this.steps = steps;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        boolean hasNoArgument = userInput.trim().contentEquals("undo");
-        Model previousModel = model.getPreviousModel();
+        int undoableCount = model.getUndoableCommandCount();
 
-        if (!hasNoArgument) {
-            throw new CommandException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+        if (undoableCount == 0) {
+            throw new CommandException(MESSAGE_UNDO_FAIL);
         }
 
-        if (previousModel == null) {
-            throw new CommandException(MESSAGE_UNDO_FAIL);
+        if (steps > undoableCount) {
+            throw new CommandException(String.format(MESSAGE_NOT_ENOUGH_COMMANDS, undoableCount));
         }
 
-        model.goToPreviousModel();
-        return new CommandResult(MESSAGE_UNDO_SUCCESS);
+        model.undo(steps);
+        return new CommandResult(steps == 1
+                ? MESSAGE_UNDO_SUCCESS
+                : String.format(MESSAGE_UNDO_MULTIPLE_SUCCESS, steps));
     }
 
     @Override
     public boolean equals(Object other) {
-        return other == this; // short circuit if same object
+        return other == this // short circuit if same object
+                || (other instanceof UndoCommand // instanceof handles nulls
+                && steps == ((UndoCommand) other).steps);
     }
 }
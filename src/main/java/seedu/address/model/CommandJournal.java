@@ -0,0 +1,145 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Records the changes made to a model by each command, so that commands can be undone and redone.
+ *
+ * Instead of copying the model, each change is recorded together with the operation that reverts it, such as adding
+ * back a deleted assignment at its old position. Undoing a command only reverts the changes it made, and each
+ * command only keeps the assignments it changed. Only the {@code limit} most recent commands are kept.
+ */
+class CommandJournal {
+
+    private final Deque<List<Change>> undoableCommands = new ArrayDeque<>();
+    private final Deque<List<Change>> redoableCommands = new ArrayDeque<>();
+    private List<Change> currentChanges = new ArrayList<>();
+    private int limit;
+
+    /**
+     * Creates a journal that keeps the changes of the {@code limit} most recent commands.
+     */
+    CommandJournal(int limit) {
+        setLimit(limit);
+    }
+
+    /**
+     * Sets the number of most recent commands to keep, discarding the oldest commands if there are more.
+     * A negative {@code limit} is treated as zero.
+     */
+    void setLimit(int limit) {
+        this.limit = Math.max(limit, 0);
+        trim();
+    }
+
+    /**
+     * Marks the start of a new command. Changes recorded from now on are undone together.
+     */
+    void startCommand() {
+        endCommand();
+    }
+
+    /**
+     * Records a change made to the model, along with the operations that undo and redo it.
+     * The change must already have been made.
+     */
+    void record(Runnable undo, Runnable redo) {
+        requireNonNull(undo);
+        requireNonNull(redo);
+        currentChanges.add(new Change(undo, redo));
+    }
+
+    /**
+     * Undoes the changes made since the start of the current command. The changes cannot be redone.
+     */
+    void discardCommand() {
+        undoChanges(currentChanges);
+        currentChanges = new ArrayList<>();
+    }
+
+    /**
+     * Returns the number of commands that can be undone.
+     */
+    int getUndoableCount() {
+        return Math.min(undoableCommands.size() + (currentChanges.isEmpty() ? 0 : 1), limit);
+    }
+
+    /**
+     * Returns the number of commands that can be redone.
+     */
+    int getRedoableCount() {
+        return currentChanges.isEmpty() ? redoableCommands.size() : 0;
+    }
+
+    /**
+     * Undoes the {@code steps} most recent commands.
+     * There must be at least {@code steps} commands that can be undone.
+     */
+    void undo(int steps) {
+        checkArgument(steps >= 0 && steps <= getUndoableCount());
+        endCommand();
+        for (int i = 0; i < steps; i++) {
+            List<Change> changes = undoableCommands.pop();
+            undoChanges(changes);
+            redoableCommands.push(changes);
+        }
+    }
+
+    /**
+     * Redoes the {@code steps} most recently undone commands.
+     * There must be at least {@code steps} commands that can be redone.
+     */
+    void redo(int steps) {
+        checkArgument(steps >= 0 && steps <= getRedoableCount());
+        for (int i = 0; i < steps; i++) {
+            List<Change> changes = redoableCommands.pop();
+            changes.forEach(change -> change.redo.run());
+            undoableCommands.push(changes);
+        }
+    }
+
+    /**
+     * Keeps the changes of the current command if it changed anything. As the model has moved on from the commands
+     * that were undone, they can no longer be redone.
+     */
+    private void endCommand() {
+        if (currentChanges.isEmpty()) {
+            return;
+        }
+        undoableCommands.push(currentChanges);
+        redoableCommands.clear();
+        currentChanges = new ArrayList<>();
+        trim();
+    }
+
+    private void trim() {
+        while (undoableCommands.size() > limit) {
+            undoableCommands.removeLast();
+        }
+    }
+
+    private static void undoChanges(List<Change> changes) {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).undo.run();
+        }
+    }
+
+    /**
+     * A change made to the model, which knows how to undo and redo itself.
+     */
+    private static class Change {
+        private final Runnable undo;
+        private final Runnable redo;
+
+        Change(Runnable undo, Runnable redo) {
+            this.undo = undo;
+            this.redo = redo;
+        }
+    }
+}
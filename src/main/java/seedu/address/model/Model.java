@@ -1,12 +1,15 @@
 package seedu.address.model;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.assignment.Assignment;
+import seedu.address.model.task.Conflict;
 import seedu.address.model.task.Task;
 import seedu.address.timetable.TimetableData;
 
@@ -24,22 +27,38 @@ public interface Model {
      */
     void setUserPrefs(ReadOnlyUserPrefs userPrefs);
 
-    void setPreviousModel(Model previousModel);
+    /**
+     * Marks the start of a new command. Changes made to the model from now on are undone together.
+     */
+    void preUpdateModel();
 
     /**
-     * return previous model
+     * Reverts the changes made since the last call to {@link #preUpdateModel()}, which cannot be redone.
+     * Used when a command fails part way.
      */
-    Model getPreviousModel();
+    void goToPreviousModel();
 
     /**
-     * before update model
+     * Returns the number of commands that can be undone.
      */
-    void preUpdateModel();
+    int getUndoableCommandCount();
 
     /**
-     * Goes to previous model
+     * Returns the number of undone commands that can be redone.
      */
-    void goToPreviousModel();
+    int getRedoableCommandCount();
+
+    /**
+     * Undoes the {@code steps} most recent commands.
+     * There must be at least {@code steps} commands that can be undone.
+     */
+    void undo(int steps);
+
+    /**
+     * Redoes the {@code steps} most recently undone commands.
+     * There must be at least {@code steps} commands that can be redone.
+     */
+    void redo(int steps);
 
     /**
      * Returns the user prefs.
@@ -80,9 +99,18 @@ public interface Model {
     ReadOnlyProductiveNus getProductiveNus();
 
     /**
-     * Adds lessons based on NUSMods Timetable data.
+     * Returns a number that changes whenever the assignments or lessons in ProductiveNus change, so that unchanged
+     * data does not have to be saved again.
      */
-    void importTimetable(TimetableData data);
+    long getProductiveNusVersion();
+
+    /**
+     * Replaces all lessons with the lessons in NUSMods Timetable data.
+     * Returns the codes of the modules whose lessons were imported from cached data, as they may be out of date.
+     *
+     * @throws IOException if the lessons of any module cannot be retrieved. The lessons are left unchanged.
+     */
+    List<String> importTimetable(TimetableData data) throws IOException;
 
     /**
      * Returns true if an assignment with the same identity as {@code assignment} exists in ProductiveNus.
@@ -95,6 +123,12 @@ public interface Model {
      */
     void deleteAssignment(Assignment target);
 
+    /**
+     * Deletes all of the given assignments at once.
+     * The assignments must exist in ProductiveNus. If any of them does not, no assignment is deleted.
+     */
+    void deleteAssignments(List<Assignment> targets);
+
     /**
      * Adds the given assignment.
      * {@code assignment} must not already exist in ProductiveNus.
@@ -109,6 +143,19 @@ public interface Model {
      */
     void setAssignment(Assignment target, Assignment editedAssignment);
 
+    /**
+     * Replaces each assignment in {@code targets} with the assignment at the same position in
+     * {@code editedAssignments}, all at once.
+     * {@code targets} must be distinct and exist in ProductiveNus. No two assignments in ProductiveNus may have the
+     * same identity afterwards. If any of these do not hold, no assignment is replaced.
+     */
+    void setAssignments(List<Assignment> targets, List<Assignment> editedAssignments);
+
+    /**
+     * Returns every clash between the lessons and scheduled assignments in ProductiveNus.
+     */
+    List<Conflict> getConflicts();
+
     /** Returns an unmodifiable view of the filtered assignment list */
     ObservableList<Assignment> getFilteredAssignmentList();
 
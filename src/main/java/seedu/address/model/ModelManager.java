@@ -3,7 +3,11 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -12,6 +16,7 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.assignment.Assignment;
+import seedu.address.model.task.Conflict;
 import seedu.address.model.task.Task;
 import seedu.address.timetable.TimetableData;
 
@@ -27,12 +32,12 @@ public class ModelManager implements Model {
     private final FilteredList<Assignment> remindedAssignments;
     //private final FilteredList<Lesson> lessons;
     private final FilteredList<Task> filteredTasks;
-    private Model previousModel;
+    private final CommandJournal journal;
 
     /**
-     * Initializes a ModelManager with the given productiveNus, userPrefs and previousModel.
+     * Initializes a ModelManager with the given productiveNus and userPrefs.
      */
-    public ModelManager(ReadOnlyProductiveNus productiveNus, ReadOnlyUserPrefs userPrefs, Model previousModel) {
+    public ModelManager(ReadOnlyProductiveNus productiveNus, ReadOnlyUserPrefs userPrefs) {
         super();
         requireAllNonNull(productiveNus, userPrefs);
 
@@ -45,14 +50,15 @@ public class ModelManager implements Model {
                 this.productiveNus.getAssignmentList(), PREDICATE_SHOW_ALL_REMINDED_ASSIGNMENTS);
         //lessons = new FilteredList<>(this.productiveNus.getLessonList());
         filteredTasks = new FilteredList<>(this.productiveNus.getTaskList());
-        this.previousModel = previousModel;
+        journal = new CommandJournal(userPrefs.getUndoLimit());
+
+        this.productiveNus.autoUpdateTaskList();
     }
 
     /**
-     * Initializes a ModelManager with the given productiveNus, userPrefs, previousModel
-     * and filterAssignments.
+     * Initializes a ModelManager with the given productiveNus, userPrefs and filterAssignments.
      */
-    public ModelManager(ReadOnlyProductiveNus productiveNus, ReadOnlyUserPrefs userPrefs, Model previousModel,
+    public ModelManager(ReadOnlyProductiveNus productiveNus, ReadOnlyUserPrefs userPrefs,
                         FilteredList<Assignment> filteredAssignments) {
         super();
         requireAllNonNull(productiveNus, userPrefs);
@@ -68,34 +74,20 @@ public class ModelManager implements Model {
                 this.productiveNus.getAssignmentList(), PREDICATE_SHOW_ALL_REMINDED_ASSIGNMENTS);
         //lessons = new FilteredList<>(this.productiveNus.getLessonList());
         filteredTasks = new FilteredList<>(this.productiveNus.getTaskList());
-
-        this.previousModel = previousModel;
+        journal = new CommandJournal(userPrefs.getUndoLimit());
     }
 
     public ModelManager() {
-        this(new ProductiveNus(), new UserPrefs(), null);
+        this(new ProductiveNus(), new UserPrefs());
     }
 
     //=========== UserPrefs ==================================================================================
 
-    @Override
-    public void preUpdateModel() {
-        this.previousModel = new ModelManager(this.productiveNus, this.userPrefs, this.previousModel,
-                this.filteredAssignments);
-    }
-
     @Override
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
-    }
-
-    @Override
-    public void goToPreviousModel() {
-        setProductiveNus(previousModel.getProductiveNus());
-        setUserPrefs(previousModel.getUserPrefs());
-        filteredAssignments.setPredicate(previousModel.getFilteredAssignments().getPredicate());
-        setPreviousModel(previousModel.getPreviousModel());
+        journal.setLimit(userPrefs.getUndoLimit());
     }
 
     @Override
@@ -103,11 +95,6 @@ public class ModelManager implements Model {
         return filteredAssignments;
     }
 
-    @Override
-    public void setPreviousModel(Model previousModel) {
-        this.previousModel = previousModel;
-    }
-
     @Override
     public ReadOnlyUserPrefs getUserPrefs() {
         return userPrefs;
@@ -135,11 +122,53 @@ public class ModelManager implements Model {
         userPrefs.setProductiveNusFilePath(productiveNusFilePath);
     }
 
+    //=========== Undo and Redo ================================================================================
+
+    @Override
+    public void preUpdateModel() {
+        journal.startCommand();
+    }
+
+    @Override
+    public void goToPreviousModel() {
+        journal.discardCommand();
+    }
+
+    @Override
+    public int getUndoableCommandCount() {
+        return journal.getUndoableCount();
+    }
+
+    @Override
+    public int getRedoableCommandCount() {
+        return journal.getRedoableCount();
+    }
+
+    @Override
+    public void undo(int steps) {
+        journal.undo(steps);
+    }
+
+    @Override
+    public void redo(int steps) {
+        journal.redo(steps);
+    }
+
+    /**
+     * Records a change to the whole of ProductiveNus, from {@code before} to the current data.
+     */
+    private void recordReset(ProductiveNusSnapshot before) {
+        ProductiveNusSnapshot after = productiveNus.snapshot();
+        journal.record(() -> productiveNus.resetData(before), () -> productiveNus.resetData(after));
+    }
+
     //=========== ProductiveNus ================================================================================
 
     @Override
     public void setProductiveNus(ReadOnlyProductiveNus productiveNus) {
+        ProductiveNusSnapshot before = this.productiveNus.snapshot();
         this.productiveNus.resetData(productiveNus);
+        recordReset(before);
     }
 
     @Override
@@ -148,8 +177,16 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void importTimetable(TimetableData data) {
-        productiveNus.importTimetable(data);
+    public long getProductiveNusVersion() {
+        return productiveNus.getVersion();
+    }
+
+    @Override
+    public List<String> importTimetable(TimetableData data) throws IOException {
+        ProductiveNusSnapshot before = productiveNus.snapshot();
+        List<String> staleModuleCodes = productiveNus.importTimetable(data);
+        recordReset(before);
+        return staleModuleCodes;
     }
 
     @Override
@@ -160,12 +197,36 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteAssignment(Assignment target) {
+        int index = productiveNus.indexOfAssignment(target);
         productiveNus.removeAssignment(target);
+        Runnable undo = () -> productiveNus.addAssignment(index, target);
+        Runnable redo = () -> productiveNus.removeAssignment(target);
+        journal.record(undo, redo);
+    }
+
+    @Override
+    public void deleteAssignments(List<Assignment> targets) {
+        requireNonNull(targets);
+        if (targets.size() == 1) {
+            deleteAssignment(targets.get(0));
+            return;
+        }
+        SortedMap<Integer, Assignment> targetsByIndex = new TreeMap<>();
+        targets.forEach(target -> targetsByIndex.put(productiveNus.indexOfAssignment(target), target));
+        productiveNus.removeAssignments(targets);
+
+        // added back from the front so that each assignment returns to its old position
+        Runnable undo = () -> targetsByIndex.forEach(productiveNus::addAssignment);
+        Runnable redo = () -> productiveNus.removeAssignments(targets);
+        journal.record(undo, redo);
     }
 
     @Override
     public void addAssignment(Assignment assignment) {
         productiveNus.addAssignment(assignment);
+        Runnable undo = () -> productiveNus.removeAssignment(assignment);
+        Runnable redo = () -> productiveNus.addAssignment(assignment);
+        journal.record(undo, redo);
         updateFilteredAssignmentList(PREDICATE_SHOW_ALL_ASSIGNMENT);
     }
 
@@ -173,11 +234,27 @@ public class ModelManager implements Model {
     public void setAssignment(Assignment target, Assignment editedAssignment) {
         requireAllNonNull(target, editedAssignment);
         productiveNus.setAssignment(target, editedAssignment);
+        Runnable undo = () -> productiveNus.setAssignment(editedAssignment, target);
+        Runnable redo = () -> productiveNus.setAssignment(target, editedAssignment);
+        journal.record(undo, redo);
+    }
+
+    @Override
+    public void setAssignments(List<Assignment> targets, List<Assignment> editedAssignments) {
+        requireAllNonNull(targets, editedAssignments);
+        if (targets.size() == 1 && editedAssignments.size() == 1) {
+            setAssignment(targets.get(0), editedAssignments.get(0));
+            return;
+        }
+        productiveNus.setAssignments(targets, editedAssignments);
+        Runnable undo = () -> productiveNus.setAssignments(editedAssignments, targets);
+        Runnable redo = () -> productiveNus.setAssignments(targets, editedAssignments);
+        journal.record(undo, redo);
     }
 
     @Override
-    public Model getPreviousModel() {
-        return this.previousModel;
+    public List<Conflict> getConflicts() {
+        return productiveNus.getConflicts();
     }
 
     //=========== Filtered Assignment List Accessors =============================================================
@@ -194,7 +271,11 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredAssignmentList(Predicate<Assignment> predicate) {
         requireNonNull(predicate);
+        Predicate<? super Assignment> previousPredicate = filteredAssignments.getPredicate();
         filteredAssignments.setPredicate(predicate);
+        Runnable undo = () -> filteredAssignments.setPredicate(previousPredicate);
+        Runnable redo = () -> filteredAssignments.setPredicate(predicate);
+        journal.record(undo, redo);
     }
 
     //=========== Task List Accessors =============================================================
@@ -231,9 +312,6 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return productiveNus.equals(other.productiveNus)
                 && userPrefs.equals(other.userPrefs)
-                && filteredAssignments.equals(other.filteredAssignments)
-                && (previousModel == null || previousModel.equals(other.previousModel))
-                && (other.previousModel == null || other.previousModel.equals(previousModel));
+                && filteredAssignments.equals(other.filteredAssignments);
     }
-
 }
@@ -1,26 +1,28 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.model.task.Time.TIME_DATE_TIME_FORMAT;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.ResolverStyle;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
-
-import org.json.simple.parser.ParseException;
+import java.util.Optional;
 
 import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.IntervalTree;
 import seedu.address.model.assignment.Assignment;
 import seedu.address.model.assignment.UniqueAssignmentList;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.lesson.UniqueLessonList;
+import seedu.address.model.task.Conflict;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskExpiryScheduler;
+import seedu.address.model.task.Time;
 import seedu.address.model.task.UniqueTaskList;
+import seedu.address.timetable.RetrievedLessons;
 import seedu.address.timetable.TimetableData;
 import seedu.address.timetable.TimetableRetriever;
 
@@ -34,6 +36,15 @@ public class ProductiveNus implements ReadOnlyProductiveNus {
     private final UniqueAssignmentList assignments;
     private final UniqueLessonList lessons;
     private final UniqueTaskList tasks;
+    private final IntervalTree<Time, Task> timeBlocks = new IntervalTree<>();
+
+    // Held here as the scheduler only keeps a weak reference to it
+    private final Runnable expiryListener = () -> Platform.runLater(() -> {
+        removeOverdueTasks();
+        scheduleNextExpiry();
+    });
+    private boolean isAutoUpdating = false;
+    private long version = 0;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -46,6 +57,10 @@ public class ProductiveNus implements ReadOnlyProductiveNus {
         assignments = new UniqueAssignmentList();
         lessons = new UniqueLessonList();
         tasks = new UniqueTaskList();
+
+        ListChangeListener<Object> versionUpdater = change -> version++;
+        assignments.asUnmodifiableObservableList().addListener(versionUpdater);
+        lessons.asUnmodifiableObservableList().addListener(versionUpdater);
     }
 
     public ProductiveNus() { }
@@ -56,7 +71,6 @@ public class ProductiveNus implements ReadOnlyProductiveNus {
     public ProductiveNus(ReadOnlyProductiveNus toBeCopied) {
         this();
         resetData(toBeCopied);
-        autoUpdateTaskList();
     }
 
     //// list overwrite operations
@@ -67,6 +81,21 @@ public class ProductiveNus implements ReadOnlyProductiveNus {
      */
     public void setAssignments(List<Assignment> assignments) {
         this.assignments.setAssignments(assignments);
+        updateTasks();
+        updateTimeBlocks();
+    }
+
+    /**
+     * Replaces each assignment in {@code targets} with the assignment at the same position in
+     * {@code editedAssignments}, updating the task list only once.
+     * {@code targets} must be distinct and exist in ProductiveNus, and no two assignments in ProductiveNus may have the
+     * same identity afterwards. If any of these do not hold, ProductiveNus is left unchanged.
+     */
+    public void setAssignments(List<Assignment> targets, List<Assignment> editedAssignments) {
+        assignments.setAssignments(targets, editedAssignments);
+        setTasks(targets, editedAssignments);
+        targets.forEach(this::removeTimeBlock);
+        editedAssignments.forEach(this::addTimeBlock);
     }
 
     /**
@@ -75,25 +104,36 @@ public class ProductiveNus implements ReadOnlyProductiveNus {
      */
     public void setLessons(List<Lesson> lessons) {
         this.lessons.setLessons(lessons);
+        updateTasks();
+        updateTimeBlocks();
     }
 
     /**
-     * Replaces the contents of the tasks list with {@code tasks}.
-     * {@code tasks} must not contain duplicate tasks.
+     * Resets the existing data of this {@code ProductiveNus} with {@code newData}.
      */
-    public void setTasks(List<Task> tasks) {
-        this.tasks.setTasks(tasks);
+    public void resetData(ReadOnlyProductiveNus newData) {
+        requireNonNull(newData);
+
+        // the lists of a snapshot are shared as they are, instead of being copied
+        ProductiveNusSnapshot snapshot = ProductiveNusSnapshot.of(newData);
+        assignments.setAssignments(snapshot.getAssignments());
+        lessons.setLessons(snapshot.getLessons());
+        updateTasks();
+        updateTimeBlocks();
     }
 
     /**
-     * Resets the existing data of this {@code ProductiveNus} with {@code newData}.
+     * Returns a number that changes whenever the assignments or lessons in this {@code ProductiveNus} change.
      */
-    public void resetData(ReadOnlyProductiveNus newData) {
-        requireNonNull(newData);
+    public long getVersion() {
+        return version;
+    }
 
-        setAssignments(newData.getAssignmentList());
-        setLessons(newData.getLessonList());
-        setTasks(newData.getTaskList());
+    /**
+     * Returns a snapshot of the assignments and lessons in this {@code ProductiveNus}. Takes constant time.
+     */
+    public ProductiveNusSnapshot snapshot() {
+        return new ProductiveNusSnapshot(assignments.snapshot(), lessons.snapshot());
     }
 
     //// assignment-level operations
@@ -112,7 +152,25 @@ public class ProductiveNus implements ReadOnlyProductiveNus {
      */
     public void addAssignment(Assignment a) {
         assignments.add(a);
-        updateTasks();
+        addTask(a);
+        addTimeBlock(a);
+    }
+
+    /**
+     * Inserts an assignment at {@code index} of the assignment list.
+     * The assignment must not already exist in ProductiveNus.
+     */
+    public void addAssignment(int index, Assignment a) {
+        assignments.add(index, a);
+        addTask(a);
+        addTimeBlock(a);
+    }
+
+    /**
+     * Returns the position of {@code assignment} in the assignment list, or -1 if it is not in ProductiveNus.
+     */
+    public int indexOfAssignment(Assignment assignment) {
+        return assignments.indexOf(assignment);
     }
 
     /**
@@ -125,7 +183,19 @@ public class ProductiveNus implements ReadOnlyProductiveNus {
         requireNonNull(editedAssignment);
 
         assignments.setAssignment(target, editedAssignment);
-        updateTasks();
+        setTask(target, editedAssignment);
+        removeTimeBlock(target);
+        addTimeBlock(editedAssignment);
+    }
+
+    /**
+     * Removes all of {@code keys} from this {@code ProductiveNus}, updating the task list only once.
+     * All of {@code keys} must exist in ProductiveNus, otherwise ProductiveNus is left unchanged.
+     */
+    public void removeAssignments(List<Assignment> keys) {
+        assignments.removeAll(keys);
+        setTasks(keys, List.of());
+        keys.forEach(this::removeTimeBlock);
     }
 
     /**
@@ -134,25 +204,23 @@ public class ProductiveNus implements ReadOnlyProductiveNus {
      */
     public void removeAssignment(Assignment key) {
         assignments.remove(key);
-        updateTasks();
+        removeTask(key);
+        removeTimeBlock(key);
     }
 
     //// lesson-level operations
 
     /**
-     * Imports and adds lessons based on NUSMods timetable data.
+     * Replaces all lessons with the lessons imported from NUSMods timetable data.
+     * Returns the codes of the modules whose lessons were imported from cached data, as they may be out of date.
+     *
+     * @throws IOException if the lessons of any module cannot be retrieved. The lessons are left unchanged.
      */
-    public void importTimetable(TimetableData data) {
-        try {
-            clearLessons();
-            List<Lesson> lessons = TimetableRetriever.retrieveLessons(data);
-            for (Lesson lesson : lessons) {
-                addLesson(lesson);
-            }
-            updateTasks();
-        } catch (IOException | ParseException e) {
-            // nothing happens for now.
-        }
+    public List<String> importTimetable(TimetableData data) throws IOException {
+        RetrievedLessons importedLessons = TimetableRetriever.retrieveLessons(data);
+        clearLessons();
+        addLessons(importedLessons.getLessons());
+        return importedLessons.getStaleModuleCodes();
     }
 
     /**
@@ -161,6 +229,18 @@ public class ProductiveNus implements ReadOnlyProductiveNus {
      */
     public void addLesson(Lesson lesson) {
         lessons.add(lesson);
+        addTask(lesson);
+        addTimeBlock(lesson);
+    }
+
+    /**
+     * Adds all of {@code lessons} to ProductiveNus at once.
+     * None of the lessons may already exist in ProductiveNus or be the same as another lesson in {@code lessons}.
+     */
+    public void addLessons(List<Lesson> lessons) {
+        this.lessons.addAll(lessons);
+        addTasks(lessons);
+        lessons.forEach(this::addTimeBlock);
     }
 
     /**
@@ -168,111 +248,185 @@ public class ProductiveNus implements ReadOnlyProductiveNus {
      */
     public void clearLessons() {
         lessons.removeAll();
+        updateTasks();
+        updateTimeBlocks();
     }
 
-    //// task-level operations
+    //// clash detection
 
     /**
-     * Retrieves all assignments and lessons from the respective lists and adds them into the task list.
+     * Returns the lessons and scheduled assignments that take up some of the time from {@code start} to {@code end},
+     * in the order of their start times.
      */
-    private void retrieveTasks() {
-        tasks.getInternalList().clear();
-        tasks.getInternalList().addAll(assignments.getInternalList());
-        tasks.getInternalList().addAll(lessons.getInternalList());
+    public List<Task> conflictsWith(Time start, Time end) {
+        requireAllNonNull(start, end);
+        return timeBlocks.getOverlapping(start, end);
     }
 
     /**
-     * Returns true if the upcoming task is over. A task is considered over if the deadline or end time of the lesson
-     * has passed.
+     * Returns every clash between the lessons and scheduled assignments in ProductiveNus.
+     */
+    public List<Conflict> getConflicts() {
+        List<Conflict> conflicts = new ArrayList<>();
+        timeBlocks.forEachOverlappingPair((first, second) -> conflicts.add(new Conflict(first, second)));
+        return conflicts;
+    }
+
+    private void addTimeBlock(Task task) {
+        task.getTimeBlock().ifPresent(block -> timeBlocks.add(block.getStartTime(), block.getEndTime(), task));
+    }
+
+    private void removeTimeBlock(Task task) {
+        task.getTimeBlock().ifPresent(block -> timeBlocks.remove(block.getStartTime(), block.getEndTime(), task));
+    }
+
+    /**
+     * Rebuilds the index of the time taken up by tasks from all assignments and lessons.
+     * Used when many assignments or lessons are replaced at once.
+     */
+    private void updateTimeBlocks() {
+        timeBlocks.clear();
+        assignments.forEach(this::addTimeBlock);
+        lessons.forEach(this::addTimeBlock);
+    }
+
+    //// task-level operations
+
+    /**
+     * Returns true if the upcoming task is over at {@code now}. A task is considered over if the deadline or end time
+     * of the lesson has passed.
      *
      * @param upcomingTask the user's upcoming task displayed in the task list
      * @return true if the assignment's deadline or lesson is over
      */
-    private boolean isOver(Task upcomingTask) {
-        DateTimeFormatter inputFormat = DateTimeFormatter.ofPattern(TIME_DATE_TIME_FORMAT)
-                .withResolverStyle(ResolverStyle.STRICT);
+    private boolean isOver(Task upcomingTask, LocalDateTime now) {
+        return upcomingTask.getEndTime().toLocalDateTime().isBefore(now);
+    }
 
-        // If upcoming task is a lesson, check if end time of lesson has passed
-        if (upcomingTask instanceof Lesson) {
-            LocalDateTime lessonEndTime = LocalDateTime.parse(((Lesson) upcomingTask).getEndTime().value, inputFormat);
-            return lessonEndTime.isBefore(LocalDateTime.now());
+    /**
+     * Removes any tasks that are over at {@code now} from the task list.
+     */
+    private void removeOverdueTasks(LocalDateTime now) {
+        if (tasks.removeTasksEndingBefore(now)) {
+            scheduleNextExpiry();
         }
+    }
 
-        assert(upcomingTask instanceof Assignment);
+    /**
+     * Removes any tasks that are overdue.
+     */
+    private void removeOverdueTasks() {
+        removeOverdueTasks(LocalDateTime.now());
+    }
 
-        // Check if deadline of assignment has passed
-        LocalDateTime deadline = LocalDateTime.parse(upcomingTask.getTime().value, inputFormat);
-        return deadline.isBefore(LocalDateTime.now());
+    /**
+     * Adds {@code task} to the task list if it is not over.
+     */
+    private void addTask(Task task) {
+        LocalDateTime now = LocalDateTime.now();
+        removeOverdueTasks(now);
+        if (!isOver(task, now)) {
+            tasks.add(task);
+            scheduleNextExpiry();
+        }
     }
 
     /**
-     * Removes any tasks that are overdue.
-     * A task is overdue if the date and time of the task is before the current date and time.
+     * Adds all of {@code newTasks} that are not over to the task list at once.
+     */
+    private void addTasks(List<? extends Task> newTasks) {
+        LocalDateTime now = LocalDateTime.now();
+        removeOverdueTasks(now);
+        List<Task> upcomingTasks = new ArrayList<>(newTasks);
+        upcomingTasks.removeIf(task -> isOver(task, now));
+        tasks.addAll(upcomingTasks);
+        scheduleNextExpiry();
+    }
+
+    /**
+     * Removes {@code task} from the task list if it is in the task list.
+     */
+    private void removeTask(Task task) {
+        LocalDateTime now = LocalDateTime.now();
+        removeOverdueTasks(now);
+        if (!isOver(task, now)) {
+            tasks.remove(task);
+            scheduleNextExpiry();
+        }
+    }
+
+    /**
+     * Replaces {@code target} in the task list with {@code editedTask}.
+     * Only tasks that are not over are kept in the task list.
      */
-    private void filterOverdueTasks() {
-        tasks.getInternalList().removeIf(task -> {
-            return isOver(task);
-        });
+    private void setTask(Task target, Task editedTask) {
+        LocalDateTime now = LocalDateTime.now();
+        removeOverdueTasks(now);
+        boolean isTargetListed = !isOver(target, now);
+        boolean isEditedTaskListed = !isOver(editedTask, now);
+
+        if (isTargetListed && isEditedTaskListed) {
+            tasks.setTask(target, editedTask);
+        } else if (isTargetListed) {
+            tasks.remove(target);
+        } else if (isEditedTaskListed) {
+            tasks.add(editedTask);
+        }
+        scheduleNextExpiry();
     }
 
     /**
-     * Sorts the task list according to date and time of the task.
+     * Removes {@code targets} from the task list and adds {@code editedTasks}, notifying listeners of the task list
+     * only once. Only tasks that are not over are kept in the task list.
      */
-    private void sortTasks() {
-        tasks.getInternalList().sort((firstTask, secondTask) -> {
-            DateTimeFormatter inputFormat = DateTimeFormatter.ofPattern(TIME_DATE_TIME_FORMAT)
-                    .withResolverStyle(ResolverStyle.STRICT);
-            LocalDateTime firstTaskDateTime = LocalDateTime.parse(firstTask.getTime().value, inputFormat);
-            LocalDateTime secondTaskDateTime = LocalDateTime.parse(secondTask.getTime().value, inputFormat);
-            return firstTaskDateTime.compareTo(secondTaskDateTime);
-        });
+    private void setTasks(List<? extends Task> targets, List<? extends Task> editedTasks) {
+        LocalDateTime now = LocalDateTime.now();
+        removeOverdueTasks(now);
+        List<Task> listedTargets = new ArrayList<>(targets);
+        listedTargets.removeIf(task -> isOver(task, now));
+        List<Task> listedEditedTasks = new ArrayList<>(editedTasks);
+        listedEditedTasks.removeIf(task -> isOver(task, now));
+        tasks.removeAndAddAll(listedTargets, listedEditedTasks);
+        scheduleNextExpiry();
     }
 
     /**
-     * Updates the task list in ProductiveNus.
+     * Rebuilds the task list in ProductiveNus from all assignments and lessons that are not over.
+     * Used when many assignments or lessons are replaced at once.
      */
     private void updateTasks() {
-        retrieveTasks();
-        filterOverdueTasks();
-        sortTasks();
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> upcomingTasks = new ArrayList<>();
+        assignments.forEach(upcomingTasks::add);
+        lessons.forEach(upcomingTasks::add);
+        upcomingTasks.removeIf(task -> isOver(task, now));
+        tasks.setTasks(upcomingTasks);
+        scheduleNextExpiry();
     }
 
     /**
-     * Checks upcoming tasks every second and updates the task list if a task is over.
+     * Schedules the task list to be updated once the earliest upcoming task is over.
      */
-    private void checkTaskListEverySecond() {
-        // Solution below adapted from https://stackoverflow.com/questions/9966136/javafx-periodic-background-task
-        new Timer(true).schedule(
-                new TimerTask() {
-                    @Override
-                    public void run() {
-                        if (tasks.getInternalList().size() > 0) {
-                            Task upcomingTask = tasks.getInternalList().get(0);
-                            boolean isOver = isOver(upcomingTask);
+    private void scheduleNextExpiry() {
+        if (!isAutoUpdating) {
+            return;
+        }
 
-                            if (isOver) {
-                                Platform.runLater(() -> {
-                                    updateTasks();
-                                });
-                            }
-                        }
-                    }
-                }, 0, 1000);
+        Optional<LocalDateTime> earliestEndTime = tasks.getEarliestEndTime();
+        if (earliestEndTime.isPresent()) {
+            TaskExpiryScheduler.getInstance().schedule(expiryListener, earliestEndTime.get());
+        } else {
+            TaskExpiryScheduler.getInstance().cancel(expiryListener);
+        }
     }
 
     /**
      * Updates the task list whenever a task is over.
+     * Only the ProductiveNus backing the displayed task list needs this, copies of it should not call this method.
      */
-    private void autoUpdateTaskList() {
-        // Solution below adapted from https://docs.oracle.com/javafx/2/api/javafx/concurrent/Task.html
-        javafx.concurrent.Task<Void> task = new javafx.concurrent.Task<>() {
-            @Override
-            protected Void call() {
-                checkTaskListEverySecond();
-                return null;
-            }
-        };
-        task.run();
+    public void autoUpdateTaskList() {
+        isAutoUpdating = true;
+        scheduleNextExpiry();
     }
 
     //// util methods
@@ -296,7 +450,7 @@ public class ProductiveNus implements ReadOnlyProductiveNus {
 
     @Override
     public ObservableList<Task> getTaskList() {
-        updateTasks();
+        removeOverdueTasks();
 
         return tasks.asUnmodifiableObservableList();
     }
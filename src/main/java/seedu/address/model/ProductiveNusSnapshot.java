@@ -0,0 +1,92 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.task.Task;
+
+/**
+ * An immutable copy of the assignments and lessons in ProductiveNus at some point in time.
+ * A snapshot shares its lists with the {@code ProductiveNus} it was taken from, so taking one takes constant time and
+ * keeping one only costs memory for what has changed since.
+ */
+public final class ProductiveNusSnapshot implements ReadOnlyProductiveNus {
+
+    private final PersistentList<Assignment> assignments;
+    private final PersistentList<Lesson> lessons;
+
+    // only worked out when the task list is first needed, as few snapshots are ever asked for it
+    private ProductiveNus taskListOwner;
+
+    ProductiveNusSnapshot(PersistentList<Assignment> assignments, PersistentList<Lesson> lessons) {
+        this.assignments = assignments;
+        this.lessons = lessons;
+    }
+
+    /**
+     * Returns a snapshot of {@code productiveNus}. Only copies its data if it is not a {@code ProductiveNus}.
+     */
+    public static ProductiveNusSnapshot of(ReadOnlyProductiveNus productiveNus) {
+        requireNonNull(productiveNus);
+        if (productiveNus instanceof ProductiveNusSnapshot) {
+            return (ProductiveNusSnapshot) productiveNus;
+        } else if (productiveNus instanceof ProductiveNus) {
+            return ((ProductiveNus) productiveNus).snapshot();
+        }
+        return new ProductiveNusSnapshot(PersistentList.of(productiveNus.getAssignmentList()),
+                PersistentList.of(productiveNus.getLessonList()));
+    }
+
+    PersistentList<Assignment> getAssignments() {
+        return assignments;
+    }
+
+    PersistentList<Lesson> getLessons() {
+        return lessons;
+    }
+
+    @Override
+    public ObservableList<Assignment> getAssignmentList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(assignments));
+    }
+
+    @Override
+    public ObservableList<Lesson> getLessonList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(lessons));
+    }
+
+    /**
+     * Returns the tasks that are not over yet. The task list is worked out from the assignments and lessons the first
+     * time it is needed, and kept for later calls.
+     */
+    @Override
+    public ObservableList<Task> getTaskList() {
+        if (taskListOwner == null) {
+            taskListOwner = new ProductiveNus(this);
+        }
+        return taskListOwner.getTaskList();
+    }
+
+    @Override
+    public String toString() {
+        return assignments.size() + " assignments" + lessons.size() + "lessons";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ProductiveNusSnapshot // instanceof handles nulls
+                && assignments.equals(((ProductiveNusSnapshot) other).assignments)
+                && lessons.equals(((ProductiveNusSnapshot) other).lessons));
+    }
+
+    @Override
+    public int hashCode() {
+        // multiply sum of fields with prime number 31
+        return 31 * (assignments.hashCode() + lessons.hashCode());
+    }
+}
@@ -4,7 +4,6 @@ import javafx.collections.ObservableList;
 import seedu.address.model.assignment.Assignment;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.task.Task;
-import seedu.address.timetable.TimetableData;
 
 /**
  * Unmodifiable view of ProductiveNus
@@ -20,5 +19,4 @@ public interface ReadOnlyProductiveNus {
     ObservableList<Task> getTaskList();
 
     ObservableList<Lesson> getLessonList();
-    void importTimetable(TimetableData data);
 }
@@ -13,4 +13,9 @@ public interface ReadOnlyUserPrefs {
 
     Path getProductiveNusFilePath();
 
+    /**
+     * Returns the number of most recent commands that can be undone.
+     */
+    int getUndoLimit();
+
 }
@@ -13,8 +13,11 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_LIMIT = 100;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path productiveNusFilePath = Paths.get("data" , "productivenus.json");
+    private int undoLimit = DEFAULT_UNDO_LIMIT;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +39,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setProductiveNusFilePath(newUserPrefs.getProductiveNusFilePath());
+        setUndoLimit(newUserPrefs.getUndoLimit());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +60,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.productiveNusFilePath = productiveNusFilePath;
     }
 
+    public int getUndoLimit() {
+        // the limit read from a preferences file is not set through setUndoLimit
+        return Math.max(0, undoLimit);
+    }
+
+    /**
+     * Sets the number of most recent commands that can be undone. A negative limit is treated as zero.
+     */
+    public void setUndoLimit(int undoLimit) {
+        this.undoLimit = Math.max(0, undoLimit);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +84,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && productiveNusFilePath.equals(o.productiveNusFilePath);
+                && productiveNusFilePath.equals(o.productiveNusFilePath)
+                && getUndoLimit() == o.getUndoLimit();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, productiveNusFilePath);
+        return Objects.hash(guiSettings, productiveNusFilePath, getUndoLimit());
     }
 
     @Override
@@ -81,6 +98,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + productiveNusFilePath);
+        sb.append("\nUndo limit : " + getUndoLimit());
         return sb.toString();
     }
 
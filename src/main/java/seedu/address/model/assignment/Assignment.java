@@ -3,11 +3,13 @@ package seedu.address.model.assignment;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.model.task.ModuleCode;
 import seedu.address.model.task.Name;
 import seedu.address.model.task.Task;
 import seedu.address.model.task.Time;
+import seedu.address.model.task.TimeBlock;
 
 /**
  * Represents an Assignment in ProductiveNus.
@@ -40,6 +42,16 @@ public class Assignment extends Task {
         return super.getTime();
     }
 
+    /**
+     * Returns the time the assignment is scheduled to be done at, if it is scheduled.
+     */
+    @Override
+    public Optional<TimeBlock> getTimeBlock() {
+        return schedule.isScheduled()
+                ? Optional.of(new TimeBlock(schedule.getSuggestedStartTime(), schedule.getSuggestedEndTime()))
+                : Optional.empty();
+    }
+
     public Remind getRemind() {
         return remind;
     }
@@ -19,7 +19,7 @@ public class DeadlineContainsKeywordsPredicate implements Predicate<Assignment>
     public boolean test(Assignment assignment) {
         return keywords.stream()
                 .anyMatch(keyword -> StringUtil
-                        .containsWordIgnoreCase(assignment.getDeadline().value, keyword));
+                        .containsWordIgnoreCase(assignment.getDeadline().toString(), keyword));
     }
 
     @Override
@@ -1,13 +1,22 @@
 package seedu.address.model.assignment;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.PersistentObservableList;
 import seedu.address.model.assignment.exceptions.AssignmentNotFoundException;
 import seedu.address.model.assignment.exceptions.DuplicateAssignmentException;
 
@@ -19,22 +28,35 @@ import seedu.address.model.assignment.exceptions.DuplicateAssignmentException;
  * However, the removal of an assignment uses Assignment#equals(Object) so
  * as to ensure that the assignment with exactly the same fields will be removed.
  *
+ * The position of each assignment is also kept in a hash map, so that looking up an assignment does not need to go
+ * through the whole list. The assignments are kept in a {@code PersistentObservableList}, so that a snapshot of the
+ * list can be taken in constant time.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Assignment#isSameAssignment(Assignment)
  */
 public class UniqueAssignmentList implements Iterable<Assignment> {
 
-    private final ObservableList<Assignment> internalList = FXCollections.observableArrayList();
+    private final PersistentObservableList<Assignment> internalList = new PersistentObservableList<>();
     private final ObservableList<Assignment> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Assignment, Integer> positions = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent assignment as the given argument.
      */
     public boolean contains(Assignment toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return positions.containsKey(toCheck);
+    }
+
+    /**
+     * Returns the position of the assignment equal to {@code toFind}, or -1 if there is no such assignment.
+     */
+    public int indexOf(Assignment toFind) {
+        requireNonNull(toFind);
+        return positions.getOrDefault(toFind, -1);
     }
 
     /**
@@ -46,9 +68,23 @@ public class UniqueAssignmentList implements Iterable<Assignment> {
         if (contains(toAdd)) {
             throw new DuplicateAssignmentException();
         }
+        positions.put(toAdd, internalList.size());
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts an assignment at {@code index} of the list.
+     * The assignment must not already exist in the list.
+     */
+    public void add(int index, Assignment toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateAssignmentException();
+        }
+        internalList.add(index, toAdd);
+        updatePositionsFrom(index);
+    }
+
     /**
      * Replaces the assignment {@code target} in the list with {@code editedAssignment}.
      * {@code target} must exist in the list.
@@ -58,15 +94,18 @@ public class UniqueAssignmentList implements Iterable<Assignment> {
     public void setAssignment(Assignment target, Assignment editedAssignment) {
         requireAllNonNull(target, editedAssignment);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Integer index = positions.get(target);
+        if (index == null) {
             throw new AssignmentNotFoundException();
         }
 
-        if (!target.isSameAssignment(editedAssignment) && contains(editedAssignment)) {
+        // Checked against equals as well as the assignment identity, as the index cannot hold two equal assignments
+        if (!target.equals(editedAssignment) && contains(editedAssignment)) {
             throw new DuplicateAssignmentException();
         }
 
+        positions.remove(target);
+        positions.put(editedAssignment, index);
         internalList.set(index, editedAssignment);
     }
 
@@ -76,14 +115,47 @@ public class UniqueAssignmentList implements Iterable<Assignment> {
      */
     public void remove(Assignment toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Integer index = positions.remove(toRemove);
+        if (index == null) {
             throw new AssignmentNotFoundException();
         }
+        internalList.remove((int) index);
+        updatePositionsFrom(index);
+    }
+
+    /**
+     * Removes all of {@code toRemove} from the list, notifying listeners of the list only once.
+     * All of {@code toRemove} must exist in the list, otherwise the list is left unchanged.
+     */
+    public void removeAll(Collection<Assignment> toRemove) {
+        requireAllNonNull(toRemove);
+        TreeSet<Integer> indexesToRemove = new TreeSet<>();
+        for (Assignment assignment : toRemove) {
+            Integer index = positions.get(assignment);
+            if (index == null) {
+                throw new AssignmentNotFoundException();
+            }
+            indexesToRemove.add(index);
+        }
+        if (indexesToRemove.isEmpty()) {
+            return;
+        }
+
+        // removed from the back so that the remaining indexes stay valid
+        internalList.batch(() -> {
+            for (int index : indexesToRemove.descendingSet()) {
+                positions.remove(internalList.get(index));
+                internalList.remove(index);
+            }
+        });
+        updatePositionsFrom(indexesToRemove.first());
     }
 
     public void setAssignments(UniqueAssignmentList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        internalList.setAll(replacement.internalList.snapshot());
     }
 
     /**
@@ -92,15 +164,78 @@ public class UniqueAssignmentList implements Iterable<Assignment> {
      */
     public void setAssignments(List<Assignment> assignments) {
         requireAllNonNull(assignments);
-        if (!assignmentsAreUnique(assignments)) {
-            throw new DuplicateAssignmentException();
+        Map<Assignment, Integer> newPositions = new HashMap<>();
+        for (int i = 0; i < assignments.size(); i++) {
+            if (newPositions.put(assignments.get(i), i) != null) {
+                throw new DuplicateAssignmentException();
+            }
         }
 
+        positions.clear();
+        positions.putAll(newPositions);
         internalList.setAll(assignments);
     }
 
-    public ObservableList<Assignment> getInternalList() {
-        return internalList;
+    /**
+     * Replaces each assignment in {@code targets} with the assignment at the same position in
+     * {@code editedAssignments}, notifying listeners of the list only once.
+     * {@code targets} must be distinct and exist in the list. The list must not contain duplicate assignments
+     * afterwards. If any of these do not hold, the list is left unchanged.
+     *
+     * @throws IllegalArgumentException if {@code targets} and {@code editedAssignments} differ in size.
+     * @throws DuplicateAssignmentException if {@code targets} are not distinct, or the list would contain duplicate
+     *     assignments afterwards.
+     */
+    public void setAssignments(List<Assignment> targets, List<Assignment> editedAssignments) {
+        requireAllNonNull(targets, editedAssignments);
+        checkArgument(targets.size() == editedAssignments.size(),
+                "Every target must have exactly one edited assignment");
+
+        int[] indexes = new int[targets.size()];
+        for (int i = 0; i < targets.size(); i++) {
+            Integer index = positions.get(targets.get(i));
+            if (index == null) {
+                throw new AssignmentNotFoundException();
+            }
+            indexes[i] = index;
+        }
+        Set<Assignment> replacedAssignments = new HashSet<>(targets);
+        if (replacedAssignments.size() != targets.size()) {
+            throw new DuplicateAssignmentException();
+        }
+        Set<Assignment> newAssignments = new HashSet<>();
+        for (Assignment editedAssignment : editedAssignments) {
+            if (!newAssignments.add(editedAssignment)
+                    || (contains(editedAssignment) && !replacedAssignments.contains(editedAssignment))) {
+                throw new DuplicateAssignmentException();
+            }
+        }
+
+        // every target is removed from the index first, as an edited assignment may be equal to another target
+        targets.forEach(positions::remove);
+        internalList.batch(() -> {
+            for (int i = 0; i < indexes.length; i++) {
+                positions.put(editedAssignments.get(i), indexes[i]);
+                internalList.set(indexes[i], editedAssignments.get(i));
+            }
+        });
+    }
+
+    /**
+     * Updates the positions of the assignments from {@code index} onwards after they have been shifted.
+     */
+    private void updatePositionsFrom(int index) {
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+    }
+
+    /**
+     * Returns the assignments currently in the list. Takes constant time, and the returned list is not affected by
+     * later changes to this list.
+     */
+    public PersistentList<Assignment> snapshot() {
+        return internalList.snapshot();
     }
 
     /**
@@ -112,7 +247,7 @@ public class UniqueAssignmentList implements Iterable<Assignment> {
 
     @Override
     public Iterator<Assignment> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -126,18 +261,4 @@ public class UniqueAssignmentList implements Iterable<Assignment> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code assignments} contains only unique assignments.
-     */
-    private boolean assignmentsAreUnique(List<Assignment> assignments) {
-        for (int i = 0; i < assignments.size() - 1; i++) {
-            for (int j = i + 1; j < assignments.size(); j++) {
-                if (assignments.get(i).equals(assignments.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
@@ -3,11 +3,13 @@ package seedu.address.model.lesson;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.model.task.ModuleCode;
 import seedu.address.model.task.Name;
 import seedu.address.model.task.Task;
 import seedu.address.model.task.Time;
+import seedu.address.model.task.TimeBlock;
 
 public class Lesson extends Task {
     private final Time endTime;
@@ -21,10 +23,16 @@ public class Lesson extends Task {
         requireAllNonNull(name, time, endTime, moduleCode);
     }
 
+    @Override
     public Time getEndTime() {
         return this.endTime;
     }
 
+    @Override
+    public Optional<TimeBlock> getTimeBlock() {
+        return Optional.of(new TimeBlock(getTime(), endTime));
+    }
+
     /**
      * Returns true if both lessons of the same name and same time.
      */
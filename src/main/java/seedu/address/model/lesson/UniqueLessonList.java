@@ -3,11 +3,17 @@ package seedu.address.model.lesson;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.PersistentObservableList;
 import seedu.address.model.lesson.exceptions.DuplicateLessonException;
 import seedu.address.model.lesson.exceptions.LessonNotFoundException;
 
@@ -18,22 +24,27 @@ import seedu.address.model.lesson.exceptions.LessonNotFoundException;
  * unique in terms of identity in the UniqueLessonList. However, the removal of a lesson uses Lesson#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * The identities of the lessons in the list are also kept in a hash set, so that checking for duplicates does not need
+ * to go through the whole list. The lessons are kept in a {@code PersistentObservableList}, so that a snapshot of the
+ * list can be taken in constant time.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Lesson#isSameLesson(Lesson)
  */
 public class UniqueLessonList implements Iterable<Lesson> {
 
-    private final ObservableList<Lesson> internalList = FXCollections.observableArrayList();
+    private final PersistentObservableList<Lesson> internalList = new PersistentObservableList<>();
     private final ObservableList<Lesson> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<List<Object>> identities = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent lesson as the given argument.
      */
     public boolean contains(Lesson toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameLesson);
+        return identities.contains(identityOf(toCheck));
     }
 
     /**
@@ -42,50 +53,92 @@ public class UniqueLessonList implements Iterable<Lesson> {
      */
     public void add(Lesson toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (!identities.add(identityOf(toAdd))) {
             throw new DuplicateLessonException();
         }
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the list at once, so that listeners of the list are only notified once.
+     * None of the lessons may already exist in the list or be the same as another lesson in {@code toAdd}, in which
+     * case the list is left unchanged.
+     */
+    public void addAll(Collection<? extends Lesson> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<List<Object>> newIdentities = new HashSet<>();
+        for (Lesson lesson : toAdd) {
+            List<Object> identity = identityOf(lesson);
+            if (identities.contains(identity) || !newIdentities.add(identity)) {
+                throw new DuplicateLessonException();
+            }
+        }
+
+        identities.addAll(newIdentities);
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Removes the equivalent lesson from the list.
      * The lesson must exist in the list.
      */
     public void remove(Lesson toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new LessonNotFoundException();
         }
+        internalList.remove(index);
+        identities.remove(identityOf(toRemove));
     }
 
     /**
      * Removes all lessons from the list.
      */
     public void removeAll() {
+        identities.clear();
         internalList.clear();
     }
 
-    public ObservableList<Lesson> getInternalList() {
-        return internalList;
-    }
-
     /**
      * Replaces the contents of this list with {@code lessons}.
      * {@code lessons} must not contain duplicate lessons.
      */
     public void setLessons(List<Lesson> lessons) {
         requireAllNonNull(lessons);
-        if (!lessonsAreUnique(lessons)) {
-            throw new DuplicateLessonException();
+        Set<List<Object>> newIdentities = new HashSet<>();
+        for (Lesson lesson : lessons) {
+            if (!newIdentities.add(identityOf(lesson))) {
+                throw new DuplicateLessonException();
+            }
         }
 
+        identities.clear();
+        identities.addAll(newIdentities);
         internalList.setAll(lessons);
     }
 
     public void setLessons(UniqueLessonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        identities.clear();
+        identities.addAll(replacement.identities);
+        internalList.setAll(replacement.internalList.snapshot());
+    }
+
+    /**
+     * Returns the fields compared by {@code Lesson#isSameLesson(Lesson)}, which are equal exactly when the lessons
+     * have the same identity.
+     */
+    private static List<Object> identityOf(Lesson lesson) {
+        return Arrays.asList(lesson.getName(), lesson.getTime(), lesson.getEndTime());
+    }
+
+    /**
+     * Returns the lessons currently in the list. Takes constant time, and the returned list is not affected by later
+     * changes to this list.
+     */
+    public PersistentList<Lesson> snapshot() {
+        return internalList.snapshot();
     }
 
     /**
@@ -97,7 +150,7 @@ public class UniqueLessonList implements Iterable<Lesson> {
 
     @Override
     public Iterator<Lesson> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -111,18 +164,4 @@ public class UniqueLessonList implements Iterable<Lesson> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code lessons} contains only unique lessons.
-     */
-    private boolean lessonsAreUnique(List<Lesson> lessons) {
-        for (int i = 0; i < lessons.size() - 1; i++) {
-            for (int j = i + 1; j < lessons.size(); j++) {
-                if (lessons.get(i).isSameLesson(lessons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
@@ -0,0 +1,86 @@
+package seedu.address.model.task;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.BitSet;
+
+/**
+ * The busy and free time within a window of time, split into slots of {@value #MINUTES_PER_SLOT} minutes.
+ * A slot is busy if any part of it is busy, and the busy slots are kept in a bitset, so checking whether a stretch
+ * of time is free takes a few word operations no matter how many tasks were marked.
+ *
+ * Checks are exact for stretches of time that start and end on a slot boundary relative to the start of the window.
+ */
+public class Availability {
+
+    public static final int MINUTES_PER_SLOT = 15;
+
+    private final Time windowStart;
+    private final Time windowEnd;
+    private final int slotCount;
+    private final BitSet busySlots;
+
+    /**
+     * Creates an {@code Availability} from {@code windowStart} to {@code windowEnd} where all time is free.
+     */
+    public Availability(Time windowStart, Time windowEnd) {
+        requireAllNonNull(windowStart, windowEnd);
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+        slotCount = (int) Math.max(slotsUntil(windowEnd, true), 0);
+        busySlots = new BitSet(slotCount);
+    }
+
+    /**
+     * Marks the time from {@code start} to {@code end} as busy. Time outside of the window is ignored.
+     */
+    public void markBusy(Time start, Time end) {
+        requireAllNonNull(start, end);
+        int from = clip(slotsUntil(start, false));
+        int to = clip(slotsUntil(end, true));
+        if (from < to) {
+            busySlots.set(from, to);
+        }
+    }
+
+    /**
+     * Marks the time before {@code dayStart} and from {@code dayEnd} onwards on every day of the window as busy.
+     */
+    public void markBusyOutside(LocalTime dayStart, LocalTime dayEnd) {
+        requireAllNonNull(dayStart, dayEnd);
+        LocalDate lastDate = windowEnd.toLocalDateTime().toLocalDate();
+        for (LocalDate date = windowStart.toLocalDateTime().toLocalDate(); !date.isAfter(lastDate);
+                date = date.plusDays(1)) {
+            markBusy(new Time(date.atStartOfDay()), new Time(date.atTime(dayStart)));
+            markBusy(new Time(date.atTime(dayEnd)), new Time(date.plusDays(1).atStartOfDay()));
+        }
+    }
+
+    /**
+     * Returns true if no time from {@code start} to {@code end} is busy.
+     * The time from {@code start} to {@code end} must be within the window.
+     */
+    public boolean isFree(Time start, Time end) {
+        requireAllNonNull(start, end);
+        int from = clip(slotsUntil(start, false));
+        int to = clip(slotsUntil(end, true));
+        int firstBusySlot = busySlots.nextSetBit(from);
+        return firstBusySlot == -1 || firstBusySlot >= to;
+    }
+
+    /**
+     * Returns the number of slots from the start of the window to {@code time}, rounded up or down.
+     */
+    private long slotsUntil(Time time, boolean isRoundedUp) {
+        long minutes = time.minutesSince(windowStart);
+        return isRoundedUp
+                ? -Math.floorDiv(-minutes, MINUTES_PER_SLOT)
+                : Math.floorDiv(minutes, MINUTES_PER_SLOT);
+    }
+
+    private int clip(long slot) {
+        return (int) Math.min(Math.max(slot, 0), slotCount);
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.model.task;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * A clash between two tasks whose blocks of time overlap.
+ * Guarantees: both tasks are present and not null, and take up some time.
+ */
+public class Conflict {
+
+    private final Task first;
+    private final Task second;
+
+    /**
+     * Creates a clash between {@code first} and {@code second}, where {@code first} starts no later than
+     * {@code second}.
+     */
+    public Conflict(Task first, Task second) {
+        requireAllNonNull(first, second);
+        assert first.getTimeBlock().isPresent() && second.getTimeBlock().isPresent();
+        this.first = first;
+        this.second = second;
+    }
+
+    public Task getFirst() {
+        return first;
+    }
+
+    public Task getSecond() {
+        return second;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Conflict // instanceof handles nulls
+                && first.equals(((Conflict) other).first)
+                && second.equals(((Conflict) other).second));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(first, second);
+    }
+
+    @Override
+    public String toString() {
+        return describe(first) + " clashes with " + describe(second);
+    }
+
+    private static String describe(Task task) {
+        return task.getName() + " (" + task.getModuleCode() + ", " + task.getTimeBlock().get() + ")";
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents an Assignment's name in ProductiveNus.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,6 +21,8 @@ public class Name {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     public final String fullName;
+    // names are compared ignoring case, and are used as hash keys often enough for this to be worth keeping
+    private final int hashCode;
 
     /**
      * Constructs a {@code Name}.
@@ -29,6 +33,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        hashCode = name.toLowerCase(Locale.ROOT).hashCode();
     }
 
     /**
@@ -48,12 +53,13 @@ public class Name {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Name // instanceof handles nulls
-                && fullName.toLowerCase().equals(((Name) other).fullName.toLowerCase())); // state check
+                && fullName.equalsIgnoreCase(((Name) other).fullName)); // state check
     }
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        // agrees with equals, as names only hold ASCII characters, whose case is the same in every locale
+        return hashCode;
     }
 
 }
@@ -2,6 +2,8 @@ package seedu.address.model.task;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Optional;
+
 public abstract class Task {
     // Identity fields
     private final Name name;
@@ -30,6 +32,23 @@ public abstract class Task {
         return moduleCode;
     }
 
+    /**
+     * Returns the time after which the task is over.
+     * By default, a task is over once its time has passed.
+     */
+    public Time getEndTime() {
+        return time;
+    }
+
+    /**
+     * Returns the block of time the task takes up in the user's calendar, or an empty {@code Optional} if it does not
+     * take up any time. Tasks whose blocks of time overlap clash with each other.
+     * By default, a task does not take up any time.
+     */
+    public Optional<TimeBlock> getTimeBlock() {
+        return Optional.empty();
+    }
+
     /**
      * Checks if task is the same.
      * @param otherTask Another task.
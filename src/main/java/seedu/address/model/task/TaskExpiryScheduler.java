@@ -0,0 +1,151 @@
+package seedu.address.model.task;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Notifies listeners once the time they are waiting for has passed.
+ * A single daemon thread is shared by the whole application. It sleeps until the earliest expiry being tracked,
+ * so no CPU is spent while nothing is due and the number of threads does not grow with the number of listeners.
+ *
+ * Listeners are only weakly referenced. A listener that is no longer reachable elsewhere is dropped silently.
+ */
+public class TaskExpiryScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(TaskExpiryScheduler.class);
+    private static final TaskExpiryScheduler INSTANCE = new TaskExpiryScheduler();
+
+    private final ScheduledThreadPoolExecutor executor;
+    private final PriorityQueue<Expiry> expiries = new PriorityQueue<>();
+    private ScheduledFuture<?> nextWakeUp;
+    private LocalDateTime nextWakeUpTime;
+
+    /**
+     * Creates a scheduler with its own thread. Use {@link #getInstance()} outside of tests.
+     */
+    TaskExpiryScheduler() {
+        executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "task-expiry-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+    }
+
+    public static TaskExpiryScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Runs {@code listener} once {@code expiry} has passed, replacing any expiry previously scheduled for it.
+     * The caller must keep a reference to {@code listener} for as long as it wants to be notified.
+     */
+    public synchronized void schedule(Runnable listener, LocalDateTime expiry) {
+        requireAllNonNull(listener, expiry);
+        removeExpiriesOf(listener);
+        expiries.add(new Expiry(listener, expiry));
+        rescheduleWakeUp();
+    }
+
+    /**
+     * Stops tracking the expiry scheduled for {@code listener}, if any.
+     */
+    public synchronized void cancel(Runnable listener) {
+        removeExpiriesOf(listener);
+        rescheduleWakeUp();
+    }
+
+    /**
+     * Returns the number of expiries that are still being tracked.
+     */
+    synchronized int size() {
+        return expiries.size();
+    }
+
+    private void removeExpiriesOf(Runnable listener) {
+        expiries.removeIf(expiry -> {
+            Runnable trackedListener = expiry.listener.get();
+            return trackedListener == null || trackedListener == listener;
+        });
+    }
+
+    /**
+     * Makes sure the thread wakes up in time for the earliest expiry, and only then.
+     */
+    private void rescheduleWakeUp() {
+        Expiry earliest = expiries.peek();
+        if (earliest != null && earliest.time.equals(nextWakeUpTime)) {
+            return;
+        }
+
+        if (nextWakeUp != null) {
+            nextWakeUp.cancel(false);
+            nextWakeUp = null;
+            nextWakeUpTime = null;
+        }
+
+        if (earliest == null) {
+            return;
+        }
+
+        // A task is over only once the current time is strictly after its time, hence the extra millisecond.
+        long delay = Math.max(0, Duration.between(LocalDateTime.now(), earliest.time).toMillis() + 1);
+        nextWakeUp = executor.schedule(this::notifyDueListeners, delay, TimeUnit.MILLISECONDS);
+        nextWakeUpTime = earliest.time;
+    }
+
+    private void notifyDueListeners() {
+        List<Runnable> dueListeners = new ArrayList<>();
+        synchronized (this) {
+            LocalDateTime now = LocalDateTime.now();
+            while (!expiries.isEmpty() && expiries.peek().time.isBefore(now)) {
+                Runnable listener = expiries.poll().listener.get();
+                if (listener != null) {
+                    dueListeners.add(listener);
+                }
+            }
+            nextWakeUp = null;
+            nextWakeUpTime = null;
+            rescheduleWakeUp();
+        }
+
+        // Listeners are run outside the lock as they are likely to schedule their next expiry.
+        for (Runnable listener : dueListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                logger.warning("Failed to notify listener of expired task: " + e);
+            }
+        }
+    }
+
+    /**
+     * A point in time that a listener is waiting for.
+     */
+    private static class Expiry implements Comparable<Expiry> {
+        private final WeakReference<Runnable> listener;
+        private final LocalDateTime time;
+
+        Expiry(Runnable listener, LocalDateTime time) {
+            this.listener = new WeakReference<>(listener);
+            this.time = time;
+        }
+
+        @Override
+        public int compareTo(Expiry other) {
+            return time.compareTo(other.time);
+        }
+    }
+}
@@ -5,21 +5,30 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.DateTimeException;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.ResolverStyle;
 
 /**
  * Represents the time found in a task in ProductiveNUS.
  * Guarantees: immutable; is valid as declared in {@link #isValidTime(String)}
+ *
+ * The time is parsed once and kept as the number of minutes since 01-01-1970 0000, so comparing, hashing and
+ * checking ranges of times does not need to parse or allocate anything. Time zones are not taken into account.
  */
-public class Time {
+public class Time implements Comparable<Time> {
     public static final String MESSAGE_CONSTRAINTS =
             "Deadlines should only be in the format 'dd-MM-yyyy HHmm'"
                     + "\nDate and time (24 hour format) should be valid.";
     public static final String TIME_DATE_TIME_FORMAT = "dd-MM-uuuu HHmm";
-    public final String value;
-    private final DateTimeFormatter inputFormat = DateTimeFormatter.ofPattern(TIME_DATE_TIME_FORMAT)
+
+    private static final DateTimeFormatter INPUT_FORMAT = DateTimeFormatter.ofPattern(TIME_DATE_TIME_FORMAT)
             .withResolverStyle(ResolverStyle.STRICT);
+    private static final long SECONDS_PER_MINUTE = 60;
+
+    private final long epochMinutes;
+    // Formatted only when first needed
+    private String value;
 
     /**
      * Constructs a {@code Time}.
@@ -28,50 +37,98 @@ public class Time {
      */
     public Time(String time) {
         requireNonNull(time);
-        checkArgument(isValidTime(time), MESSAGE_CONSTRAINTS);
+        LocalDateTime dateTime = parse(time);
+        checkArgument(dateTime != null, MESSAGE_CONSTRAINTS);
+        epochMinutes = toEpochMinutes(dateTime);
         value = time;
     }
 
     /**
-     * Constructs a {@code Time}.
+     * Constructs a {@code Time}. Seconds and smaller units of {@code deadline} are dropped.
      *
      * @param deadline A valid time with format LocalDateTime.
      */
     public Time(LocalDateTime deadline) {
         requireNonNull(deadline);
-        value = deadline.format(inputFormat);
+        epochMinutes = toEpochMinutes(deadline);
+    }
+
+    private Time(long epochMinutes) {
+        this.epochMinutes = epochMinutes;
+    }
+
+    /**
+     * Returns the {@code Time} that is {@code epochMinutes} minutes after 01-01-1970 0000.
+     */
+    public static Time ofEpochMinutes(long epochMinutes) {
+        return new Time(epochMinutes);
     }
 
     /**
      * Returns true if a given string is a valid time.
      */
     public static boolean isValidTime(String test) {
+        requireNonNull(test);
+        return parse(test) != null;
+    }
+
+    /**
+     * Returns the time represented by {@code time}, or null if it is not a valid time.
+     */
+    private static LocalDateTime parse(String time) {
         try {
-            DateTimeFormatter inputFormat = DateTimeFormatter.ofPattern(TIME_DATE_TIME_FORMAT)
-                    .withResolverStyle(ResolverStyle.STRICT);
-            LocalDateTime taskDate = LocalDateTime.parse(test, inputFormat);
-            taskDate.format(inputFormat);
-            return true;
+            return LocalDateTime.parse(time, INPUT_FORMAT);
         } catch (DateTimeException e) {
-            return false;
+            return null;
         }
     }
 
+    private static long toEpochMinutes(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+
     /**
      * Returns true if the time is before another time
      */
     public boolean isBefore(Time other) {
-        LocalDateTime thisTime = LocalDateTime.parse(value, inputFormat);
-        LocalDateTime thatTime = LocalDateTime.parse(other.value, inputFormat);
-        return thisTime.isBefore(thatTime);
+        return epochMinutes < other.epochMinutes;
+    }
+
+    /**
+     * Returns true if the time is after another time
+     */
+    public boolean isAfter(Time other) {
+        return epochMinutes > other.epochMinutes;
+    }
+
+    /**
+     * Returns the number of minutes from {@code other} to this time, which is negative if this time is earlier.
+     */
+    public long minutesSince(Time other) {
+        return epochMinutes - other.epochMinutes;
+    }
+
+    /**
+     * Returns the number of minutes from 01-01-1970 0000 to this time.
+     */
+    public long getEpochMinutes() {
+        return epochMinutes;
     }
 
     public LocalDateTime toLocalDateTime() {
-        return LocalDateTime.parse(value, inputFormat);
+        return LocalDateTime.ofEpochSecond(epochMinutes * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
+
+    @Override
+    public int compareTo(Time other) {
+        return Long.compare(epochMinutes, other.epochMinutes);
     }
 
     @Override
     public String toString() {
+        if (value == null) {
+            value = toLocalDateTime().format(INPUT_FORMAT);
+        }
         return value;
     }
 
@@ -79,12 +136,12 @@ public class Time {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Time // instanceof handles nulls
-                && value.equals(((Time) other).value)); // state check
+                && epochMinutes == ((Time) other).epochMinutes); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(epochMinutes);
     }
 
 }
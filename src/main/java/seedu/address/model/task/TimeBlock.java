@@ -0,0 +1,57 @@
+package seedu.address.model.task;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * A block of time taken up by a task in the user's calendar, from its start time up to but excluding its end time.
+ */
+public class TimeBlock {
+
+    private final Time startTime;
+    private final Time endTime;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public TimeBlock(Time startTime, Time endTime) {
+        requireAllNonNull(startTime, endTime);
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public Time getStartTime() {
+        return startTime;
+    }
+
+    public Time getEndTime() {
+        return endTime;
+    }
+
+    /**
+     * Returns true if this block and {@code other} share some time.
+     */
+    public boolean overlaps(TimeBlock other) {
+        return startTime.isBefore(endTime) && other.startTime.isBefore(other.endTime)
+                && startTime.isBefore(other.endTime) && other.startTime.isBefore(endTime);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TimeBlock // instanceof handles nulls
+                && startTime.equals(((TimeBlock) other).startTime)
+                && endTime.equals(((TimeBlock) other).endTime));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startTime, endTime);
+    }
+
+    @Override
+    public String toString() {
+        return startTime + " - " + endTime;
+    }
+}
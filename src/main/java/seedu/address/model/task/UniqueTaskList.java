@@ -3,39 +3,51 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.BatchedObservableList;
 import seedu.address.model.assignment.exceptions.DuplicateTaskException;
 import seedu.address.model.assignment.exceptions.TaskNotFoundException;
 
 /**
- * A list of tasks that enforces uniqueness between its elements and does not allow nulls.
- * A task is considered unique by comparing using {@code Task#isSameTask(Task)}. As such,
- * adding and updating of tasks uses Task#isSameTask(Task) for equality so as to ensure
- * that the task being added or updated is unique in terms of identity in the UniqueTaskList.
- * However, the removal of an assignment uses Task#equals(Object) so
- * as to ensure that the assignment with exactly the same fields will be removed.
+ * A list of tasks that does not allow equal elements or nulls.
+ * The tasks are the assignments and lessons of ProductiveNus, which are already unique among themselves, so tasks
+ * are compared using {@code Task#equals(Object)} rather than {@code Task#isSameTask(Task)}. An assignment and a lesson
+ * with the same name, module and time are both kept.
  *
- * Supports a minimal set of list operations.
+ * The list is always sorted by the time of its tasks, and tasks with the same time are kept in the order they were
+ * added. Tasks are also indexed by their end time so that tasks that are over can be removed without going
+ * through the whole list, and kept in a hash set so that checking for duplicates is cheap.
  *
- * @see Task#isSameTask(Task)
+ * Supports a minimal set of list operations.
  */
 public class UniqueTaskList implements Iterable<Task> {
 
-    private final ObservableList<Task> internalList = FXCollections.observableArrayList();
+    private static final Comparator<Task> TIME_COMPARATOR = Comparator.comparing(Task::getTime);
+
+    private final BatchedObservableList<Task> internalList = new BatchedObservableList<>();
     private final ObservableList<Task> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
-
+    private final TreeMap<Time, List<Task>> tasksByEndTime = new TreeMap<>();
+    private final Set<Task> members = new HashSet<>();
 
     /**
-     * Returns true if the list contains an equivalent task as the given argument.
+     * Returns true if the list contains a task equal to the given argument.
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTask);
+        return members.contains(toCheck);
     }
 
     /**
@@ -44,14 +56,62 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void add(Task toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (!members.add(toAdd)) {
             throw new DuplicateTaskException();
         }
-        internalList.add(toAdd);
+        internalList.add(upperBound(toAdd), toAdd);
+        addToEndTimeIndex(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the list at once, so that listeners of the list are only notified once.
+     * None of the tasks may already exist in the list or be the same as another task in {@code toAdd}, in which
+     * case the list is left unchanged.
+     */
+    public void addAll(Collection<? extends Task> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Task> newMembers = new HashSet<>();
+        for (Task task : toAdd) {
+            if (members.contains(task) || !newMembers.add(task)) {
+                throw new DuplicateTaskException();
+            }
+        }
+
+        List<Task> sortedTasks = new ArrayList<>(toAdd);
+        sortedTasks.sort(TIME_COMPARATOR);
+        members.addAll(newMembers);
+        sortedTasks.forEach(this::addToEndTimeIndex);
+        internalList.setAll(merge(internalList, sortedTasks));
     }
 
-    public ObservableList<Task> getInternalList() {
-        return internalList;
+    /**
+     * Replaces the task {@code target} in the list with {@code editedTask}.
+     * {@code target} must exist in the list.
+     * {@code editedTask} must not be equal to another existing task in the list.
+     */
+    public void setTask(Task target, Task editedTask) {
+        requireAllNonNull(target, editedTask);
+
+        int index = indexOf(target);
+        if (index == -1) {
+            throw new TaskNotFoundException();
+        }
+
+        if (!target.equals(editedTask) && contains(editedTask)) {
+            throw new DuplicateTaskException();
+        }
+
+        members.remove(target);
+        members.add(editedTask);
+        removeFromEndTimeIndex(target);
+        addToEndTimeIndex(editedTask);
+
+        if (hasSameTime(index, editedTask)) {
+            internalList.set(index, editedTask);
+        } else {
+            internalList.remove(index);
+            internalList.add(upperBound(editedTask), editedTask);
+        }
     }
 
     /**
@@ -60,41 +120,183 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void remove(Task toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new TaskNotFoundException();
         }
+        internalList.remove(index);
+        members.remove(toRemove);
+        removeFromEndTimeIndex(toRemove);
+    }
+
+    /**
+     * Removes all of {@code toRemove} from the list and adds all of {@code toAdd}, so that listeners of the list are
+     * only notified once. Each task is removed or added where it is in the list, instead of the list being replaced.
+     * All of {@code toRemove} must exist in the list, and none of {@code toAdd} may be equal to another task in the
+     * list afterwards, otherwise the list is left unchanged.
+     */
+    public void removeAndAddAll(Collection<? extends Task> toRemove, Collection<? extends Task> toAdd) {
+        requireAllNonNull(toRemove, toAdd);
+        Set<Task> removedTasks = new HashSet<>();
+        for (Task task : toRemove) {
+            if (indexOf(task) == -1) {
+                throw new TaskNotFoundException();
+            }
+            removedTasks.add(task);
+        }
+        Set<Task> addedTasks = new HashSet<>();
+        for (Task task : toAdd) {
+            if (!addedTasks.add(task) || (members.contains(task) && !removedTasks.contains(task))) {
+                throw new DuplicateTaskException();
+            }
+        }
+
+        internalList.batch(() -> {
+            toRemove.forEach(this::remove);
+            toAdd.forEach(this::add);
+        });
+    }
+
+    /**
+     * Removes all tasks that end before {@code time}.
+     *
+     * @return true if any task was removed.
+     */
+    public boolean removeTasksEndingBefore(LocalDateTime time) {
+        requireNonNull(time);
+        boolean hasRemovedTask = false;
+        while (!tasksByEndTime.isEmpty() && tasksByEndTime.firstKey().toLocalDateTime().isBefore(time)) {
+            for (Task task : tasksByEndTime.pollFirstEntry().getValue()) {
+                internalList.remove(indexOf(task));
+                members.remove(task);
+            }
+            hasRemovedTask = true;
+        }
+        return hasRemovedTask;
+    }
+
+    /**
+     * Returns the earliest end time among the tasks in the list, or an empty {@code Optional} if the list is empty.
+     */
+    public Optional<LocalDateTime> getEarliestEndTime() {
+        return tasksByEndTime.isEmpty() ? Optional.empty() : Optional.of(tasksByEndTime.firstKey().toLocalDateTime());
     }
 
     public void setTasks(UniqueTaskList replacement) {
         requireNonNull(replacement);
+        members.clear();
+        members.addAll(replacement.members);
         internalList.setAll(replacement.internalList);
+        rebuildEndTimeIndex();
     }
 
     /**
      * Replaces the contents of this list with {@code task}.
      * {@code tasks} must not contain duplicate task.
      */
-    public void setTasks(List<Task> tasks) {
+    public void setTasks(List<? extends Task> tasks) {
         requireAllNonNull(tasks);
-        if (!tasksAreUnique(tasks)) {
-            throw new DuplicateTaskException();
+        Set<Task> newMembers = new HashSet<>();
+        for (Task task : tasks) {
+            if (!newMembers.add(task)) {
+                throw new DuplicateTaskException();
+            }
         }
 
-        internalList.setAll(tasks);
+        List<Task> sortedTasks = new ArrayList<>(tasks);
+        sortedTasks.sort(TIME_COMPARATOR);
+        members.clear();
+        members.addAll(newMembers);
+        internalList.setAll(sortedTasks);
+        rebuildEndTimeIndex();
+    }
+
+    /**
+     * Merges two lists that are sorted by time into one sorted list.
+     * Tasks in {@code first} are placed before tasks in {@code second} with the same time.
+     */
+    private static List<Task> merge(List<Task> first, List<Task> second) {
+        List<Task> merged = new ArrayList<>(first.size() + second.size());
+        int i = 0;
+        int j = 0;
+        while (i < first.size() && j < second.size()) {
+            if (TIME_COMPARATOR.compare(second.get(j), first.get(i)) < 0) {
+                merged.add(second.get(j++));
+            } else {
+                merged.add(first.get(i++));
+            }
+        }
+        merged.addAll(first.subList(i, first.size()));
+        merged.addAll(second.subList(j, second.size()));
+        return merged;
     }
 
     /**
-     * Returns true if {@code tasks} contains only unique tasks.
+     * Returns the position of the task equal to {@code toFind}, or -1 if there is no such task.
      */
-    private boolean tasksAreUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).isSameTask(tasks.get(j))) {
-                    return false;
-                }
+    private int indexOf(Task toFind) {
+        for (int i = lowerBound(toFind); i < internalList.size() && hasSameTime(i, toFind); i++) {
+            if (toFind.equals(internalList.get(i))) {
+                return i;
             }
         }
-        return true;
+        return -1;
+    }
+
+    /**
+     * Returns the position of the first task that is not earlier than {@code task}.
+     */
+    private int lowerBound(Task task) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (TIME_COMPARATOR.compare(internalList.get(mid), task) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of the first task that is later than {@code task}.
+     */
+    private int upperBound(Task task) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (TIME_COMPARATOR.compare(internalList.get(mid), task) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private boolean hasSameTime(int index, Task task) {
+        return TIME_COMPARATOR.compare(internalList.get(index), task) == 0;
+    }
+
+    private void addToEndTimeIndex(Task task) {
+        tasksByEndTime.computeIfAbsent(task.getEndTime(), unused -> new ArrayList<>()).add(task);
+    }
+
+    private void removeFromEndTimeIndex(Task task) {
+        Time endTime = task.getEndTime();
+        List<Task> tasksWithSameEndTime = tasksByEndTime.get(endTime);
+        tasksWithSameEndTime.remove(task);
+        if (tasksWithSameEndTime.isEmpty()) {
+            tasksByEndTime.remove(endTime);
+        }
+    }
+
+    private void rebuildEndTimeIndex() {
+        tasksByEndTime.clear();
+        internalList.forEach(this::addToEndTimeIndex);
     }
 
     /**
@@ -106,7 +308,7 @@ public class UniqueTaskList implements Iterable<Task> {
 
     @Override
     public Iterator<Task> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -121,4 +323,3 @@ public class UniqueTaskList implements Iterable<Task> {
         return internalList.hashCode();
     }
 }
-
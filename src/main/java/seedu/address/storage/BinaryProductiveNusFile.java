@@ -0,0 +1,336 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyProductiveNus;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.assignment.Done;
+import seedu.address.model.assignment.Priority;
+import seedu.address.model.assignment.Remind;
+import seedu.address.model.assignment.Schedule;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.task.ModuleCode;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.Time;
+
+/**
+ * Writes and reads the content of ProductiveNus data files in a compact binary format, which is much faster to read
+ * than json.
+ *
+ * A file starts with {@link #MAGIC} and the version of its format, followed by the sequence number of the last change
+ * in the journal that it includes. Next is a table of the distinct names and module codes in the file, which the
+ * assignments and lessons after it refer to by their position in the table, so each string is only stored and checked
+ * once. Times are stored as minutes since the epoch, and the reminder, done, schedule and priority of an assignment are
+ * packed into one byte of flags. Strings and lists are prefixed by their length, and the file ends with the CRC-32
+ * checksum of everything before it.
+ */
+class BinaryProductiveNusFile {
+
+    /** The first bytes of every binary data file, which are "PNUS" in ASCII. */
+    public static final int MAGIC = 0x504e5553;
+    public static final int VERSION = 1;
+
+    private static final int FLAG_REMINDED = 1;
+    private static final int FLAG_DONE = 1 << 1;
+    private static final int FLAG_SCHEDULED = 1 << 2;
+    private static final int PRIORITY_SHIFT = 4;
+    // the position of a level in this array is what is stored, so that reordering the enum does not change the format
+    private static final Priority.Level[] PRIORITY_LEVELS = {
+        Priority.Level.NONE, Priority.Level.LOW, Priority.Level.MEDIUM, Priority.Level.HIGH
+    };
+    private static final int HEADER_LENGTH = 2 * Integer.BYTES + Long.BYTES;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    // the parts of an assignment are immutable, so the same ones are shared by all assignments that have them
+    private static final Priority[] PRIORITIES = new Priority[PRIORITY_LEVELS.length];
+    private static final Remind REMINDED = new Remind(true);
+    private static final Remind NOT_REMINDED = new Remind(false);
+    private static final Done DONE = new Done(true);
+    private static final Done NOT_DONE = new Done(false);
+    private static final Schedule NOT_SCHEDULED = new Schedule();
+
+    static {
+        for (int i = 0; i < PRIORITY_LEVELS.length; i++) {
+            PRIORITIES[i] = new Priority(PRIORITY_LEVELS[i].name());
+        }
+    }
+
+    private BinaryProductiveNusFile() {}
+
+    /**
+     * Returns true if the file open in {@code channel} starts with {@link #MAGIC}.
+     */
+    public static boolean isBinary(FileChannel channel) throws IOException {
+        ByteBuffer start = ByteBuffer.allocate(Integer.BYTES);
+        channel.position(0);
+        while (start.hasRemaining() && channel.read(start) >= 0) {
+            // reads until the buffer is full
+        }
+        return !start.hasRemaining() && start.getInt(0) == MAGIC;
+    }
+
+    /**
+     * Writes the data in {@code productiveNus}, which includes all changes in the journal up to
+     * {@code journalSequence}, to {@code out} in binary format.
+     */
+    public static void write(OutputStream out, ReadOnlyProductiveNus productiveNus, long journalSequence)
+            throws IOException {
+        List<Assignment> assignments = productiveNus.getAssignmentList();
+        List<Lesson> lessons = productiveNus.getLessonList();
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        for (Assignment assignment : assignments) {
+            stringTable.putIfAbsent(assignment.getName().fullName, stringTable.size());
+            stringTable.putIfAbsent(assignment.getModuleCode().moduleCode, stringTable.size());
+        }
+        for (Lesson lesson : lessons) {
+            stringTable.putIfAbsent(lesson.getName().fullName, stringTable.size());
+            stringTable.putIfAbsent(lesson.getModuleCode().moduleCode, stringTable.size());
+        }
+
+        CRC32 crc = new CRC32();
+        DataOutputStream data = new DataOutputStream(new CheckedOutputStream(out, crc));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeLong(journalSequence);
+
+        data.writeInt(stringTable.size());
+        for (String string : stringTable.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            data.writeInt(bytes.length);
+            data.write(bytes);
+        }
+
+        data.writeInt(assignments.size());
+        for (Assignment assignment : assignments) {
+            data.writeInt(stringTable.get(assignment.getName().fullName));
+            data.writeInt(stringTable.get(assignment.getModuleCode().moduleCode));
+            data.writeLong(assignment.getDeadline().getEpochMinutes());
+            Schedule schedule = assignment.getSchedule();
+            data.writeByte(getFlags(assignment));
+            if (schedule.isScheduled()) {
+                data.writeLong(schedule.getSuggestedStartTime().getEpochMinutes());
+                data.writeLong(schedule.getSuggestedEndTime().getEpochMinutes());
+            }
+        }
+
+        data.writeInt(lessons.size());
+        for (Lesson lesson : lessons) {
+            data.writeInt(stringTable.get(lesson.getName().fullName));
+            data.writeInt(stringTable.get(lesson.getModuleCode().moduleCode));
+            data.writeLong(lesson.getTime().getEpochMinutes());
+            data.writeLong(lesson.getEndTime().getEpochMinutes());
+        }
+
+        data.flush();
+        new DataOutputStream(out).writeInt((int) crc.getValue());
+    }
+
+    private static int getFlags(Assignment assignment) {
+        int flags = 0;
+        if (assignment.isReminded()) {
+            flags |= FLAG_REMINDED;
+        }
+        if (assignment.isMarkedDone()) {
+            flags |= FLAG_DONE;
+        }
+        if (assignment.getSchedule().isScheduled()) {
+            flags |= FLAG_SCHEDULED;
+        }
+        for (int i = 0; i < PRIORITY_LEVELS.length; i++) {
+            if (PRIORITY_LEVELS[i] == assignment.getPriority().priority) {
+                flags |= i << PRIORITY_SHIFT;
+            }
+        }
+        return flags;
+    }
+
+    /**
+     * Returns the data in the binary file open in {@code channel}.
+     * The whole file is read into memory in one call, and its checksum is verified before any of it is decoded.
+     *
+     * @throws IOException if the file is damaged, not completely written, or written in a newer version of the format.
+     * @throws IllegalValueException if the data in the file is invalid.
+     */
+    public static StoredProductiveNus read(FileChannel channel) throws IOException, IllegalValueException {
+        long fileLength = channel.size();
+        if (fileLength > Integer.MAX_VALUE) {
+            throw new IOException("Data file is too large");
+        }
+        ByteBuffer data = ByteBuffer.allocate((int) fileLength);
+        channel.position(0);
+        while (data.hasRemaining() && channel.read(data) >= 0) {
+            // reads until the buffer is full
+        }
+        if (data.hasRemaining()) {
+            throw new IOException("Data file ends unexpectedly");
+        }
+        data.flip();
+        return read(data);
+    }
+
+    /**
+     * Similar to {@link #read(FileChannel)}, but the data is read from {@code in} until it ends.
+     */
+    public static StoredProductiveNus read(InputStream in) throws IOException, IllegalValueException {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int count;
+        while ((count = in.read(buffer)) >= 0) {
+            data.write(buffer, 0, count);
+        }
+        return read(ByteBuffer.wrap(data.toByteArray()));
+    }
+
+    private static StoredProductiveNus read(ByteBuffer data) throws IOException, IllegalValueException {
+        try {
+            return decode(checkContent(data));
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Data ends unexpectedly", e);
+        }
+    }
+
+    /**
+     * Returns {@code data} without its checksum, after checking that it is a binary data file of a supported version
+     * and that it matches its checksum.
+     */
+    private static ByteBuffer checkContent(ByteBuffer data) throws IOException {
+        if (data.remaining() < HEADER_LENGTH + Integer.BYTES) {
+            throw new IOException("Data file is too short");
+        }
+
+        if (data.getInt(0) != MAGIC) {
+            throw new IOException("Not a binary data file");
+        }
+        int version = data.getInt(Integer.BYTES);
+        if (version > VERSION) {
+            throw new IOException("Data file version " + version + " is not supported");
+        }
+
+        int expectedCrc = data.getInt(data.limit() - Integer.BYTES);
+        data.limit(data.limit() - Integer.BYTES);
+        CRC32 crc = new CRC32();
+        crc.update(data.duplicate());
+        if ((int) crc.getValue() != expectedCrc) {
+            throw new IOException("Data does not match its checksum");
+        }
+        data.position(2 * Integer.BYTES);
+        return data;
+    }
+
+    private static StoredProductiveNus decode(ByteBuffer data) throws IOException, IllegalValueException {
+        long journalSequence = data.getLong();
+
+        String[] stringTable = new String[readCount(data)];
+        for (int i = 0; i < stringTable.length; i++) {
+            int length = data.getInt();
+            if (length < 0 || length > data.remaining()) {
+                throw new IOException("Invalid string length " + length);
+            }
+            stringTable[i] = new String(data.array(), data.position(), length, StandardCharsets.UTF_8);
+            data.position(data.position() + length);
+        }
+        // each name and module code is checked once, and shared by all assignments and lessons that have it
+        Name[] names = new Name[stringTable.length];
+        ModuleCode[] moduleCodes = new ModuleCode[stringTable.length];
+
+        int assignmentCount = readCount(data);
+        List<Assignment> assignments = new ArrayList<>(assignmentCount);
+        for (int i = 0; i < assignmentCount; i++) {
+            Name name = getName(data.getInt(), stringTable, names);
+            ModuleCode moduleCode = getModuleCode(data.getInt(), stringTable, moduleCodes);
+            Time deadline = Time.ofEpochMinutes(data.getLong());
+            int flags = data.get() & 0xff;
+            Schedule schedule = NOT_SCHEDULED;
+            if ((flags & FLAG_SCHEDULED) != 0) {
+                schedule = getSchedule(Time.ofEpochMinutes(data.getLong()), Time.ofEpochMinutes(data.getLong()));
+            }
+            int priorityIndex = flags >>> PRIORITY_SHIFT;
+            if (priorityIndex >= PRIORITIES.length) {
+                throw new IllegalValueException(Priority.MESSAGE_CONSTRAINTS);
+            }
+            Remind remind = (flags & FLAG_REMINDED) != 0 ? REMINDED : NOT_REMINDED;
+            Done done = (flags & FLAG_DONE) != 0 ? DONE : NOT_DONE;
+            assignments.add(new Assignment(name, deadline, moduleCode, remind, schedule, PRIORITIES[priorityIndex],
+                    done));
+        }
+
+        int lessonCount = readCount(data);
+        List<Lesson> lessons = new ArrayList<>(lessonCount);
+        for (int i = 0; i < lessonCount; i++) {
+            Name name = getName(data.getInt(), stringTable, names);
+            ModuleCode moduleCode = getModuleCode(data.getInt(), stringTable, moduleCodes);
+            Time startTime = Time.ofEpochMinutes(data.getLong());
+            Time endTime = Time.ofEpochMinutes(data.getLong());
+            lessons.add(new Lesson(name, startTime, endTime, moduleCode));
+        }
+
+        if (data.hasRemaining()) {
+            throw new IOException("Unexpected data after the lessons");
+        }
+        return new StoredProductiveNus(assignments, lessons, journalSequence);
+    }
+
+    /**
+     * Reads the length of a table or list, which cannot be more than the number of bytes left in {@code data}.
+     */
+    private static int readCount(ByteBuffer data) throws IOException {
+        int count = data.getInt();
+        if (count < 0 || count > data.remaining()) {
+            throw new IOException("Invalid count " + count);
+        }
+        return count;
+    }
+
+    private static String getString(int index, String[] stringTable) throws IOException {
+        if (index < 0 || index >= stringTable.length) {
+            throw new IOException("Invalid string index " + index);
+        }
+        return stringTable[index];
+    }
+
+    private static Name getName(int index, String[] stringTable, Name[] names)
+            throws IOException, IllegalValueException {
+        String name = getString(index, stringTable);
+        if (names[index] == null) {
+            if (!Name.isValidName(name)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            names[index] = new Name(name);
+        }
+        return names[index];
+    }
+
+    private static ModuleCode getModuleCode(int index, String[] stringTable, ModuleCode[] moduleCodes)
+            throws IOException, IllegalValueException {
+        String moduleCode = getString(index, stringTable);
+        if (moduleCodes[index] == null) {
+            if (!ModuleCode.isValidModuleCode(moduleCode)) {
+                throw new IllegalValueException(ModuleCode.MESSAGE_CONSTRAINTS);
+            }
+            moduleCodes[index] = new ModuleCode(moduleCode);
+        }
+        return moduleCodes[index];
+    }
+
+    private static Schedule getSchedule(Time suggestedStartTime, Time suggestedEndTime) throws IllegalValueException {
+        if (!Schedule.isValidSchedule(true, suggestedStartTime, suggestedEndTime)) {
+            throw new IllegalValueException(Schedule.MESSAGE_CONSTRAINTS);
+        }
+        return new Schedule(suggestedStartTime, suggestedEndTime);
+    }
+}
@@ -0,0 +1,538 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.DataFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SyncPolicy;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ProductiveNusSnapshot;
+import seedu.address.model.ReadOnlyProductiveNus;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.lesson.Lesson;
+
+/**
+ * A class to access ProductiveNus data stored on the hard disk as a snapshot, in json or binary format, together with a
+ * journal of the changes made since the snapshot was taken.
+ *
+ * Instead of rewriting the whole file every time data is saved, only the changes made to the assignment and lesson
+ * lists since the last save are appended to the journal, one compact json record per line. Once the records in the
+ * journal have removed or added about as many assignments and lessons as there are, a new snapshot is written and the
+ * journal is started afresh, so the journal never grows much larger than the snapshot.
+ *
+ * Saving does not wait for the disk. The changes are written by a background thread once {@code coalescingWindowMillis}
+ * has passed, together with any other changes saved in the meantime, and a new snapshot replaces any changes and
+ * snapshots still waiting to be written. Use {@link #flush()} to wait for everything saved to be written.
+ *
+ * Every record has a sequence number, and the snapshot remembers the last record it includes, so records that are
+ * left over after a crash while writing a snapshot are skipped when the data is read.
+ */
+public class JournalingProductiveNusStorage implements ProductiveNusStorage {
+
+    public static final String JOURNAL_EXTENSION = ".log";
+    public static final int MIN_CHANGES_BEFORE_COMPACTION = 256;
+    public static final long PERIODIC_SYNC_INTERVAL_MILLIS = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalingProductiveNusStorage.class);
+
+    private final Path filePath;
+    private final SyncPolicy syncPolicy;
+    private final long coalescingWindowMillis;
+    private final DataFormat snapshotFormat;
+    private final int compressionLevel;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Consumer<IOException> saveFailureHandler = exception -> { };
+
+    // only used by the thread saving data
+    private final List<JsonAdaptedListChange> unsavedChanges = new ArrayList<>();
+    private int unsavedChangeSize; // the number of items removed or added by the unsaved changes
+    private final ListChangeListener<Assignment> assignmentListener = this::recordAssignmentChanges;
+    private final ListChangeListener<Lesson> lessonListener = this::recordLessonChanges;
+    private ReadOnlyProductiveNus trackedProductiveNus;
+    private long lastSequence = -1; // not known until the journal is read
+    private int changesSinceSnapshot; // the number of items removed or added since the snapshot
+    private int snapshotSize;
+
+    // waiting to be written, shared with the writer thread
+    private PendingSnapshot pendingSnapshot;
+    private List<JsonAdaptedListChange> pendingChanges = new ArrayList<>();
+    private boolean isWriteScheduled = false;
+
+    // only used by the writer thread
+    private FileChannel journal;
+    private long lastSyncMillis;
+
+    /**
+     * Creates a {@code JournalingProductiveNusStorage} for the data at {@code filePath}, which writes data saved within
+     * {@code coalescingWindowMillis} of each other together, and forces the journal onto the storage device according
+     * to {@code syncPolicy}. Snapshots are written in json format, without compression.
+     */
+    public JournalingProductiveNusStorage(Path filePath, SyncPolicy syncPolicy, long coalescingWindowMillis) {
+        this(filePath, syncPolicy, coalescingWindowMillis, DataFormat.JSON, ProductiveNusFile.NO_COMPRESSION);
+    }
+
+    /**
+     * Similar to {@link #JournalingProductiveNusStorage(Path, SyncPolicy, long)}, but snapshots are written in
+     * {@code snapshotFormat}, compressed at {@code compressionLevel} unless it is 0. Snapshots in either format are
+     * read, whether they are compressed or not. The journal is never compressed.
+     */
+    public JournalingProductiveNusStorage(Path filePath, SyncPolicy syncPolicy, long coalescingWindowMillis,
+            DataFormat snapshotFormat, int compressionLevel) {
+        requireNonNull(filePath);
+        requireNonNull(syncPolicy);
+        requireNonNull(snapshotFormat);
+        this.filePath = filePath;
+        this.syncPolicy = syncPolicy;
+        this.coalescingWindowMillis = Math.max(coalescingWindowMillis, 0);
+        this.snapshotFormat = snapshotFormat;
+        this.compressionLevel = compressionLevel;
+    }
+
+    public Path getProductiveNusFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal of the data at {@code filePath}.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyProductiveNus> readProductiveNus() throws DataConversionException, IOException {
+        return readProductiveNus(filePath);
+    }
+
+    /**
+     * Similar to {@link #readProductiveNus()}.
+     * The changes in the journal are applied to the snapshot, ignoring a last record that was not completely written.
+     * If the snapshot is damaged, its previous generation is read instead, and only the records that follow on from it
+     * are applied.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    public Optional<ReadOnlyProductiveNus> readProductiveNus(Path filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+        try {
+            flush();
+        } catch (IOException e) {
+            // already reported, so the data that was written is read
+        }
+
+        boolean isOwnData = filePath.equals(this.filePath);
+        Optional<StoredProductiveNus> snapshot = ProductiveNusFile.read(filePath);
+        List<JsonAdaptedListChange> changes = readJournal(getJournalPath(filePath), isOwnData);
+        if (!snapshot.isPresent() && changes.isEmpty()) {
+            return Optional.empty();
+        }
+
+        StoredProductiveNus data = snapshot.orElseGet(StoredProductiveNus::new);
+        long sequence = data.getJournalSequence();
+        long maxSequence = sequence;
+        try {
+            for (JsonAdaptedListChange change : changes) {
+                maxSequence = Math.max(maxSequence, change.getSequence());
+                if (change.getSequence() <= sequence) {
+                    continue;
+                }
+                if (change.getSequence() != sequence + 1) {
+                    // such as when the snapshot was damaged and its previous generation was read instead
+                    logger.warning("Ignoring records in journal of " + filePath + " after missing record "
+                            + (sequence + 1));
+                    break;
+                }
+                data.apply(change);
+                sequence = change.getSequence();
+            }
+            ReadOnlyProductiveNus productiveNus = data.toModelType();
+            if (isOwnData) {
+                lastSequence = Math.max(lastSequence, maxSequence);
+            }
+            return Optional.of(productiveNus);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveProductiveNus(ReadOnlyProductiveNus productiveNus) throws IOException {
+        saveProductiveNus(productiveNus, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveProductiveNus(ReadOnlyProductiveNus)}.
+     * Only the changes made to {@code productiveNus} since it was last saved are written, in the background. Data saved
+     * to any location other than the one of this storage is written as a json snapshot without a journal, right away,
+     * so that it can be exported.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveProductiveNus(ReadOnlyProductiveNus productiveNus, Path filePath) throws IOException {
+        requireNonNull(productiveNus);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            ProductiveNusFile.export(filePath, productiveNus);
+            return;
+        }
+
+        if (productiveNus != trackedProductiveNus) {
+            // changes to this ProductiveNus before now are unknown, so all of it has to be written
+            track(productiveNus);
+            queueSnapshot(productiveNus);
+            return;
+        }
+
+        if (unsavedChanges.isEmpty()) {
+            return;
+        }
+        changesSinceSnapshot += unsavedChangeSize;
+        if (changesSinceSnapshot > Math.max(MIN_CHANGES_BEFORE_COMPACTION, snapshotSize)) {
+            queueSnapshot(productiveNus);
+        } else {
+            queueUnsavedChanges();
+        }
+    }
+
+    /**
+     * Waits until all data saved so far has been written.
+     *
+     * @throws IOException if there was any problem writing the data. The data is written again on the next save.
+     */
+    @Override
+    public void flush() throws IOException {
+        try {
+            writer.submit(() -> {
+                writePending();
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for data to be written");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    //// recording changes, on the thread saving data
+
+    /**
+     * Starts recording the changes made to {@code productiveNus} instead of any ProductiveNus recorded before.
+     */
+    private void track(ReadOnlyProductiveNus productiveNus) {
+        if (trackedProductiveNus != null) {
+            trackedProductiveNus.getAssignmentList().removeListener(assignmentListener);
+            trackedProductiveNus.getLessonList().removeListener(lessonListener);
+        }
+        clearUnsavedChanges();
+        if (lastSequence < 0) {
+            lastSequence = findLastSequence();
+        }
+
+        trackedProductiveNus = productiveNus;
+        productiveNus.getAssignmentList().addListener(assignmentListener);
+        productiveNus.getLessonList().addListener(lessonListener);
+    }
+
+    private void recordAssignmentChanges(ListChangeListener.Change<? extends Assignment> change) {
+        while (change.next()) {
+            int removedSize = getRemovedSize(change);
+            List<? extends Assignment> added = getAddedSubList(change);
+            if (removedSize > 0 || !added.isEmpty()) {
+                unsavedChanges.add(JsonAdaptedListChange.ofAssignments(
+                        ++lastSequence, change.getFrom(), removedSize, added));
+                unsavedChangeSize += removedSize + added.size();
+            }
+        }
+    }
+
+    private void recordLessonChanges(ListChangeListener.Change<? extends Lesson> change) {
+        while (change.next()) {
+            int removedSize = getRemovedSize(change);
+            List<? extends Lesson> added = getAddedSubList(change);
+            if (removedSize > 0 || !added.isEmpty()) {
+                unsavedChanges.add(JsonAdaptedListChange.ofLessons(
+                        ++lastSequence, change.getFrom(), removedSize, added));
+                unsavedChangeSize += removedSize + added.size();
+            }
+        }
+    }
+
+    private void clearUnsavedChanges() {
+        unsavedChanges.clear();
+        unsavedChangeSize = 0;
+    }
+
+    /**
+     * Returns the number of items removed by {@code change}. Items that are reordered are removed and added again.
+     */
+    private static int getRemovedSize(ListChangeListener.Change<?> change) {
+        return change.wasPermutated() ? change.getTo() - change.getFrom() : change.getRemovedSize();
+    }
+
+    /**
+     * Returns the items added by {@code change}. Items that are reordered are removed and added again.
+     */
+    private static <T> List<? extends T> getAddedSubList(ListChangeListener.Change<? extends T> change) {
+        return change.wasPermutated()
+                ? new ArrayList<>(change.getList().subList(change.getFrom(), change.getTo()))
+                : change.getAddedSubList();
+    }
+
+    /**
+     * Queues all of {@code productiveNus} to be written as a new snapshot, in place of anything waiting to be written.
+     */
+    private void queueSnapshot(ReadOnlyProductiveNus productiveNus) {
+        // a snapshot takes a sequence number of its own, so records that follow on from it are not applied to another
+        PendingSnapshot snapshot = new PendingSnapshot(ProductiveNusSnapshot.of(productiveNus), ++lastSequence);
+        snapshotSize = productiveNus.getAssignmentList().size() + productiveNus.getLessonList().size();
+        changesSinceSnapshot = 0;
+        clearUnsavedChanges();
+        synchronized (this) {
+            pendingSnapshot = snapshot;
+            pendingChanges.clear();
+            scheduleWrite();
+        }
+    }
+
+    /**
+     * Queues the changes made since the last save to be appended to the journal.
+     */
+    private void queueUnsavedChanges() {
+        synchronized (this) {
+            pendingChanges.addAll(unsavedChanges);
+            scheduleWrite();
+        }
+        clearUnsavedChanges();
+    }
+
+    private synchronized void scheduleWrite() {
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            writer.schedule(this::writePendingInBackground, coalescingWindowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    //// writing data, on the writer thread
+
+    private void writePendingInBackground() {
+        try {
+            writePending();
+        } catch (IOException e) {
+            logger.warning("Failed to save data to " + filePath + ": " + StringUtil.getDetails(e));
+            saveFailureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Writes the snapshot and changes waiting to be written. If this fails, whatever was not written is kept to be
+     * written with the next save, unless a newer snapshot has been queued since.
+     */
+    private void writePending() throws IOException {
+        PendingSnapshot snapshot;
+        List<JsonAdaptedListChange> changes;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            changes = pendingChanges;
+            pendingSnapshot = null;
+            pendingChanges = new ArrayList<>();
+            isWriteScheduled = false;
+        }
+
+        boolean isSnapshotWritten = snapshot == null;
+        try {
+            if (snapshot != null) {
+                writeSnapshot(snapshot);
+                isSnapshotWritten = true;
+            }
+            appendChanges(changes);
+        } catch (IOException e) {
+            synchronized (this) {
+                if (pendingSnapshot == null) {
+                    pendingSnapshot = isSnapshotWritten ? null : snapshot;
+                    changes.addAll(pendingChanges);
+                    pendingChanges = changes;
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Appends {@code changes} to the journal, forcing it onto the storage device if the {@code SyncPolicy} requires
+     * it. If this fails, the journal is left as it was.
+     */
+    private void appendChanges(List<JsonAdaptedListChange> changes) throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        StringBuilder records = new StringBuilder();
+        for (JsonAdaptedListChange change : changes) {
+            records.append(JsonUtil.toCompactJsonString(change)).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(records.toString().getBytes(StandardCharsets.UTF_8));
+
+        FileChannel journal = openJournal();
+        long oldSize = journal.size();
+        try {
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            sync(journal);
+        } catch (IOException e) {
+            journal.truncate(oldSize);
+            throw e;
+        }
+    }
+
+    private FileChannel openJournal() throws IOException {
+        if (journal == null) {
+            FileUtil.createParentDirsOfFile(filePath);
+            journal = FileChannel.open(getJournalPath(filePath),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        return journal;
+    }
+
+    private void closeJournal() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+    }
+
+    private void sync(FileChannel journal) throws IOException {
+        long now = System.currentTimeMillis();
+        if (syncPolicy == SyncPolicy.ALWAYS
+                || (syncPolicy == SyncPolicy.PERIODIC && now - lastSyncMillis >= PERIODIC_SYNC_INTERVAL_MILLIS)) {
+            journal.force(false);
+            lastSyncMillis = now;
+        }
+    }
+
+    /**
+     * Replaces the snapshot with {@code snapshot}, then deletes the journal, as all of its records are in the snapshot.
+     * The old snapshot is only replaced once the new one has been completely written.
+     */
+    private void writeSnapshot(PendingSnapshot snapshot) throws IOException {
+        closeJournal();
+        ProductiveNusFile.write(filePath, snapshot.productiveNus, snapshot.sequence, snapshotFormat,
+                compressionLevel, syncPolicy != SyncPolicy.NEVER);
+        Files.deleteIfExists(getJournalPath(filePath));
+    }
+
+    //// reading the journal
+
+    /**
+     * Returns the changes in the journal at {@code journalPath}. A last record that was not completely written, such as
+     * when the app crashed while writing it, is ignored, and removed if {@code isRepaired} is true.
+     *
+     * @throws DataConversionException if a complete record is not in the correct format.
+     */
+    private static List<JsonAdaptedListChange> readJournal(Path journalPath, boolean isRepaired)
+            throws DataConversionException, IOException {
+        List<JsonAdaptedListChange> changes = new ArrayList<>();
+        if (!Files.exists(journalPath)) {
+            return changes;
+        }
+
+        byte[] bytes = Files.readAllBytes(journalPath);
+        int recordStart = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] != '\n') {
+                continue;
+            }
+            String record = new String(bytes, recordStart, i - recordStart, StandardCharsets.UTF_8);
+            try {
+                changes.add(JsonUtil.fromJsonString(record, JsonAdaptedListChange.class));
+            } catch (IOException e) {
+                logger.warning("Error reading record from journal " + journalPath + ": " + e);
+                throw new DataConversionException(e);
+            }
+            recordStart = i + 1;
+        }
+
+        if (recordStart < bytes.length) {
+            logger.warning("Ignoring incomplete record at the end of journal " + journalPath);
+            if (isRepaired) {
+                try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                    channel.truncate(recordStart);
+                }
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Returns the sequence number of the last change in the snapshot or journal of this storage, or 0 if there is none.
+     * Data that cannot be read is skipped, as it will be replaced by the next snapshot.
+     */
+    private long findLastSequence() {
+        long sequence = 0;
+        try {
+            sequence = ProductiveNusFile.read(filePath)
+                    .map(StoredProductiveNus::getJournalSequence)
+                    .orElse(0L);
+            for (JsonAdaptedListChange change : readJournal(getJournalPath(filePath), true)) {
+                sequence = Math.max(sequence, change.getSequence());
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Problem while reading existing data in " + filePath + ": " + e);
+        }
+        return sequence;
+    }
+
+    /**
+     * A snapshot waiting to be written, along with the sequence number of the last change it includes.
+     */
+    private static class PendingSnapshot {
+        private final ProductiveNusSnapshot productiveNus;
+        private final long sequence;
+
+        PendingSnapshot(ProductiveNusSnapshot productiveNus, long sequence) {
+            this.productiveNus = productiveNus;
+            this.sequence = sequence;
+        }
+    }
+}
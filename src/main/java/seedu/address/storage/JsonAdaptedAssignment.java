@@ -58,13 +58,13 @@ class JsonAdaptedAssignment {
      */
     public JsonAdaptedAssignment(Assignment source) {
         name = source.getName().fullName;
-        deadline = source.getDeadline().value;
+        deadline = source.getDeadline().toString();
         moduleCode = source.getModuleCode().moduleCode;
         isReminded = source.getRemind().isReminded();
         isScheduled = source.getSchedule().isScheduled();
         if (isScheduled) {
-            suggestedStartTime = source.getSchedule().getSuggestedStartTime().value;
-            suggestedEndTime = source.getSchedule().getSuggestedEndTime().value;
+            suggestedStartTime = source.getSchedule().getSuggestedStartTime().toString();
+            suggestedEndTime = source.getSchedule().getSuggestedEndTime().toString();
         } else {
             suggestedStartTime = "";
             suggestedEndTime = "";
@@ -34,9 +34,9 @@ public class JsonAdaptedLesson {
      */
     public JsonAdaptedLesson(Lesson source) {
         name = source.getName().fullName;
-        startTime = source.getTime().value;
+        startTime = source.getTime().toString();
         moduleCode = source.getModuleCode().moduleCode;
-        endTime = source.getEndTime().value;
+        endTime = source.getEndTime().toString();
     }
 
     /**
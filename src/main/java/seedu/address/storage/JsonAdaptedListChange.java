@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.lesson.Lesson;
+
+/**
+ * Jackson-friendly version of a change to the assignment or lesson list, as kept in the journal.
+ * A change removes some consecutive items from the list, then inserts some items at the same position.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+class JsonAdaptedListChange {
+
+    public static final String ASSIGNMENT_LIST = "assignments";
+    public static final String LESSON_LIST = "lessons";
+    public static final String MESSAGE_INVALID_LIST = "Journal record changes an unknown list!";
+    public static final String MESSAGE_INVALID_POSITION = "Journal record changes items that do not exist!";
+
+    private final long sequence;
+    private final String list;
+    private final int index;
+    private final int removed;
+    private final List<JsonAdaptedAssignment> assignments = new ArrayList<>();
+    private final List<JsonAdaptedLesson> lessons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedListChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedListChange(@JsonProperty("sequence") long sequence, @JsonProperty("list") String list,
+                                 @JsonProperty("index") int index, @JsonProperty("removed") int removed,
+                                 @JsonProperty("assignments") List<JsonAdaptedAssignment> assignments,
+                                 @JsonProperty("lessons") List<JsonAdaptedLesson> lessons) {
+        this.sequence = sequence;
+        this.list = list;
+        this.index = index;
+        this.removed = removed;
+        if (assignments != null) {
+            this.assignments.addAll(assignments);
+        }
+        if (lessons != null) {
+            this.lessons.addAll(lessons);
+        }
+    }
+
+    /**
+     * Converts a change that removes {@code removed} assignments at {@code index} and inserts {@code added} in their
+     * place into this class for Jackson use.
+     */
+    public static JsonAdaptedListChange ofAssignments(long sequence, int index, int removed,
+            List<? extends Assignment> added) {
+        return new JsonAdaptedListChange(sequence, ASSIGNMENT_LIST, index, removed,
+                added.stream().map(JsonAdaptedAssignment::new).collect(Collectors.toList()), null);
+    }
+
+    /**
+     * Converts a change that removes {@code removed} lessons at {@code index} and inserts {@code added} in their
+     * place into this class for Jackson use.
+     */
+    public static JsonAdaptedListChange ofLessons(long sequence, int index, int removed, List<? extends Lesson> added) {
+        return new JsonAdaptedListChange(sequence, LESSON_LIST, index, removed, null,
+                added.stream().map(JsonAdaptedLesson::new).collect(Collectors.toList()));
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public List<JsonAdaptedAssignment> getAddedAssignments() {
+        return Collections.unmodifiableList(assignments);
+    }
+
+    public List<JsonAdaptedLesson> getAddedLessons() {
+        return Collections.unmodifiableList(lessons);
+    }
+
+    /**
+     * Returns true if this change is to the lesson list, or false if it is to the assignment list.
+     *
+     * @throws IllegalValueException if this change is to neither list.
+     */
+    public boolean isLessonChange() throws IllegalValueException {
+        if (ASSIGNMENT_LIST.equals(list)) {
+            return false;
+        } else if (LESSON_LIST.equals(list)) {
+            return true;
+        }
+        throw new IllegalValueException(MESSAGE_INVALID_LIST);
+    }
+
+    /**
+     * Removes {@code removed} items at {@code index} of {@code items} and inserts {@code added} in their place.
+     *
+     * @throws IllegalValueException if {@code items} does not have the items to remove.
+     */
+    public <T> void applyTo(List<T> items, List<T> added) throws IllegalValueException {
+        if (index < 0 || removed < 0 || index + removed > items.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_POSITION);
+        }
+        items.subList(index, index + removed).clear();
+        items.addAll(index, added);
+    }
+}
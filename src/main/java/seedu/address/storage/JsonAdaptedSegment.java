@@ -0,0 +1,31 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of an entry in a {@link JsonSerializableSegmentManifest}, naming the file that holds the
+ * assignments and lessons of a module.
+ */
+class JsonAdaptedSegment {
+
+    private final String moduleCode;
+    private final String fileName;
+
+    /**
+     * Constructs a {@code JsonAdaptedSegment} for the segment of {@code moduleCode} stored in {@code fileName}.
+     */
+    @JsonCreator
+    public JsonAdaptedSegment(@JsonProperty("module") String moduleCode, @JsonProperty("file") String fileName) {
+        this.moduleCode = moduleCode;
+        this.fileName = fileName;
+    }
+
+    public String getModuleCode() {
+        return moduleCode;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of a run of consecutive assignments or lessons of the same module, which records where the
+ * items of a segment go when the segments are put back together.
+ */
+class JsonAdaptedSegmentRun {
+
+    private final String moduleCode;
+    private final int count;
+
+    /**
+     * Constructs a {@code JsonAdaptedSegmentRun} of {@code count} items of {@code moduleCode}.
+     */
+    @JsonCreator
+    public JsonAdaptedSegmentRun(@JsonProperty("module") String moduleCode, @JsonProperty("count") int count) {
+        this.moduleCode = moduleCode;
+        this.count = count;
+    }
+
+    public String getModuleCode() {
+        return moduleCode;
+    }
+
+    public int getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,283 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyProductiveNus;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.lesson.Lesson;
+
+/**
+ * Writes and reads the content of ProductiveNus data files in json format.
+ *
+ * Files are streamed one assignment or lesson at a time, so reading or writing them only takes a bounded amount of
+ * memory besides the data itself. Each file ends with a trailer line holding the length and CRC-32 checksum of the
+ * json before it, so a file that was not completely written or has been damaged is noticed. Files without a trailer,
+ * such as those written by older versions, are read as they are.
+ */
+class JsonProductiveNusFile {
+
+    private static final Pattern TRAILER_FORMAT = Pattern.compile("#length=(?<length>\\d+) crc32=(?<crc>[0-9a-f]{8})");
+    private static final int MAX_TRAILER_LENGTH = 64;
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+
+    private JsonProductiveNusFile() {}
+
+    /**
+     * Writes the data in {@code productiveNus}, which includes all changes in the journal up to
+     * {@code journalSequence}, to {@code out} in json format.
+     */
+    public static void write(OutputStream out, ReadOnlyProductiveNus productiveNus, long journalSequence)
+            throws IOException {
+        ChecksummedOutputStream json = new ChecksummedOutputStream(out);
+        JsonGenerator generator = JsonUtil.createCompactGenerator(json);
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("assignments");
+        for (Assignment assignment : productiveNus.getAssignmentList()) {
+            JsonUtil.writeValue(generator, new JsonAdaptedAssignment(assignment));
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("lessons");
+        for (Lesson lesson : productiveNus.getLessonList()) {
+            JsonUtil.writeValue(generator, new JsonAdaptedLesson(lesson));
+        }
+        generator.writeEndArray();
+        if (journalSequence != 0) {
+            generator.writeNumberField("journalSequence", journalSequence);
+        }
+        generator.writeEndObject();
+        generator.close();
+
+        String trailer = String.format("\n#length=%d crc32=%08x\n", json.length, json.crc.getValue());
+        out.write(trailer.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Returns the data in the json file open in {@code channel}.
+     *
+     * @throws IOException if the file is damaged or not completely written.
+     * @throws IllegalValueException if the data in the file is invalid.
+     */
+    public static StoredProductiveNus read(FileChannel channel) throws IOException, IllegalValueException {
+        Trailer trailer = readTrailer(channel);
+        InputStream in = new BufferedInputStream(Channels.newInputStream(channel.position(0)), READ_BUFFER_SIZE);
+        ChecksummedInputStream json = new ChecksummedInputStream(in,
+                trailer == null ? Long.MAX_VALUE : trailer.jsonLength);
+        StoredProductiveNus data;
+        try (JsonParser parser = JsonUtil.createParser(json)) {
+            data = parseContent(parser);
+        }
+
+        if (trailer != null) {
+            json.skipToEnd();
+            if (json.length != trailer.jsonLength || json.crc.getValue() != trailer.crc) {
+                throw new IOException("Data does not match its checksum");
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Returns the data in the json read from {@code in}, which is read to its end. The trailer is not checked, so the
+     * data in {@code in} should be checked by other means, such as the checksum of the compressed file it comes from.
+     *
+     * @throws IOException if the data is not completely written.
+     * @throws IllegalValueException if the data is invalid.
+     */
+    public static StoredProductiveNus read(InputStream in) throws IOException, IllegalValueException {
+        ChecksummedInputStream json = new ChecksummedInputStream(in, Long.MAX_VALUE);
+        StoredProductiveNus data;
+        try (JsonParser parser = JsonUtil.createParser(json)) {
+            data = parseContent(parser);
+        }
+        json.skipToEnd();
+        return data;
+    }
+
+    /**
+     * Returns the trailer of the file open in {@code channel}, or null if the file has no trailer.
+     * Only the end of the file is read.
+     *
+     * @throws IOException if the length of the file does not match its trailer.
+     */
+    private static Trailer readTrailer(FileChannel channel) throws IOException {
+        long fileLength = channel.size();
+        int tailLength = (int) Math.min(fileLength, MAX_TRAILER_LENGTH);
+        ByteBuffer tail = ByteBuffer.allocate(tailLength);
+        channel.position(fileLength - tailLength);
+        while (tail.hasRemaining() && channel.read(tail) >= 0) {
+            // reads until the buffer is full
+        }
+        String tailText = new String(tail.array(), 0, tail.position(), StandardCharsets.US_ASCII);
+
+        int trailerStart = tailText.lastIndexOf('\n', tailText.length() - 2) + 1;
+        if (!tailText.endsWith("\n") || trailerStart == 0) {
+            return null;
+        }
+        Matcher matcher = TRAILER_FORMAT.matcher(tailText.substring(trailerStart, tailText.length() - 1));
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        long jsonLength = fileLength - tailLength + trailerStart - 1;
+        if (!matcher.group("length").equals(Long.toString(jsonLength))) {
+            throw new IOException("Expected " + matcher.group("length") + " bytes of data but found " + jsonLength);
+        }
+        return new Trailer(jsonLength, Long.parseLong(matcher.group("crc"), 16));
+    }
+
+    private static StoredProductiveNus parseContent(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected the data to be a json object");
+        }
+
+        // assignments and lessons are converted in the background while the rest of the file is read
+        ParallelConverter<JsonAdaptedAssignment, Assignment> assignments =
+                new ParallelConverter<>("Assignment", JsonAdaptedAssignment::toModelType);
+        ParallelConverter<JsonAdaptedLesson, Lesson> lessons =
+                new ParallelConverter<>("Lesson", JsonAdaptedLesson::toModelType);
+        long journalSequence = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (fieldName.equals("assignments") && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    assignments.add(JsonUtil.readValue(parser, JsonAdaptedAssignment.class));
+                }
+            } else if (fieldName.equals("lessons") && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    lessons.add(JsonUtil.readValue(parser, JsonAdaptedLesson.class));
+                }
+            } else if (fieldName.equals("journalSequence") && value == JsonToken.VALUE_NUMBER_INT) {
+                journalSequence = parser.getLongValue();
+            } else {
+                // unknown fields are ignored, like other json files of the app
+                parser.skipChildren();
+            }
+        }
+        return new StoredProductiveNus(assignments.getResults(), lessons.getResults(), journalSequence);
+    }
+
+    /**
+     * The length and checksum of the json in a file, as stated by its trailer.
+     */
+    private static class Trailer {
+        private final long jsonLength;
+        private final long crc;
+
+        Trailer(long jsonLength, long crc) {
+            this.jsonLength = jsonLength;
+            this.crc = crc;
+        }
+    }
+
+    /**
+     * An output stream that keeps the length and checksum of what is written through it.
+     */
+    private static class ChecksummedOutputStream extends FilterOutputStream {
+        private final CRC32 crc = new CRC32();
+        private long length = 0;
+
+        ChecksummedOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            crc.update(b);
+            length++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            crc.update(b, off, len);
+            length += len;
+        }
+
+        @Override
+        public void close() {
+            // the trailer is still to be written to the underlying stream
+        }
+    }
+
+    /**
+     * An input stream that ends after {@code limit} bytes, keeping the length and checksum of what is read through it.
+     */
+    private static class ChecksummedInputStream extends FilterInputStream {
+        private final CRC32 crc = new CRC32();
+        private final long limit;
+        private long length = 0;
+
+        ChecksummedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (length >= limit) {
+                return -1;
+            }
+            int b = in.read();
+            if (b >= 0) {
+                crc.update(b);
+                length++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (length >= limit) {
+                return -1;
+            }
+            int count = in.read(b, off, (int) Math.min(len, limit - length));
+            if (count > 0) {
+                crc.update(b, off, count);
+                length += count;
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            byte[] skipped = new byte[(int) Math.min(n, READ_BUFFER_SIZE)];
+            return Math.max(read(skipped, 0, skipped.length), 0);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        /**
+         * Reads the rest of the stream, such as whitespace after the json, so that it is included in the checksum.
+         */
+        void skipToEnd() throws IOException {
+            byte[] buffer = new byte[READ_BUFFER_SIZE];
+            while (read(buffer, 0, buffer.length) >= 0) {
+                // reads until the end of the stream
+            }
+        }
+    }
+}
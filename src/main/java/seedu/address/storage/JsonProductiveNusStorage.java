@@ -5,13 +5,13 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.DataFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyProductiveNus;
 
 /**
@@ -45,8 +45,7 @@ public class JsonProductiveNusStorage implements ProductiveNusStorage {
     public Optional<ReadOnlyProductiveNus> readProductiveNus(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableProductiveNus> jsonProductiveNus = JsonUtil.readJsonFile(
-                filePath, JsonSerializableProductiveNus.class);
+        Optional<StoredProductiveNus> jsonProductiveNus = ProductiveNusFile.read(filePath);
         if (!jsonProductiveNus.isPresent()) {
             return Optional.empty();
         }
@@ -66,6 +65,7 @@ public class JsonProductiveNusStorage implements ProductiveNusStorage {
 
     /**
      * Similar to {@link #saveProductiveNus(ReadOnlyProductiveNus)}.
+     * Data saved to any location other than the one of this storage is exported, without keeping the file it replaces.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +73,25 @@ public class JsonProductiveNusStorage implements ProductiveNusStorage {
         requireNonNull(productiveNus);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableProductiveNus(productiveNus), filePath);
+        if (!filePath.equals(this.filePath)) {
+            ProductiveNusFile.export(filePath, productiveNus);
+            return;
+        }
+        ProductiveNusFile.write(filePath, productiveNus, 0, DataFormat.JSON, ProductiveNusFile.NO_COMPRESSION, true);
+    }
+
+    /**
+     * Does nothing, as data is written as soon as it is saved.
+     */
+    @Override
+    public void flush() {}
+
+    /**
+     * Does nothing, as problems writing data are thrown as soon as it is saved.
+     */
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
     }
 
 }
@@ -50,22 +50,18 @@ class JsonSerializableProductiveNus {
 
     /**
      * Converts this ProductiveNus into the model's {@code ProductiveNus} object.
+     * Assignments and lessons are converted in parallel, and every invalid one is reported.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public ProductiveNus toModelType() throws IllegalValueException {
-        ProductiveNus productiveNus = new ProductiveNus();
-        for (JsonAdaptedAssignment jsonAdaptedAssignment : assignments) {
-            Assignment assignment = jsonAdaptedAssignment.toModelType();
-            if (productiveNus.hasAssignment(assignment)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ASSIGNMENT);
-            }
-            productiveNus.addAssignment(assignment);
-        }
-        for (JsonAdaptedLesson jsonAdaptedLesson : lessons) {
-            Lesson lesson = jsonAdaptedLesson.toModelType();
-            productiveNus.addLesson(lesson);
-        }
-        return productiveNus;
+        ParallelConverter<JsonAdaptedAssignment, Assignment> assignmentConverter =
+                new ParallelConverter<>("Assignment", JsonAdaptedAssignment::toModelType);
+        assignments.forEach(assignmentConverter::add);
+        ParallelConverter<JsonAdaptedLesson, Lesson> lessonConverter =
+                new ParallelConverter<>("Lesson", JsonAdaptedLesson::toModelType);
+        lessons.forEach(lessonConverter::add);
+        return new StoredProductiveNus(assignmentConverter.getResults(), lessonConverter.getResults(), 0)
+                .toModelType();
     }
 }
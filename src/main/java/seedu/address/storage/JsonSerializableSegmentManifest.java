@@ -0,0 +1,48 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The manifest of ProductiveNus data stored as one segment file per module, which is serializable to JSON format.
+ * It names the file of each segment, and records the order of the assignments and lessons across all segments.
+ */
+class JsonSerializableSegmentManifest {
+
+    private final List<JsonAdaptedSegment> segments = new ArrayList<>();
+    private final List<JsonAdaptedSegmentRun> assignmentOrder = new ArrayList<>();
+    private final List<JsonAdaptedSegmentRun> lessonOrder = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableSegmentManifest} with the given segments and order of items.
+     */
+    @JsonCreator
+    public JsonSerializableSegmentManifest(@JsonProperty("segments") List<JsonAdaptedSegment> segments,
+            @JsonProperty("assignmentOrder") List<JsonAdaptedSegmentRun> assignmentOrder,
+            @JsonProperty("lessonOrder") List<JsonAdaptedSegmentRun> lessonOrder) {
+        if (segments != null) {
+            this.segments.addAll(segments);
+        }
+        if (assignmentOrder != null) {
+            this.assignmentOrder.addAll(assignmentOrder);
+        }
+        if (lessonOrder != null) {
+            this.lessonOrder.addAll(lessonOrder);
+        }
+    }
+
+    public List<JsonAdaptedSegment> getSegments() {
+        return segments;
+    }
+
+    public List<JsonAdaptedSegmentRun> getAssignmentOrder() {
+        return assignmentOrder;
+    }
+
+    public List<JsonAdaptedSegmentRun> getLessonOrder() {
+        return lessonOrder;
+    }
+}
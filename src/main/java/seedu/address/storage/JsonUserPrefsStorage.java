@@ -10,11 +10,13 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 
 /**
- * A class to access UserPrefs stored in the hard disk as a json file
+ * A class to access UserPrefs stored in the hard disk as a json file.
+ * UserPrefs that are the same as those last read from or saved to the file are not written again.
  */
 public class JsonUserPrefsStorage implements UserPrefsStorage {
 
     private Path filePath;
+    private UserPrefs savedPrefs;
 
     public JsonUserPrefsStorage(Path filePath) {
         this.filePath = filePath;
@@ -27,7 +29,9 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
 
     @Override
     public Optional<UserPrefs> readUserPrefs() throws DataConversionException {
-        return readUserPrefs(filePath);
+        Optional<UserPrefs> prefs = readUserPrefs(filePath);
+        savedPrefs = prefs.map(UserPrefs::new).orElse(null);
+        return prefs;
     }
 
     /**
@@ -41,7 +45,11 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
 
     @Override
     public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        if (userPrefs.equals(savedPrefs)) {
+            return;
+        }
         JsonUtil.saveJsonFile(userPrefs, filePath);
+        savedPrefs = new UserPrefs(userPrefs);
     }
 
 }
@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts json-adapted items, such as assignments or lessons, into their model types on the common fork-join pool.
+ *
+ * Items are added one at a time, as they are read. Every {@link #CHUNK_SIZE} items are converted together in the
+ * background while more items are read, and the last items are converted by the thread that calls
+ * {@link #getResults()}. All items are converted even if some of them are invalid, so that the position and problem of
+ * every invalid item can be reported together.
+ *
+ * @param <A> the type of the json-adapted items.
+ * @param <T> the model type they are converted into.
+ */
+class ParallelConverter<A, T> {
+
+    public static final int CHUNK_SIZE = 1024;
+    public static final int MAX_REPORTED_ERRORS = 10;
+    public static final String MESSAGE_INVALID_ITEM = "%s %d: %s";
+    public static final String MESSAGE_MORE_ERRORS = "and %d more invalid %s(s)";
+
+    private final String itemName;
+    private final Converter<A, T> converter;
+    private final List<ForkJoinTask<Chunk<T>>> convertingChunks = new ArrayList<>();
+    private List<A> unconvertedItems = new ArrayList<>();
+    private int itemCount = 0;
+
+    /**
+     * Creates a {@code ParallelConverter} that converts items with {@code converter}.
+     *
+     * @param itemName the name of the items, such as "Assignment", which is used to report invalid items.
+     */
+    public ParallelConverter(String itemName, Converter<A, T> converter) {
+        requireNonNull(itemName);
+        requireNonNull(converter);
+        this.itemName = itemName;
+        this.converter = converter;
+    }
+
+    /**
+     * Adds {@code item} to be converted after the items added before it.
+     */
+    public void add(A item) {
+        requireNonNull(item);
+        unconvertedItems.add(item);
+        itemCount++;
+        if (unconvertedItems.size() == CHUNK_SIZE) {
+            List<A> chunk = unconvertedItems;
+            int firstIndex = itemCount - chunk.size();
+            convertingChunks.add(ForkJoinPool.commonPool().submit(() -> convert(chunk, firstIndex)));
+            unconvertedItems = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Returns all the items added, converted into their model types and in the order they were added.
+     *
+     * @throws IllegalValueException if any of the items is invalid. Its message lists the position and problem of the
+     *     first {@link #MAX_REPORTED_ERRORS} invalid items.
+     */
+    public List<T> getResults() throws IllegalValueException {
+        Chunk<T> lastChunk = convert(unconvertedItems, itemCount - unconvertedItems.size());
+        List<T> results = new ArrayList<>(itemCount);
+        List<String> errors = new ArrayList<>();
+        for (ForkJoinTask<Chunk<T>> convertingChunk : convertingChunks) {
+            Chunk<T> chunk = convertingChunk.join();
+            results.addAll(chunk.results);
+            errors.addAll(chunk.errors);
+        }
+        results.addAll(lastChunk.results);
+        errors.addAll(lastChunk.errors);
+
+        if (!errors.isEmpty()) {
+            throw new IllegalValueException(getErrorMessage(errors));
+        }
+        return results;
+    }
+
+    private Chunk<T> convert(List<A> items, int firstIndex) {
+        Chunk<T> chunk = new Chunk<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            try {
+                chunk.results.add(converter.toModelType(items.get(i)));
+            } catch (IllegalValueException | IllegalArgumentException e) {
+                chunk.errors.add(String.format(MESSAGE_INVALID_ITEM, itemName, firstIndex + i + 1, e.getMessage()));
+            }
+        }
+        return chunk;
+    }
+
+    private String getErrorMessage(List<String> errors) {
+        StringBuilder message = new StringBuilder();
+        for (String error : errors.subList(0, Math.min(errors.size(), MAX_REPORTED_ERRORS))) {
+            message.append(error).append('\n');
+        }
+        if (errors.size() > MAX_REPORTED_ERRORS) {
+            message.append(String.format(MESSAGE_MORE_ERRORS, errors.size() - MAX_REPORTED_ERRORS,
+                    itemName.toLowerCase()));
+        }
+        return message.toString().trim();
+    }
+
+    /**
+     * Converts a json-adapted item into its model type.
+     */
+    @FunctionalInterface
+    public interface Converter<A, T> {
+        T toModelType(A item) throws IllegalValueException;
+    }
+
+    /**
+     * The results of converting a chunk of items, and the problems with those that could not be converted.
+     */
+    private static class Chunk<T> {
+        private final List<T> results;
+        private final List<String> errors = new ArrayList<>();
+
+        Chunk(int size) {
+            results = new ArrayList<>(size);
+        }
+    }
+}
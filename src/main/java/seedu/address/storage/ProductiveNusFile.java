@@ -0,0 +1,157 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+
+import seedu.address.commons.core.DataFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyProductiveNus;
+
+/**
+ * Writes and reads ProductiveNus data files, in json or binary format, optionally compressed in gzip format.
+ *
+ * Files are replaced in one step, and the file that was replaced is kept as the previous generation, which is read
+ * instead if the file is damaged. Exported files are replaced in one step too, but no previous generation is kept.
+ * The format and compression of a file are told apart by its first bytes when it is read, so a file can be read
+ * however it was written. Compressed files are decompressed as they are read.
+ */
+class ProductiveNusFile {
+
+    public static final String PREVIOUS_GENERATION_EXTENSION = ".bak";
+    public static final int NO_COMPRESSION = 0;
+
+    private static final Logger logger = LogsCenter.getLogger(ProductiveNusFile.class);
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+
+    private ProductiveNusFile() {}
+
+    public static Path getPreviousGenerationPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + PREVIOUS_GENERATION_EXTENSION);
+    }
+
+    /**
+     * Replaces the file at {@code filePath} with the data in {@code productiveNus} in the given {@code format}. The
+     * data includes all changes in the journal up to {@code journalSequence}. The file it replaces is kept as the
+     * previous generation once the new file has been written, and the file is never left partly written.
+     *
+     * @param compressionLevel {@link #NO_COMPRESSION}, or the gzip compression level from 1 (fastest) to 9 (smallest).
+     * @param isSynced whether the data is forced onto the storage device before the old file is replaced.
+     */
+    public static void write(Path filePath, ReadOnlyProductiveNus productiveNus, long journalSequence,
+            DataFormat format, int compressionLevel, boolean isSynced) throws IOException {
+        write(filePath, productiveNus, journalSequence, format, compressionLevel, isSynced,
+                getPreviousGenerationPath(filePath));
+    }
+
+    private static void write(Path filePath, ReadOnlyProductiveNus productiveNus, long journalSequence,
+            DataFormat format, int compressionLevel, boolean isSynced, Path previousGenerationPath)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(productiveNus);
+        requireNonNull(format);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.ContentWriter contentWriter;
+        if (format == DataFormat.BINARY) {
+            contentWriter = out -> BinaryProductiveNusFile.write(out, productiveNus, journalSequence);
+        } else {
+            contentWriter = out -> JsonProductiveNusFile.write(out, productiveNus, journalSequence);
+        }
+        if (compressionLevel != NO_COMPRESSION) {
+            contentWriter = FileUtil.compressing(contentWriter, compressionLevel);
+        }
+        FileUtil.writeToFileAtomically(filePath, contentWriter, isSynced, previousGenerationPath);
+    }
+
+    /**
+     * Replaces the file at {@code filePath} with the data in {@code productiveNus} as uncompressed json, so that it
+     * can be read elsewhere. Unlike {@link #write}, the file it replaces is not kept.
+     */
+    public static void export(Path filePath, ReadOnlyProductiveNus productiveNus) throws IOException {
+        write(filePath, productiveNus, 0, DataFormat.JSON, NO_COMPRESSION, true, null);
+    }
+
+    /**
+     * Returns the data in the file at {@code filePath}, or {@code Optional.empty()} if there is no such file.
+     * If the file is missing or damaged, the data in the previous generation of the file is returned instead.
+     *
+     * @throws DataConversionException if neither the file nor its previous generation can be read.
+     */
+    public static Optional<StoredProductiveNus> read(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        Path previousPath = getPreviousGenerationPath(filePath);
+
+        if (!Files.exists(filePath)) {
+            if (!Files.exists(previousPath)) {
+                logger.info("Data file " + filePath + " not found");
+                return Optional.empty();
+            }
+            // the app stopped after moving the file aside, where it cannot be linked, before the new one took its place
+            logger.warning("Data file " + filePath + " not found, reading the previous generation " + previousPath);
+            return Optional.of(readFile(previousPath));
+        }
+
+        try {
+            return Optional.of(readFile(filePath));
+        } catch (DataConversionException e) {
+            if (!Files.exists(previousPath)) {
+                throw e;
+            }
+            logger.warning("Data file " + filePath + " could not be read, reading the previous generation "
+                    + previousPath);
+            try {
+                return Optional.of(readFile(previousPath));
+            } catch (DataConversionException previousException) {
+                e.addSuppressed(previousException);
+                throw e;
+            }
+        }
+    }
+
+    private static StoredProductiveNus readFile(Path filePath) throws DataConversionException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (FileUtil.isCompressed(channel)) {
+                return readCompressed(channel);
+            }
+            if (BinaryProductiveNusFile.isBinary(channel)) {
+                return BinaryProductiveNusFile.read(channel);
+            }
+            return JsonProductiveNusFile.read(channel);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the data in the compressed file open in {@code channel}.
+     * The whole file is decompressed, so that the checksum of the compressed data is checked.
+     */
+    private static StoredProductiveNus readCompressed(FileChannel channel) throws IOException, IllegalValueException {
+        InputStream in = new BufferedInputStream(
+                new GZIPInputStream(Channels.newInputStream(channel.position(0)), READ_BUFFER_SIZE), READ_BUFFER_SIZE);
+        in.mark(Integer.BYTES);
+        byte[] start = new byte[Integer.BYTES];
+        int startLength = in.read(start);
+        in.reset();
+        if (startLength == Integer.BYTES && ByteBuffer.wrap(start).getInt() == BinaryProductiveNusFile.MAGIC) {
+            return BinaryProductiveNusFile.read(in);
+        }
+        return JsonProductiveNusFile.read(in);
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyProductiveNus;
@@ -42,4 +43,16 @@ public interface ProductiveNusStorage {
      */
     void saveProductiveNus(ReadOnlyProductiveNus addressBook, Path filePath) throws IOException;
 
+    /**
+     * Waits until all data saved so far has been written, for storages that write data in the background.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Sets the handler to be notified of problems writing data in the background, on the thread writing the data.
+     * @param saveFailureHandler cannot be null.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
 }
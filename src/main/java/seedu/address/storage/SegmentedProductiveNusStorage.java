@@ -0,0 +1,535 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.DataFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SyncPolicy;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ProductiveNus;
+import seedu.address.model.ProductiveNusSnapshot;
+import seedu.address.model.ReadOnlyProductiveNus;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.task.Task;
+
+/**
+ * A class to access ProductiveNus data stored on the hard disk as one segment file per module, together with a
+ * manifest naming the file of each module.
+ *
+ * When data is saved, only the segments of modules whose assignments or lessons changed since they were last read or
+ * written are written, each to a new file. The manifest is then replaced in one step, and the files it no longer names
+ * are deleted, so the data is never left half saved. Segments are read in parallel.
+ *
+ * Saving does not wait for the disk. A snapshot of the data is written by a background thread once
+ * {@code coalescingWindowMillis} has passed, in place of any data saved in the meantime. Unless the {@code SyncPolicy}
+ * is {@code NEVER}, every segment and manifest written is forced onto the storage device before it replaces the old
+ * one, as a manifest naming a segment that was lost would lose all the data of its module. Use {@link #flush()} to
+ * wait for everything saved to be written.
+ *
+ * If there is no manifest yet, the data in the single data file at the same location, with its journal, is read
+ * instead, so that it is moved into segments the next time data is saved.
+ */
+public class SegmentedProductiveNusStorage implements ProductiveNusStorage {
+
+    public static final String SEGMENTS_DIRECTORY_EXTENSION = ".segments";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String SEGMENT_FILE_PREFIX = "segment-";
+    public static final String MESSAGE_INVALID_MANIFEST = "The manifest does not match the segments it names.";
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedProductiveNusStorage.class);
+
+    private final Path filePath;
+    private final SyncPolicy syncPolicy;
+    private final long coalescingWindowMillis;
+    private final DataFormat segmentFormat;
+    private final int compressionLevel;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "segment-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Consumer<IOException> saveFailureHandler = exception -> { };
+
+    // waiting to be written, shared with the writer thread
+    private final Object pendingLock = new Object();
+    private ProductiveNusSnapshot pendingSnapshot;
+    private boolean isWriteScheduled = false;
+
+    // only used while holding the lock of this storage
+    // what each module's segment held when it was last read or written, or null if that is not known
+    private Map<String, Segment> savedSegments;
+    private long nextSegmentId = -1; // not known until the segments directory is listed
+
+    /**
+     * Creates a {@code SegmentedProductiveNusStorage} for the data at {@code filePath}, which writes segments in
+     * {@code segmentFormat}, compressed at {@code compressionLevel} unless it is 0. Data is written as soon as the
+     * writer thread can, and always forced onto the storage device.
+     */
+    public SegmentedProductiveNusStorage(Path filePath, DataFormat segmentFormat, int compressionLevel) {
+        this(filePath, SyncPolicy.ALWAYS, 0, segmentFormat, compressionLevel);
+    }
+
+    /**
+     * Similar to {@link #SegmentedProductiveNusStorage(Path, DataFormat, int)}, but data saved within
+     * {@code coalescingWindowMillis} of each other is written together, and forced onto the storage device unless
+     * {@code syncPolicy} is {@code NEVER}.
+     */
+    public SegmentedProductiveNusStorage(Path filePath, SyncPolicy syncPolicy, long coalescingWindowMillis,
+            DataFormat segmentFormat, int compressionLevel) {
+        requireNonNull(filePath);
+        requireNonNull(syncPolicy);
+        requireNonNull(segmentFormat);
+        this.filePath = filePath;
+        this.syncPolicy = syncPolicy;
+        this.coalescingWindowMillis = Math.max(coalescingWindowMillis, 0);
+        this.segmentFormat = segmentFormat;
+        this.compressionLevel = compressionLevel;
+    }
+
+    public Path getProductiveNusFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the directory that holds the segments and manifest of the data at {@code filePath}.
+     */
+    public static Path getSegmentsDirectory(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SEGMENTS_DIRECTORY_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyProductiveNus> readProductiveNus() throws DataConversionException, IOException {
+        return readProductiveNus(filePath);
+    }
+
+    /**
+     * Similar to {@link #readProductiveNus()}.
+     * Data at any location other than the one of this storage is read as a single data file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the manifest or any segment is not in the correct format.
+     */
+    public Optional<ReadOnlyProductiveNus> readProductiveNus(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            return new JsonProductiveNusStorage(filePath).readProductiveNus();
+        }
+
+        try {
+            flush();
+        } catch (IOException e) {
+            // already reported, so the data that was written is read
+        }
+        return readSegmentedData();
+    }
+
+    private synchronized Optional<ReadOnlyProductiveNus> readSegmentedData()
+            throws DataConversionException, IOException {
+        Path manifestPath = getSegmentsDirectory(filePath).resolve(MANIFEST_FILE_NAME);
+        Optional<JsonSerializableSegmentManifest> manifest =
+                JsonUtil.readJsonFile(manifestPath, JsonSerializableSegmentManifest.class);
+        if (!manifest.isPresent()) {
+            logger.info("Segment manifest " + manifestPath + " not found, reading the data file " + filePath);
+            savedSegments = null;
+            return new JournalingProductiveNusStorage(filePath, SyncPolicy.NEVER, 0).readProductiveNus();
+        }
+
+        Map<String, Segment> segments = readSegments(manifest.get());
+        Map<String, List<Assignment>> assignmentsByModule = new LinkedHashMap<>();
+        Map<String, List<Lesson>> lessonsByModule = new LinkedHashMap<>();
+        for (Map.Entry<String, Segment> segment : segments.entrySet()) {
+            assignmentsByModule.put(segment.getKey(), segment.getValue().assignments);
+            lessonsByModule.put(segment.getKey(), segment.getValue().lessons);
+        }
+        try {
+            List<Assignment> assignments = mergeSegments(manifest.get().getAssignmentOrder(), assignmentsByModule);
+            List<Lesson> lessons = mergeSegments(manifest.get().getLessonOrder(), lessonsByModule);
+            ProductiveNus productiveNus = new StoredProductiveNus(assignments, lessons, 0).toModelType();
+            savedSegments = segments;
+            return Optional.of(productiveNus);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads the segments named by {@code manifest} in parallel, and returns them by module code.
+     */
+    private Map<String, Segment> readSegments(JsonSerializableSegmentManifest manifest)
+            throws DataConversionException, IOException {
+        Path directory = getSegmentsDirectory(filePath);
+        Set<String> moduleCodes = new HashSet<>();
+        Map<String, ForkJoinTask<Optional<StoredProductiveNus>>> reads = new LinkedHashMap<>();
+        for (JsonAdaptedSegment segment : manifest.getSegments()) {
+            if (segment.getModuleCode() == null || !moduleCodes.add(segment.getModuleCode())
+                    || !isSegmentFileName(segment.getFileName()) || reads.containsKey(segment.getFileName())) {
+                throw new DataConversionException(new IllegalValueException(MESSAGE_INVALID_MANIFEST));
+            }
+            Path segmentPath = directory.resolve(segment.getFileName());
+            reads.put(segment.getFileName(),
+                    ForkJoinPool.commonPool().submit(() -> ProductiveNusFile.read(segmentPath)));
+        }
+
+        Map<String, Segment> segments = new LinkedHashMap<>();
+        for (JsonAdaptedSegment segment : manifest.getSegments()) {
+            StoredProductiveNus data = getReadResult(reads.get(segment.getFileName()))
+                    .orElseThrow(() -> new DataConversionException(
+                            new IOException("Segment file " + segment.getFileName() + " not found")));
+            segments.put(segment.getModuleCode(),
+                    new Segment(segment.getFileName(), data.getAssignments(), data.getLessons()));
+        }
+        return segments;
+    }
+
+    /**
+     * Returns true if {@code fileName} is the name of a segment file in the segments directory.
+     */
+    private static boolean isSegmentFileName(String fileName) {
+        return fileName != null && fileName.startsWith(SEGMENT_FILE_PREFIX) && fileName.indexOf('/') < 0
+                && fileName.indexOf('\\') < 0;
+    }
+
+    private static Optional<StoredProductiveNus> getReadResult(ForkJoinTask<Optional<StoredProductiveNus>> read)
+            throws DataConversionException, IOException {
+        try {
+            return read.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while reading segments");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DataConversionException) {
+                throw (DataConversionException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Puts the assignments, or the lessons, of each module in {@code itemsByModule} back in the order recorded by
+     * {@code order}.
+     *
+     * @throws IllegalValueException if {@code order} does not account for exactly the items of the modules.
+     */
+    private static <T> List<T> mergeSegments(List<JsonAdaptedSegmentRun> order, Map<String, List<T>> itemsByModule)
+            throws IllegalValueException {
+        Map<String, Iterator<T>> remainingItems = new LinkedHashMap<>();
+        for (Map.Entry<String, List<T>> items : itemsByModule.entrySet()) {
+            remainingItems.put(items.getKey(), items.getValue().iterator());
+        }
+
+        List<T> merged = new ArrayList<>();
+        for (JsonAdaptedSegmentRun run : order) {
+            Iterator<T> items = remainingItems.get(run.getModuleCode());
+            if (items == null) {
+                throw new IllegalValueException(MESSAGE_INVALID_MANIFEST);
+            }
+            for (int i = 0; i < run.getCount(); i++) {
+                if (!items.hasNext()) {
+                    throw new IllegalValueException(MESSAGE_INVALID_MANIFEST);
+                }
+                merged.add(items.next());
+            }
+        }
+        for (Iterator<T> items : remainingItems.values()) {
+            if (items.hasNext()) {
+                throw new IllegalValueException(MESSAGE_INVALID_MANIFEST);
+            }
+        }
+        return merged;
+    }
+
+    @Override
+    public void saveProductiveNus(ReadOnlyProductiveNus productiveNus) throws IOException {
+        saveProductiveNus(productiveNus, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveProductiveNus(ReadOnlyProductiveNus)}.
+     * Only the segments of modules that changed are written, in the background. Data saved to any location other than
+     * the one of this storage is written as a single json data file right away, so that it can be exported.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveProductiveNus(ReadOnlyProductiveNus productiveNus, Path filePath) throws IOException {
+        requireNonNull(productiveNus);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            ProductiveNusFile.export(filePath, productiveNus);
+            return;
+        }
+
+        // only the latest data has to be written, so it replaces any data still waiting to be written
+        ProductiveNusSnapshot snapshot = ProductiveNusSnapshot.of(productiveNus);
+        synchronized (pendingLock) {
+            pendingSnapshot = snapshot;
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                writer.schedule(this::writePendingInBackground, coalescingWindowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Waits until all data saved so far has been written.
+     *
+     * @throws IOException if there was any problem writing the data. The data is written again on the next save.
+     */
+    @Override
+    public void flush() throws IOException {
+        try {
+            writer.submit(() -> {
+                writePending();
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for data to be written");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    //// writing data, on the writer thread
+
+    private void writePendingInBackground() {
+        try {
+            writePending();
+        } catch (IOException e) {
+            logger.warning("Failed to save data to " + filePath + ": " + StringUtil.getDetails(e));
+            saveFailureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Writes the data waiting to be written. If this fails, the data is kept to be written with the next save, unless
+     * newer data has been saved since.
+     */
+    private synchronized void writePending() throws IOException {
+        ProductiveNusSnapshot snapshot;
+        synchronized (pendingLock) {
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+            isWriteScheduled = false;
+        }
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            writeSegments(snapshot);
+        } catch (IOException e) {
+            synchronized (pendingLock) {
+                if (pendingSnapshot == null) {
+                    pendingSnapshot = snapshot;
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the segments of the modules in {@code productiveNus} that changed since they were last read or written,
+     * then replaces the manifest.
+     */
+    private void writeSegments(ReadOnlyProductiveNus productiveNus) throws IOException {
+        Path directory = getSegmentsDirectory(filePath);
+        Files.createDirectories(directory);
+        if (nextSegmentId < 0) {
+            nextSegmentId = findNextSegmentId(directory);
+        }
+
+        Map<String, List<Assignment>> assignmentsByModule = new LinkedHashMap<>();
+        List<JsonAdaptedSegmentRun> assignmentOrder = groupByModule(productiveNus.getAssignmentList(),
+                assignmentsByModule);
+        Map<String, List<Lesson>> lessonsByModule = new LinkedHashMap<>();
+        List<JsonAdaptedSegmentRun> lessonOrder = groupByModule(productiveNus.getLessonList(), lessonsByModule);
+        Set<String> moduleCodes = new LinkedHashSet<>(assignmentsByModule.keySet());
+        moduleCodes.addAll(lessonsByModule.keySet());
+
+        Map<String, Segment> segments = new LinkedHashMap<>();
+        List<JsonAdaptedSegment> manifestSegments = new ArrayList<>();
+        int writtenCount = 0;
+        for (String moduleCode : moduleCodes) {
+            List<Assignment> assignments = assignmentsByModule.getOrDefault(moduleCode, Collections.emptyList());
+            List<Lesson> lessons = lessonsByModule.getOrDefault(moduleCode, Collections.emptyList());
+            Segment segment = savedSegments == null ? null : savedSegments.get(moduleCode);
+            if (segment == null || !isSameItems(segment.assignments, assignments)
+                    || !isSameItems(segment.lessons, lessons)) {
+                segment = writeSegment(directory, assignments, lessons);
+                writtenCount++;
+            }
+            segments.put(moduleCode, segment);
+            manifestSegments.add(new JsonAdaptedSegment(moduleCode, segment.fileName));
+        }
+
+        // the manifest is replaced in one step, so it names either all the old segments or all the new ones
+        String manifest = JsonUtil.toJsonString(
+                new JsonSerializableSegmentManifest(manifestSegments, assignmentOrder, lessonOrder));
+        FileUtil.writeToFileAtomically(directory.resolve(MANIFEST_FILE_NAME),
+                manifest.getBytes(StandardCharsets.UTF_8), isSynced());
+        savedSegments = segments;
+        logger.fine("Wrote " + writtenCount + " of " + segments.size() + " segments of " + filePath);
+        deleteUnusedSegments(directory, segments);
+    }
+
+    /**
+     * Groups {@code items} by module code into {@code groups}, and returns the runs of consecutive items of the same
+     * module, which record the order of the items across all groups.
+     */
+    private static <T extends Task> List<JsonAdaptedSegmentRun> groupByModule(List<T> items,
+            Map<String, List<T>> groups) {
+        List<JsonAdaptedSegmentRun> runs = new ArrayList<>();
+        String runModuleCode = null;
+        int runCount = 0;
+        for (T item : items) {
+            String moduleCode = item.getModuleCode().moduleCode;
+            groups.computeIfAbsent(moduleCode, unused -> new ArrayList<>()).add(item);
+            if (!moduleCode.equals(runModuleCode)) {
+                if (runModuleCode != null) {
+                    runs.add(new JsonAdaptedSegmentRun(runModuleCode, runCount));
+                }
+                runModuleCode = moduleCode;
+                runCount = 0;
+            }
+            runCount++;
+        }
+        if (runModuleCode != null) {
+            runs.add(new JsonAdaptedSegmentRun(runModuleCode, runCount));
+        }
+        return runs;
+    }
+
+    /**
+     * Returns true if {@code items} and {@code otherItems} hold the same objects in the same order.
+     * Assignments and lessons are immutable, and {@code Assignment#equals} does not compare all their fields, so an
+     * item that was changed is always a different object.
+     */
+    private static boolean isSameItems(List<?> items, List<?> otherItems) {
+        if (items.size() != otherItems.size()) {
+            return false;
+        }
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i) != otherItems.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Segment writeSegment(Path directory, List<Assignment> assignments, List<Lesson> lessons)
+            throws IOException {
+        String extension = segmentFormat == DataFormat.BINARY ? ".bin" : ".json";
+        String fileName = SEGMENT_FILE_PREFIX + nextSegmentId++ + extension;
+        ProductiveNus segmentData = new ProductiveNus();
+        segmentData.setAssignments(assignments);
+        segmentData.setLessons(lessons);
+        ProductiveNusFile.write(directory.resolve(fileName), segmentData, 0, segmentFormat, compressionLevel,
+                isSynced());
+        return new Segment(fileName, assignments, lessons);
+    }
+
+    private boolean isSynced() {
+        return syncPolicy != SyncPolicy.NEVER;
+    }
+
+    /**
+     * Returns a number greater than that of any segment file in {@code directory}, so that new segments never replace
+     * segments that may still be in use.
+     */
+    private static long findNextSegmentId(Path directory) throws IOException {
+        long nextId = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_FILE_PREFIX + "*")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                int end = SEGMENT_FILE_PREFIX.length();
+                while (end < name.length() && Character.isDigit(name.charAt(end))) {
+                    end++;
+                }
+                if (end > SEGMENT_FILE_PREFIX.length()) {
+                    nextId = Math.max(nextId, Long.parseLong(name.substring(SEGMENT_FILE_PREFIX.length(), end)) + 1);
+                }
+            }
+        } catch (NumberFormatException e) {
+            throw new IOException("Segment file number is too large", e);
+        }
+        return nextId;
+    }
+
+    /**
+     * Deletes the segment files in {@code directory} that are not in {@code segments}, such as those replaced by newer
+     * segments or left over after a crash. Files that cannot be deleted are left for the next save.
+     */
+    private static void deleteUnusedSegments(Path directory, Map<String, Segment> segments) {
+        Set<String> usedFileNames = new HashSet<>();
+        for (Segment segment : segments.values()) {
+            usedFileNames.add(segment.fileName);
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_FILE_PREFIX + "*")) {
+            for (Path file : files) {
+                if (!usedFileNames.contains(file.getFileName().toString())) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Could not delete unused segments in " + directory + ": " + e);
+        }
+    }
+
+    /**
+     * The assignments and lessons of a module, and the file they are stored in.
+     */
+    private static class Segment {
+        private final String fileName;
+        private final List<Assignment> assignments;
+        private final List<Lesson> lessons;
+
+        Segment(String fileName, List<Assignment> assignments, List<Lesson> lessons) {
+            this.fileName = fileName;
+            this.assignments = assignments;
+            this.lessons = lessons;
+        }
+    }
+}
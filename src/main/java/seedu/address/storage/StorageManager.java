@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -77,4 +78,14 @@ public class StorageManager implements Storage {
         productiveNusStorage.saveProductiveNus(productiveNus, filePath);
     }
 
+    @Override
+    public void flush() throws IOException {
+        productiveNusStorage.flush();
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        productiveNusStorage.setSaveFailureHandler(saveFailureHandler);
+    }
+
 }
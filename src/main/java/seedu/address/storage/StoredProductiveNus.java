@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ProductiveNus;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.assignment.exceptions.DuplicateAssignmentException;
+import seedu.address.model.lesson.Lesson;
+
+/**
+ * The assignments and lessons read from a data file, along with the sequence number of the last change in the journal
+ * that they include. Changes read from the journal can be applied before they are made into a {@code ProductiveNus}.
+ */
+class StoredProductiveNus {
+
+    private final List<Assignment> assignments;
+    private final List<Lesson> lessons;
+    private final long journalSequence;
+
+    /**
+     * Creates a {@code StoredProductiveNus} without any assignments or lessons.
+     */
+    public StoredProductiveNus() {
+        this(new ArrayList<>(), new ArrayList<>(), 0);
+    }
+
+    /**
+     * Creates a {@code StoredProductiveNus} with the given assignments and lessons, which are changed in place by
+     * {@link #apply(JsonAdaptedListChange)}.
+     */
+    public StoredProductiveNus(List<Assignment> assignments, List<Lesson> lessons, long journalSequence) {
+        this.assignments = assignments;
+        this.lessons = lessons;
+        this.journalSequence = journalSequence;
+    }
+
+    public List<Assignment> getAssignments() {
+        return assignments;
+    }
+
+    public List<Lesson> getLessons() {
+        return lessons;
+    }
+
+    /**
+     * Returns the sequence number of the last change in the journal that this ProductiveNus includes.
+     */
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    /**
+     * Applies a change read from the journal to this ProductiveNus.
+     *
+     * @throws IllegalValueException if the change does not fit the assignments or lessons, or its items are invalid.
+     */
+    public void apply(JsonAdaptedListChange change) throws IllegalValueException {
+        if (change.isLessonChange()) {
+            List<Lesson> added = new ArrayList<>();
+            for (JsonAdaptedLesson lesson : change.getAddedLessons()) {
+                added.add(lesson.toModelType());
+            }
+            change.applyTo(lessons, added);
+        } else {
+            List<Assignment> added = new ArrayList<>();
+            for (JsonAdaptedAssignment assignment : change.getAddedAssignments()) {
+                added.add(assignment.toModelType());
+            }
+            change.applyTo(assignments, added);
+        }
+    }
+
+    /**
+     * Converts this ProductiveNus into the model's {@code ProductiveNus} object.
+     *
+     * @throws IllegalValueException if there are duplicate assignments.
+     */
+    public ProductiveNus toModelType() throws IllegalValueException {
+        ProductiveNus productiveNus = new ProductiveNus();
+        try {
+            productiveNus.setAssignments(assignments);
+        } catch (DuplicateAssignmentException e) {
+            throw new IllegalValueException(JsonSerializableProductiveNus.MESSAGE_DUPLICATE_ASSIGNMENT);
+        }
+        productiveNus.setLessons(lessons);
+        return productiveNus;
+    }
+}
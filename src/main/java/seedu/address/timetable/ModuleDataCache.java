@@ -0,0 +1,221 @@
+package seedu.address.timetable;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Keeps the json of NUSMods modules on disk, with the {@code ETag} and {@code Last-Modified} they were sent with, so
+ * that they can be revalidated with conditional requests, or used as they are when NUSMods cannot be reached.
+ *
+ * Each module is kept in a file of its own, at {@code <academic year>/<module code>.json} in the cache directory. The
+ * file starts with a line holding the {@code ETag} and a line holding the {@code Last-Modified}, either of which may be
+ * empty, followed by the json. When the files take up more than the size limit, the least recently used ones are
+ * deleted. A file is used when it is written or read.
+ */
+public class ModuleDataCache {
+
+    public static final String DIRECTORY_NAME = "nusmods-cache";
+    public static final long DEFAULT_MAX_SIZE_BYTES = 32L << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(ModuleDataCache.class);
+    private static final String ENTRY_EXTENSION = ".json";
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+
+    private final Path directory;
+    private final long maxSizeBytes;
+
+    /**
+     * Creates a {@code ModuleDataCache} that keeps its files in {@code directory}, taking up at most
+     * {@code maxSizeBytes} bytes.
+     */
+    public ModuleDataCache(Path directory, long maxSizeBytes) {
+        requireNonNull(directory);
+        this.directory = directory;
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the cached json of {@code moduleCode} in {@code academicYear}, or {@code Optional.empty()} if it is not
+     * cached or cannot be read.
+     */
+    public Optional<Entry> get(String academicYear, String moduleCode) {
+        requireAllNonNull(academicYear, moduleCode);
+        Path file = getEntryPath(academicYear, moduleCode);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String etag = reader.readLine();
+            String lastModified = reader.readLine();
+            if (etag == null || lastModified == null) {
+                throw new IOException("Cached module data ends unexpectedly");
+            }
+            return Optional.of(new Entry(file, etag, lastModified));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            logger.warning("Cached module data " + file + " could not be read: " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Replaces the cached json of {@code moduleCode} in {@code academicYear} with the json read from {@code json}, and
+     * returns it. Files of other modules are deleted if the cache is over its size limit.
+     *
+     * @param etag the {@code ETag} the json was sent with, or an empty string if there was none.
+     * @param lastModified the {@code Last-Modified} the json was sent with, or an empty string if there was none.
+     */
+    public Entry put(String academicYear, String moduleCode, String etag, String lastModified, InputStream json)
+            throws IOException {
+        requireAllNonNull(academicYear, moduleCode, etag, lastModified, json);
+        Path file = getEntryPath(academicYear, moduleCode);
+        FileUtil.createParentDirsOfFile(file);
+        FileUtil.writeToFileAtomically(file, out -> {
+            out.write((etag + "\n" + lastModified + "\n").getBytes(StandardCharsets.UTF_8));
+            copy(json, out);
+        }, false);
+        evictLeastRecentlyUsed(file);
+        return new Entry(file, etag, lastModified);
+    }
+
+    private Path getEntryPath(String academicYear, String moduleCode) {
+        return directory.resolve(academicYear).resolve(moduleCode + ENTRY_EXTENSION);
+    }
+
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        int count;
+        while ((count = in.read(buffer)) >= 0) {
+            out.write(buffer, 0, count);
+        }
+    }
+
+    /**
+     * Deletes the least recently used files, other than {@code keptFile}, until the cache is within its size limit.
+     */
+    private synchronized void evictLeastRecentlyUsed(Path keptFile) throws IOException {
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            files = paths.filter(path -> path.toString().endsWith(ENTRY_EXTENSION) && Files.isRegularFile(path))
+                    .collect(Collectors.toList());
+        }
+        long totalSize = 0;
+        List<CachedFile> cachedFiles = new ArrayList<>();
+        for (Path file : files) {
+            try {
+                CachedFile cachedFile = new CachedFile(file, Files.size(file), Files.getLastModifiedTime(file));
+                cachedFiles.add(cachedFile);
+                totalSize += cachedFile.size;
+            } catch (NoSuchFileException e) {
+                // deleted while the directory was listed
+            }
+        }
+        if (totalSize <= maxSizeBytes) {
+            return;
+        }
+
+        cachedFiles.sort(Comparator.comparing(cachedFile -> cachedFile.lastUsed));
+        for (CachedFile cachedFile : cachedFiles) {
+            if (totalSize <= maxSizeBytes) {
+                break;
+            }
+            if (cachedFile.path.equals(keptFile)) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(cachedFile.path);
+                totalSize -= cachedFile.size;
+                logger.fine("Evicted cached module data " + cachedFile.path);
+            } catch (IOException e) {
+                logger.warning("Cached module data " + cachedFile.path + " could not be deleted: " + e);
+            }
+        }
+    }
+
+    /**
+     * The cached json of a module.
+     */
+    public static class Entry {
+        private final Path file;
+        private final String etag;
+        private final String lastModified;
+
+        private Entry(Path file, String etag, String lastModified) {
+            this.file = file;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        public Optional<String> getEtag() {
+            return etag.isEmpty() ? Optional.empty() : Optional.of(etag);
+        }
+
+        public Optional<String> getLastModified() {
+            return lastModified.isEmpty() ? Optional.empty() : Optional.of(lastModified);
+        }
+
+        /**
+         * Returns a stream of the cached json, and marks it as the most recently used.
+         */
+        public InputStream openStream() throws IOException {
+            try {
+                Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            } catch (IOException e) {
+                logger.fine("Cached module data " + file + " could not be marked as used: " + e);
+            }
+            InputStream in = new BufferedInputStream(Files.newInputStream(file), READ_BUFFER_SIZE);
+            try {
+                // skips the ETag and Last-Modified lines
+                int lineEnds = 0;
+                while (lineEnds < 2) {
+                    int next = in.read();
+                    if (next < 0) {
+                        throw new IOException("Cached module data ends unexpectedly");
+                    }
+                    if (next == '\n') {
+                        lineEnds++;
+                    }
+                }
+            } catch (IOException e) {
+                in.close();
+                throw e;
+            }
+            return in;
+        }
+    }
+
+    private static class CachedFile {
+        private final Path path;
+        private final long size;
+        private final FileTime lastUsed;
+
+        CachedFile(Path path, long size, FileTime lastUsed) {
+            this.path = path;
+            this.size = size;
+            this.lastUsed = lastUsed;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.timetable;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.lesson.Lesson;
+
+/**
+ * The lessons retrieved for a NUSMods timetable, along with the modules whose lessons were read from cached data
+ * because NUSMods could not be reached, so they may be out of date.
+ */
+public class RetrievedLessons {
+    private final List<Lesson> lessons;
+    private final List<String> staleModuleCodes;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public RetrievedLessons(List<Lesson> lessons, List<String> staleModuleCodes) {
+        requireAllNonNull(lessons, staleModuleCodes);
+        this.lessons = Collections.unmodifiableList(lessons);
+        this.staleModuleCodes = Collections.unmodifiableList(staleModuleCodes);
+    }
+
+    public List<Lesson> getLessons() {
+        return lessons;
+    }
+
+    /**
+     * Returns the codes of the modules whose lessons were read from cached data, in the order of the timetable.
+     */
+    public List<String> getStaleModuleCodes() {
+        return staleModuleCodes;
+    }
+}
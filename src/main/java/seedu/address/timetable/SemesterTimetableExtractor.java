@@ -0,0 +1,170 @@
+package seedu.address.timetable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Extracts the classes of one semester from the json of a NUSMods module, one token at a time.
+ *
+ * Only {@code semesterData[semester - 1].timetable} is read into objects. Everything else in the module, such as its
+ * description, prerequisites and other semesters, is skipped over without being parsed into values, and reading stops
+ * once the timetable has been read.
+ */
+class SemesterTimetableExtractor {
+
+    private SemesterTimetableExtractor() {}
+
+    /**
+     * Returns the classes of {@code semester} in the module json read from {@code json} whose
+     * {@link TimetableEntry#getKey() keys} are in {@code wantedKeys}, by their keys. The classes of each key are in
+     * the order they are in the timetable.
+     *
+     * @throws IOException if the json cannot be read, or it has no timetable for {@code semester}.
+     */
+    static Map<String, List<TimetableEntry>> extract(InputStream json, int semester, Set<String> wantedKeys)
+            throws IOException {
+        try (JsonParser parser = JsonUtil.createParser(json)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (fieldName.equals("semesterData") && value == JsonToken.START_ARRAY) {
+                    return extractSemester(parser, semester, wantedKeys);
+                }
+                parser.skipChildren();
+            }
+            throw new IOException("Module data has no semester data");
+        }
+    }
+
+    private static Map<String, List<TimetableEntry>> extractSemester(JsonParser parser, int semester,
+            Set<String> wantedKeys) throws IOException {
+        int index = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (index == semester - 1) {
+                expect(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+                return extractTimetable(parser, semester, wantedKeys);
+            }
+            parser.skipChildren();
+            index++;
+        }
+        throw new IOException("Module data has no semester " + semester);
+    }
+
+    private static Map<String, List<TimetableEntry>> extractTimetable(JsonParser parser, int semester,
+            Set<String> wantedKeys) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (fieldName.equals("timetable") && value == JsonToken.START_ARRAY) {
+                Map<String, List<TimetableEntry>> entries = new HashMap<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    expect(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+                    TimetableEntry entry = readEntry(parser, wantedKeys);
+                    if (entry != null) {
+                        entries.computeIfAbsent(entry.getKey(), key -> new ArrayList<>()).add(entry);
+                    }
+                }
+                return entries;
+            }
+            parser.skipChildren();
+        }
+        throw new IOException("Module data has no timetable for semester " + semester);
+    }
+
+    /**
+     * Reads the class whose {@code START_OBJECT} token {@code parser} is at, leaving the parser at its
+     * {@code END_OBJECT} token. Returns null if the key of the class is not in {@code wantedKeys}, in which case the
+     * class is not checked, as NUSMods sometimes gives the weeks of classes in other forms, such as date ranges.
+     *
+     * @throws IOException if the class is wanted but is incomplete or its weeks are not a list of week numbers.
+     */
+    private static TimetableEntry readEntry(JsonParser parser, Set<String> wantedKeys) throws IOException {
+        String lessonType = null;
+        String classNo = null;
+        String day = null;
+        String startTime = null;
+        String endTime = null;
+        int[] weeks = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (fieldName) {
+            case "lessonType":
+                lessonType = parser.getValueAsString();
+                break;
+            case "classNo":
+                classNo = parser.getValueAsString();
+                break;
+            case "day":
+                day = parser.getValueAsString();
+                break;
+            case "startTime":
+                startTime = parser.getValueAsString();
+                break;
+            case "endTime":
+                endTime = parser.getValueAsString();
+                break;
+            case "weeks":
+                if (value == JsonToken.START_ARRAY) {
+                    weeks = readWeeks(parser);
+                } else {
+                    parser.skipChildren();
+                }
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+        if (lessonType == null || classNo == null
+                || !wantedKeys.contains(TimetableEntry.getKey(lessonType, classNo))) {
+            return null;
+        }
+        if (day == null || startTime == null || endTime == null || weeks == null) {
+            throw new IOException("Class in module data is incomplete or has weeks that are not week numbers at "
+                    + parser.getCurrentLocation());
+        }
+        return new TimetableEntry(lessonType, classNo, day, startTime, endTime, weeks);
+    }
+
+    /**
+     * Reads the weeks array whose {@code START_ARRAY} token {@code parser} is at, leaving the parser at its
+     * {@code END_ARRAY} token. Returns null if any of its elements is not a week number.
+     */
+    private static int[] readWeeks(JsonParser parser) throws IOException {
+        int[] weeks = new int[16];
+        int count = 0;
+        boolean isValid = true;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.getCurrentToken() != JsonToken.VALUE_NUMBER_INT) {
+                isValid = false;
+                parser.skipChildren();
+                continue;
+            }
+            if (count == weeks.length) {
+                weeks = Arrays.copyOf(weeks, 2 * count);
+            }
+            weeks[count++] = parser.getIntValue();
+        }
+        return isValid ? Arrays.copyOf(weeks, count) : null;
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Expected " + expected + " but found " + actual + " in module data at "
+                    + parser.getCurrentLocation());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.timetable;
+
+/**
+ * A class in the timetable of a NUSMods module, such as "Tutorial 01 on Monday from 1000 to 1100".
+ */
+class TimetableEntry {
+    private final String lessonType;
+    private final String classNo;
+    private final String day;
+    private final String startTime;
+    private final String endTime;
+    private final int[] weeks;
+
+    /**
+     * Every field must be present and not null.
+     *
+     * @param weeks the teaching weeks the class is held in, as numbered by NUSMods.
+     */
+    TimetableEntry(String lessonType, String classNo, String day, String startTime, String endTime, int[] weeks) {
+        this.lessonType = lessonType;
+        this.classNo = classNo;
+        this.day = day;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.weeks = weeks;
+    }
+
+    /**
+     * Returns a key that identifies the class with {@code classNo} of {@code lessonType} among the classes of a module.
+     */
+    static String getKey(String lessonType, String classNo) {
+        return lessonType + ":" + classNo;
+    }
+
+    String getKey() {
+        return getKey(lessonType, classNo);
+    }
+
+    String getLessonType() {
+        return lessonType;
+    }
+
+    String getDay() {
+        return day;
+    }
+
+    String getStartTime() {
+        return startTime;
+    }
+
+    String getEndTime() {
+        return endTime;
+    }
+
+    int[] getWeeks() {
+        return weeks;
+    }
+}
@@ -1,91 +1,250 @@
 package seedu.address.timetable;
 
 import java.io.IOException;
-import java.net.HttpURLConnection;
-import java.net.MalformedURLException;
-import java.net.URL;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Scanner;
-
-import org.json.simple.JSONArray;
-import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
-import org.json.simple.parser.ParseException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.task.ModuleCode;
 import seedu.address.model.task.Name;
 import seedu.address.model.task.Time;
 
+/**
+ * Retrieves the lessons in a NUSMods timetable from the NUSMods API.
+ *
+ * The data of all the modules in a timetable is fetched concurrently, by up to {@link #MAX_CONCURRENT_FETCHES} requests
+ * at a time, so retrieving a timetable takes about as long as fetching its slowest module. If a
+ * {@link ModuleDataCache} is set, the json of each module is kept in it and revalidated with a conditional request
+ * the next time it is needed, and the cached json is used if NUSMods cannot be reached. The modules whose cached
+ * json is used in this way are reported, as their lessons may be out of date.
+ */
 public class TimetableRetriever {
-    private static final String JSON_API = "https://api.nusmods.com/v2/2020-2021/modules/";
+    public static final int MAX_CONCURRENT_FETCHES = 6;
+
+    private static final Logger logger = LogsCenter.getLogger(TimetableRetriever.class);
+
+    private static final String ACADEMIC_YEAR = "2020-2021";
+    private static final String JSON_API = "https://api.nusmods.com/v2/" + ACADEMIC_YEAR + "/modules/";
     private static final String DOT_JSON = ".json";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final String GZIP_ENCODING = "gzip";
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+    private static final String INVALID_MODULE_CODE = "Invalid module code";
 
     private static final LocalDate SEMESTER_1_START_DATE = LocalDate.of(2020, 8, 10);
     private static final LocalDate SEMESTER_2_START_DATE = LocalDate.of(2021, 1, 11);
-    private static final DateTimeFormatter LOCAL_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final DateTimeFormatter LESSON_TIME_FORMATTER = DateTimeFormatter.ofPattern("HHmm");
+    private static final int LAST_WEEK_BEFORE_RECESS = 6;
+
+    // NUSMods lesson types of the abbreviations used in timetable URLs
+    private static final Map<String, String> LESSON_TYPES = Map.of(
+            "LEC", "Lecture",
+            "TUT", "Tutorial",
+            "LAB", "Laboratory",
+            "REC", "Recitation",
+            "SEC", "Sectional Teaching");
+    private static final Map<String, Integer> DAY_OFFSETS = Map.of(
+            "Monday", 0,
+            "Tuesday", 1,
+            "Wednesday", 2,
+            "Thursday", 3,
+            "Friday", 4,
+            "Saturday", 5,
+            "Sunday", 6);
+
+    private static final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(REQUEST_TIMEOUT)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+    // each fetch blocks one of these threads, which bounds the number of requests in flight
+    private static final ExecutorService fetchExecutor = Executors.newFixedThreadPool(MAX_CONCURRENT_FETCHES,
+        runnable -> {
+            Thread thread = new Thread(runnable, "timetable-retriever");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    private static volatile ModuleDataCache cache;
 
     /**
-     * Retrieves timetable json information from NUSMods API and prints out the relevant information.
+     * Keeps the json of the modules retrieved from now on in {@code cache}, or stops caching it if {@code cache} is
+     * null.
      */
-    public static List<Lesson> retrieveLessons(TimetableData timetableData) throws IOException, ParseException {
+    public static void setCache(ModuleDataCache cache) {
+        TimetableRetriever.cache = cache;
+    }
+
+    /**
+     * Retrieves the lessons in {@code timetableData} that are after today from the NUSMods API, in the order of the
+     * modules in {@code timetableData}.
+     *
+     * @throws IOException if any module code is invalid, or the data of any module cannot be fetched or read. Its
+     *     message lists the problem with each such module.
+     */
+    public static RetrievedLessons retrieveLessons(TimetableData timetableData) throws IOException {
+        return retrieveLessons(timetableData, JSON_API, LocalDate.now(), cache);
+    }
+
+    /**
+     * Similar to {@link #retrieveLessons(TimetableData)}, but the data is fetched from {@code apiUrl} and kept in
+     * {@code moduleDataCache} if it is not null, and only lessons after {@code today} are retrieved.
+     */
+    static RetrievedLessons retrieveLessons(TimetableData timetableData, String apiUrl, LocalDate today,
+            ModuleDataCache moduleDataCache) throws IOException {
         int semester = timetableData.getSemester();
         LocalDate startDate = semester == 1 ? SEMESTER_1_START_DATE : SEMESTER_2_START_DATE;
         String[] moduleCodeArray = timetableData.getModuleCodeArray();
         String[] moduleLessonArray = timetableData.getModuleLessonArray();
 
-        List<Lesson> lessons = new ArrayList<>();
-
+        List<Future<ModuleLessons>> moduleLessons = new ArrayList<>();
         for (int moduleIter = 0; moduleIter < moduleCodeArray.length; moduleIter++) {
             String module = moduleCodeArray[moduleIter];
-            URL url = getModuleUrl(module);
-            String inline = httpGetModuleJsonData(url);
-
-            JSONArray semesterSpecificTimetableData = getSemesterSpecificTimetableData(semester, inline);
             String[] specificModuleLessonArray = getSpecificModuleLessonArray(moduleLessonArray, moduleIter);
+            // the module code comes from the pasted url, and is used in a file name and a url path
+            if (!ModuleCode.isValidModuleCode(module)) {
+                moduleLessons.add(CompletableFuture.failedFuture(new IOException(INVALID_MODULE_CODE)));
+                continue;
+            }
+            moduleLessons.add(fetchExecutor.submit(() -> {
+                ModuleData moduleData = httpGetSemesterSpecificTimetableData(
+                        apiUrl, module, semester, getWantedKeys(specificModuleLessonArray), moduleDataCache);
+                List<Lesson> lessons = new ArrayList<>();
+                findLessonAndAdd(lessons, module, moduleData.semesterSpecificTimetableData, specificModuleLessonArray,
+                        startDate, today);
+                return new ModuleLessons(lessons, moduleData.isFromStaleCache);
+            }));
+        }
 
-            findLessonAndAdd(lessons, module, semesterSpecificTimetableData, specificModuleLessonArray, startDate);
+        List<Lesson> lessons = new ArrayList<>();
+        List<String> staleModuleCodes = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        for (int moduleIter = 0; moduleIter < moduleCodeArray.length; moduleIter++) {
+            try {
+                ModuleLessons retrieved = moduleLessons.get(moduleIter).get();
+                lessons.addAll(retrieved.lessons);
+                if (retrieved.isFromStaleCache) {
+                    staleModuleCodes.add(moduleCodeArray[moduleIter]);
+                }
+            } catch (ExecutionException e) {
+                errors.add(moduleCodeArray[moduleIter] + ": " + e.getCause());
+            } catch (InterruptedException e) {
+                moduleLessons.forEach(future -> future.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while retrieving the timetable", e);
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new IOException(String.join("\n", errors));
         }
-        return lessons;
+        return new RetrievedLessons(lessons, staleModuleCodes);
     }
 
-    private static String getUrlString(String moduleCode) {
-        return JSON_API + moduleCode + DOT_JSON;
+    private static URI getModuleUri(String apiUrl, String moduleCode) {
+        return URI.create(apiUrl + moduleCode + DOT_JSON);
     }
 
-    private static URL getModuleUrl(String moduleCode) throws MalformedURLException {
-        String urlString = getUrlString(moduleCode);
-        return new URL(urlString);
-    }
+    /**
+     * Fetches the json of {@code module} from {@code apiUrl} with a single request, and returns the classes in its
+     * timetable for semester {@code sem} whose keys are in {@code wantedKeys}, by their keys. The json is decompressed
+     * on the way if the server sends it compressed.
+     *
+     * If {@code moduleDataCache} is not null, the json is kept in it, and json already in it is only fetched again if
+     * it has changed since. The cached json is used if the server cannot be reached or fails, in which case the
+     * returned data is marked as stale.
+     */
+    private static ModuleData httpGetSemesterSpecificTimetableData(String apiUrl,
+            String module, int sem, Set<String> wantedKeys, ModuleDataCache moduleDataCache)
+            throws IOException, InterruptedException {
+        Optional<ModuleDataCache.Entry> cached = moduleDataCache == null
+                ? Optional.empty()
+                : moduleDataCache.get(ACADEMIC_YEAR, module);
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(getModuleUri(apiUrl, module))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept-Encoding", GZIP_ENCODING)
+                .GET();
+        cached.flatMap(ModuleDataCache.Entry::getEtag)
+                .ifPresent(etag -> requestBuilder.header("If-None-Match", etag));
+        cached.flatMap(ModuleDataCache.Entry::getLastModified)
+                .ifPresent(lastModified -> requestBuilder.header("If-Modified-Since", lastModified));
+
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException e) {
+            if (cached.isEmpty()) {
+                throw e;
+            }
+            logger.warning("NUSMods could not be reached for " + module + ", using cached data: " + e);
+            return new ModuleData(getSemesterSpecificTimetableData(sem, wantedKeys, cached.get()), true);
+        }
+
+        try (InputStream body = response.body()) {
+            int responseCode = response.statusCode();
+            if (responseCode == 304 && cached.isPresent()) {
+                return new ModuleData(getSemesterSpecificTimetableData(sem, wantedKeys, cached.get()), false);
+            }
+            if (responseCode >= 500 && cached.isPresent()) {
+                logger.warning("NUSMods failed for " + module + " with HttpResponseCode: " + responseCode
+                        + ", using cached data");
+                return new ModuleData(getSemesterSpecificTimetableData(sem, wantedKeys, cached.get()), true);
+            }
+            if (responseCode != 200) {
+                throw new IOException("HttpResponseCode: " + responseCode);
+            }
 
-    private static String httpGetModuleJsonData(URL url) throws IOException {
-        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-        connection.setRequestMethod("GET");
-        connection.connect();
-        int responseCode = connection.getResponseCode();
-        if (responseCode != 200) {
-            throw new RuntimeException("HttpResponseCode: " + responseCode);
+            boolean isCompressed = response.headers().firstValue("Content-Encoding")
+                    .map(GZIP_ENCODING::equalsIgnoreCase)
+                    .orElse(false);
+            InputStream json = isCompressed ? new GZIPInputStream(body, READ_BUFFER_SIZE) : body;
+            if (moduleDataCache != null) {
+                ModuleDataCache.Entry entry = moduleDataCache.put(ACADEMIC_YEAR, module,
+                        response.headers().firstValue("ETag").orElse(""),
+                        response.headers().firstValue("Last-Modified").orElse(""), json);
+                return new ModuleData(getSemesterSpecificTimetableData(sem, wantedKeys, entry), false);
+            }
+            return new ModuleData(SemesterTimetableExtractor.extract(json, sem, wantedKeys), false);
         }
+    }
 
-        String inline = "";
-        Scanner sc = new Scanner(url.openStream());
-        while (sc.hasNext()) {
-            inline += sc.nextLine();
+    private static Map<String, List<TimetableEntry>> getSemesterSpecificTimetableData(int sem,
+            Set<String> wantedKeys, ModuleDataCache.Entry entry) throws IOException {
+        try (InputStream json = entry.openStream()) {
+            return SemesterTimetableExtractor.extract(json, sem, wantedKeys);
         }
-        sc.close();
-        return inline;
     }
 
-    private static JSONArray getSemesterSpecificTimetableData(int sem, String inline) throws ParseException {
-        JSONParser jsonParser = new JSONParser();
-        JSONObject moduleData = (JSONObject) jsonParser.parse(inline);
-        JSONArray semesterData = (JSONArray) moduleData.get("semesterData");
-        JSONObject bothSemesterTimetableData = (JSONObject) semesterData.get(sem - 1);
-        JSONArray semesterSpecificTimetableData = (JSONArray) bothSemesterTimetableData.get("timetable");
-        return semesterSpecificTimetableData;
+    /**
+     * Returns the keys of the classes in {@code moduleLessonArray}, which holds classes such as "TUT:01".
+     */
+    private static Set<String> getWantedKeys(String[] moduleLessonArray) {
+        Set<String> wantedKeys = new HashSet<>();
+        if (!moduleLessonArray[0].equals("")) {
+            for (String lessonInfo : moduleLessonArray) {
+                wantedKeys.add(TimetableEntry.getKey(getLessonType(lessonInfo), getLessonNum(lessonInfo)));
+            }
+        }
+        return wantedKeys;
     }
 
     private static String[] getSpecificModuleLessonArray(String[] moduleLessonArray, int index) {
@@ -94,50 +253,24 @@ public class TimetableRetriever {
         return specificModuleLessonArray; // ["T:1","L:2"]
     }
 
-    private static void findLessonAndAdd(List<Lesson> lessons, String module, JSONArray timetableData,
-                                         String[] moduleLessonArray, LocalDate startDate) {
-        for (int lessonIter = 0; lessonIter < moduleLessonArray.length; lessonIter++) {
-            if (!moduleLessonArray[0].equals("")) {
-                String lessonInfo = moduleLessonArray[lessonIter];
-                addLesson(lessons, module, lessonInfo, timetableData, startDate);
-            }
+    private static void findLessonAndAdd(List<Lesson> lessons, String module,
+                                         Map<String, List<TimetableEntry>> timetableData, String[] moduleLessonArray,
+                                         LocalDate startDate, LocalDate today) {
+        if (moduleLessonArray[0].equals("")) {
+            return;
         }
-    }
-
-    private static void addLesson(List<Lesson> lessons, String module, String lessonInfo, JSONArray timetableData,
-                                  LocalDate startDate) {
-        String lessonType = getLessonType(lessonInfo);
-        String lessonNum = getLessonNum(lessonInfo);
-
-        for (int dataIter = 0; dataIter < timetableData.size(); dataIter++) {
-            JSONObject currentData = (JSONObject) timetableData.get(dataIter);
-            String currentLessonType = (String) currentData.get("lessonType");
-            String currentLessonNum = (String) currentData.get("classNo");
-
-            if (currentLessonType.equals(lessonType) && currentLessonNum.equals(lessonNum)) {
-                addSpecificLesson(lessons, module, startDate, currentLessonType, currentData);
+        ModuleCode moduleCode = new ModuleCode(module);
+        for (String lessonInfo : moduleLessonArray) {
+            String key = TimetableEntry.getKey(getLessonType(lessonInfo), getLessonNum(lessonInfo));
+            for (TimetableEntry currentData : timetableData.getOrDefault(key, List.of())) {
+                addSpecificLesson(lessons, moduleCode, startDate, today, currentData);
             }
         }
     }
 
     private static String getLessonType(String lessonInfo) {
         String lessonType = lessonInfo.split(":")[0];
-        if (lessonType.equals("LEC")) {
-            lessonType = "Lecture";
-        }
-        if (lessonType.equals("TUT")) {
-            lessonType = "Tutorial";
-        }
-        if (lessonType.equals("LAB")) {
-            lessonType = "Laboratory";
-        }
-        if (lessonType.equals("REC")) {
-            lessonType = "Recitation";
-        }
-        if (lessonType.equals("SEC")) {
-            lessonType = "Sectional Teaching";
-        }
-        return lessonType;
+        return LESSON_TYPES.getOrDefault(lessonType, lessonType);
     }
 
     private static String getLessonNum(String lessonInfo) {
@@ -145,48 +278,54 @@ public class TimetableRetriever {
         return lessonNum;
     }
 
-    private static int getDayOffset(String day) {
-        String[] daysOfWeek = {"Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday", "Sunday"};
-        int dayOffset = 0;
-        for (int i = 0; i < 7; i++) {
-            String currDay = daysOfWeek[i];
-            if (currDay.equals(day)) {
-                dayOffset = i;
-                break;
+    /**
+     * Adds a lesson for each week of {@code currentData} that is after {@code today}. The name and module code of the
+     * lessons are shared, and their times are made without formatting or parsing dates.
+     */
+    private static void addSpecificLesson(List<Lesson> lessons, ModuleCode moduleCode, LocalDate startDate,
+                                          LocalDate today, TimetableEntry currentData) {
+        String day = currentData.getDay();
+        Name name = new Name(moduleCode + " " + currentData.getLessonType() + " " + day);
+        LocalTime startTime = LocalTime.parse(currentData.getStartTime(), LESSON_TIME_FORMATTER);
+        LocalTime endTime = LocalTime.parse(currentData.getEndTime(), LESSON_TIME_FORMATTER);
+        LocalDate firstWeekDate = startDate.plusDays(DAY_OFFSETS.getOrDefault(day, 0));
+
+        for (int teachingWeek : currentData.getWeeks()) {
+            // counts the recess week after week 6
+            int week = teachingWeek > LAST_WEEK_BEFORE_RECESS ? teachingWeek + 1 : teachingWeek;
+            LocalDate date = firstWeekDate.plusWeeks(week - 1);
+            if (date.isAfter(today)) {
+                lessons.add(new Lesson(name, new Time(date.atTime(startTime)), new Time(date.atTime(endTime)),
+                        moduleCode));
             }
         }
-        return dayOffset;
     }
 
-    private static int[] getWeeksAsIntegerArray(JSONArray jsonWeeks) {
-        int[] weeks = new int[jsonWeeks.size()];
-        for (int i = 0; i < jsonWeeks.size(); i++) {
-            Long week = (Long) jsonWeeks.get(i);
-            weeks[i] = week.intValue() > 6 ? week.intValue() + 1 : week.intValue();
+    /**
+     * The classes of a module fetched for a semester, and whether they were read from cached json because NUSMods
+     * could not be reached.
+     */
+    private static class ModuleData {
+        private final Map<String, List<TimetableEntry>> semesterSpecificTimetableData;
+        private final boolean isFromStaleCache;
+
+        private ModuleData(Map<String, List<TimetableEntry>> semesterSpecificTimetableData, boolean isFromStaleCache) {
+            this.semesterSpecificTimetableData = semesterSpecificTimetableData;
+            this.isFromStaleCache = isFromStaleCache;
         }
-        return weeks;
     }
 
-    private static void addSpecificLesson(List<Lesson> lessons, String module, LocalDate startDate,
-                                          String currentLessonType, JSONObject currentData) {
-        String day = (String) currentData.get("day");
-        String name = module + " " + currentLessonType + " " + day;
-
-        JSONArray jsonWeeks = (JSONArray) currentData.get("weeks");
-        int[] weeks = getWeeksAsIntegerArray(jsonWeeks);
-        int dayOffset = getDayOffset(day);
-
-        for (int week : weeks) {
-            int daysToAdd = 7 * (week - 1) + dayOffset;
-            LocalDate date = startDate.plusDays(daysToAdd);
-            if (date.isAfter(LocalDate.now())) {
-                String startTime = date.format(LOCAL_DATE_FORMATTER) + " " + (String) currentData.get("startTime");
-                String endTime = date.format(LOCAL_DATE_FORMATTER) + " " + (String) currentData.get("endTime");
-                lessons.add(new Lesson(new Name(name), new Time(startTime), new Time(endTime),
-                        new ModuleCode(module)));
-            }
-        }
+    /**
+     * The lessons retrieved for a module, and whether they were read from cached json.
+     */
+    private static class ModuleLessons {
+        private final List<Lesson> lessons;
+        private final boolean isFromStaleCache;
 
+        private ModuleLessons(List<Lesson> lessons, boolean isFromStaleCache) {
+            this.lessons = lessons;
+            this.isFromStaleCache = isFromStaleCache;
+        }
     }
 
 }
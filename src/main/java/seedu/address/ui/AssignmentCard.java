@@ -1,11 +1,7 @@
 package seedu.address.ui;
 
-import static seedu.address.model.task.Time.TIME_DATE_TIME_FORMAT;
-
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.ResolverStyle;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -34,9 +30,6 @@ public class AssignmentCard extends UiPart<Region> {
     private static final String MEDIUM_PRIORITY_STYLE_CLASS = "medium-priority";
     private static final String LOW_PRIORITY_STYLE_CLASS = "low-priority";
     private static final String NONE_PRIORITY_STYLE_CLASS = "none-priority";
-    private static final DateTimeFormatter inputFormat = DateTimeFormatter.ofPattern(TIME_DATE_TIME_FORMAT)
-            .withResolverStyle(ResolverStyle.STRICT);
-
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
      * As a consequence, UI elements' variable names cannot be set to such keywords
@@ -78,7 +71,7 @@ public class AssignmentCard extends UiPart<Region> {
         this.assignment = assignment;
         id.setText(displayedIndex + ". ");
         name.setText(assignment.getName().fullName);
-        deadline.setText("Deadline: " + assignment.getDeadline().value);
+        deadline.setText("Deadline: " + assignment.getDeadline().toString());
         moduleCode.setText("Module: " + assignment.getModuleCode().moduleCode);
         getDueDate(dueDate, assignment.getDeadline());
         getSchedule(displaySchedule, suggestedStartTime, suggestedEndTime, assignment.getSchedule());
@@ -175,7 +168,7 @@ public class AssignmentCard extends UiPart<Region> {
 
     public void getDueDate(Label label, Time deadline) {
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime due = LocalDateTime.parse(deadline.value, inputFormat);
+        LocalDateTime due = deadline.toLocalDateTime();
         Duration duration = Duration.between(now, due);
 
         if (duration.toMinutes() < 0) {
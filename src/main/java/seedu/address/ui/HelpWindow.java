@@ -27,7 +27,9 @@ public class HelpWindow extends UiPart<Stage> {
             + "    *Tip: Use `list 2` to list assignments with deadlines 2 days from current date\n\n"
             + "----------------------------------------Advance Features-------------------------------------------\n"
             + "- To import your timetable: import url/YOUR_NUSMODS_URL\n"
+            + "    *Tip: Use `conflicts` to view lessons and scheduled assignments that clash\n"
             + "- To undo your most recent command: undo\n"
+            + "    *Tip: Use `undo 3` to undo your 3 most recent commands, and `redo` to redo undone commands\n"
             + "- To find assignments by name: find n/Lab\n"
             + "    *Tip: You can also find assignments by module code, deadline or priority using\n"
             + "    `mod/`, `d/` and `p/` prefixes respectively.\n"
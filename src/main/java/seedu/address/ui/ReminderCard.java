@@ -42,7 +42,7 @@ public class ReminderCard extends UiPart<Region> {
         this.assignment = assignment;
         id.setText(displayedIndex + ". ");
         name.setText(assignment.getName().fullName);
-        deadline.setText("Deadline: " + assignment.getDeadline().value);
+        deadline.setText("Deadline: " + assignment.getDeadline().toString());
         moduleCode.setText("Module: " + assignment.getModuleCode().moduleCode);
     }
 
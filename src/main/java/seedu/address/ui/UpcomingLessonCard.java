@@ -1,12 +1,9 @@
 package seedu.address.ui;
 
-import static seedu.address.model.task.Time.TIME_DATE_TIME_FORMAT;
-
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.ResolverStyle;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -40,9 +37,6 @@ public class UpcomingLessonCard extends UiPart<Region> {
 
     public final Lesson lesson;
 
-    private final DateTimeFormatter inputFormat = DateTimeFormatter.ofPattern(TIME_DATE_TIME_FORMAT)
-            .withResolverStyle(ResolverStyle.STRICT);
-
     @FXML
     private HBox cardPane;
     @FXML
@@ -70,16 +64,16 @@ public class UpcomingLessonCard extends UiPart<Region> {
     }
 
     private String formatTime(Time startDate, Time endDate) {
-        String date = LocalDateTime.parse(startDate.value, inputFormat).toLocalDate().format(
+        String date = startDate.toLocalDateTime().toLocalDate().format(
                 DateTimeFormatter.ofPattern("dd MMM yyyy"));
-        LocalTime startTime = LocalDateTime.parse(startDate.value, inputFormat).toLocalTime();
-        LocalTime endTime = LocalDateTime.parse(endDate.value, inputFormat).toLocalTime();
+        LocalTime startTime = startDate.toLocalDateTime().toLocalTime();
+        LocalTime endTime = endDate.toLocalDateTime().toLocalTime();
         return date + " " + startTime + "-" + endTime;
     }
 
     public void getStartDate(Label label, Time deadline) {
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime due = LocalDateTime.parse(deadline.value, inputFormat);
+        LocalDateTime due = deadline.toLocalDateTime();
         String formattedDue = due.toLocalDate().format(DateTimeFormatter.ofPattern("dd MMM yyyy"));
         Duration duration = Duration.between(now, due);
         if (duration.toMinutes() < MIN_PER_HOUR) {
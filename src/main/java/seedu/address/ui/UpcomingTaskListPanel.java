@@ -1,11 +1,8 @@
 package seedu.address.ui;
 
-import static seedu.address.model.task.Time.TIME_DATE_TIME_FORMAT;
-
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.ResolverStyle;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -29,8 +26,6 @@ public class UpcomingTaskListPanel extends UiPart<Region> {
     private static final long DAY_PER_WEEK = 7;
     private static final long MIN_DAY_PER_MONTH = 28;
     private static final String FXML = "UpcomingTaskListPanel.fxml";
-    private static final DateTimeFormatter inputFormat = DateTimeFormatter.ofPattern(TIME_DATE_TIME_FORMAT)
-            .withResolverStyle(ResolverStyle.STRICT);
     private static final String DUE_SOON_STYLE_CLASS = "due-soon";
     private static final String OVERDUE_STYLE_CLASS = "overdue";
     private static final String DUE_IN_A_WEEK_STYLE_CLASS = "due-in-a-week";
@@ -51,7 +46,7 @@ public class UpcomingTaskListPanel extends UiPart<Region> {
 
     public static void getDueDate(Label label, Time deadline) {
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime due = LocalDateTime.parse(deadline.value, inputFormat);
+        LocalDateTime due = deadline.toLocalDateTime();
         String formattedDue = due.format(DateTimeFormatter.ofPattern(DISPLAY_DATE_AND_TIME_FORMAT));
         Duration duration = Duration.between(now, due);
         if (duration.toMinutes() < 0) {
@@ -11,7 +11,12 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Data sync policy : PERIODIC\n"
+                + "Data save window : 100ms\n"
+                + "Data format : JSON\n"
+                + "Data layout : SINGLE_FILE\n"
+                + "Data compression level : 0";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -0,0 +1,85 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchedObservableListTest {
+
+    private final BatchedObservableList<String> list = new BatchedObservableList<>();
+    private final List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+    private final ListChangeListener<String> changeRecorder = changes::add;
+
+    /**
+     * Returns the list of {@code change} after each of its sub-changes is applied to a copy of {@code original}, in
+     * the way listeners apply them.
+     */
+    private static List<String> replay(List<String> original, ListChangeListener.Change<? extends String> change) {
+        List<String> replayed = new ArrayList<>(original);
+        change.reset();
+        while (change.next()) {
+            assertFalse(change.wasPermutated());
+            replayed.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+            replayed.addAll(change.getFrom(), change.getAddedSubList());
+        }
+        return replayed;
+    }
+
+    @Test
+    public void batch_severalChanges_listenersNotifiedOnce() {
+        list.setAll(Arrays.asList("a", "b", "c", "d", "e"));
+        List<String> original = new ArrayList<>(list);
+        list.addListener(changeRecorder);
+
+        list.batch(() -> {
+            list.remove(4);
+            list.set(2, "C");
+            list.remove(0);
+        });
+
+        assertEquals(Arrays.asList("b", "C", "d"), list);
+        assertEquals(1, changes.size());
+        assertEquals(list, replay(original, changes.get(0)));
+    }
+
+    @Test
+    public void batch_changeFails_listenersStillNotified() {
+        list.add("a");
+        list.addListener(changeRecorder);
+
+        try {
+            list.batch(() -> {
+                list.add("b");
+                list.remove(5);
+            });
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+
+        assertEquals(Arrays.asList("a", "b"), list);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void setAll_replacesContents() {
+        list.setAll(Arrays.asList("a", "b"));
+        List<String> original = new ArrayList<>(list);
+        list.addListener(changeRecorder);
+
+        list.setAll(Arrays.asList("c", "d", "e"));
+        assertEquals(Arrays.asList("c", "d", "e"), list);
+        assertEquals(list, replay(original, changes.get(0)));
+
+        list.setAll(Collections.emptyList());
+        assertEquals(Collections.emptyList(), list);
+        assertEquals(2, changes.size());
+    }
+}
@@ -1,13 +1,29 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.zip.GZIPInputStream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +36,43 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replaced() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old contents that are longer");
+        FileUtil.writeToFile(file, "new contents");
+        assertEquals("new contents", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(testFolder.resolve("file.txt" + FileUtil.TEMPORARY_FILE_EXTENSION)));
+    }
+
+    @Test
+    public void compressing_repetitiveContents_smallerAndReadBack() throws Exception {
+        Path file = testFolder.resolve("file.gz");
+        byte[] contents = String.join("", Collections.nCopies(1000, "contents ")).getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeToFileAtomically(file, FileUtil.compressing(out -> out.write(contents), 6), true);
+        assertTrue(Files.size(file) < contents.length);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertTrue(FileUtil.isCompressed(channel));
+        }
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            ByteArrayOutputStream readBack = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int count;
+            while ((count = in.read(buffer)) >= 0) {
+                readBack.write(buffer, 0, count);
+            }
+            assertArrayEquals(contents, readBack.toByteArray());
+        }
+    }
+
+    @Test
+    public void isCompressed_uncompressedFile_false() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "contents");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertFalse(FileUtil.isCompressed(channel));
+        }
+    }
+
 }
@@ -0,0 +1,119 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class IntervalTreeTest {
+
+    private final IntervalTree<Integer, String> tree = new IntervalTree<>();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tree.add(null, 1, "a"));
+        assertThrows(NullPointerException.class, () -> tree.add(0, null, "a"));
+        assertThrows(NullPointerException.class, () -> tree.add(0, 1, null));
+    }
+
+    @Test
+    public void getOverlapping_touchingIntervals_notOverlapping() {
+        tree.add(10, 12, "a");
+        assertEquals(Collections.emptyList(), tree.getOverlapping(8, 10));
+        assertEquals(Collections.emptyList(), tree.getOverlapping(12, 14));
+        assertEquals(Arrays.asList("a"), tree.getOverlapping(11, 13));
+    }
+
+    @Test
+    public void getOverlapping_emptyIntervals_notOverlapping() {
+        tree.add(10, 10, "a");
+        tree.add(8, 12, "b");
+        assertEquals(Arrays.asList("b"), tree.getOverlapping(9, 11));
+        assertEquals(Collections.emptyList(), tree.getOverlapping(9, 9));
+    }
+
+    @Test
+    public void getOverlapping_severalIntervals_returnsInStartOrder() {
+        tree.add(14, 16, "c");
+        tree.add(9, 11, "a");
+        tree.add(10, 20, "b");
+        tree.add(20, 22, "d");
+        assertEquals(Arrays.asList("a", "b", "c"), tree.getOverlapping(10, 15));
+    }
+
+    @Test
+    public void remove_existingValue_noLongerFound() {
+        tree.add(10, 12, "a");
+        tree.add(10, 14, "b");
+        assertFalse(tree.remove(10, 12, "b"));
+        assertTrue(tree.remove(10, 12, "a"));
+        assertEquals(Arrays.asList("b"), tree.getOverlapping(0, 20));
+        assertEquals(1, tree.size());
+        assertTrue(tree.isBalanced());
+    }
+
+    @Test
+    public void forEachOverlappingPair_returnsEveryClashOnce() {
+        tree.add(8, 9, "a");
+        tree.add(9, 11, "b");
+        tree.add(10, 12, "c");
+        tree.add(10, 11, "d");
+        tree.add(12, 12, "e");
+        List<String> pairs = new ArrayList<>();
+        tree.forEachOverlappingPair((first, second) -> pairs.add(first + second));
+        assertEquals(Arrays.asList("bc", "bd", "cd"), pairs);
+    }
+
+    @Test
+    public void randomOperations_sameAsBruteForce() {
+        Random random = new Random(2103);
+        List<int[]> intervals = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            if (intervals.isEmpty() || random.nextInt(3) > 0) {
+                int start = random.nextInt(500);
+                int[] interval = {start, start + random.nextInt(30), i};
+                intervals.add(interval);
+                tree.add(interval[0], interval[1], String.valueOf(i));
+            } else {
+                int[] interval = intervals.remove(random.nextInt(intervals.size()));
+                assertTrue(tree.remove(interval[0], interval[1], String.valueOf(interval[2])));
+            }
+
+            int start = random.nextInt(500);
+            int end = start + random.nextInt(50);
+            Set<String> expected = new HashSet<>();
+            for (int[] interval : intervals) {
+                if (interval[0] < interval[1] && interval[0] < end && start < interval[1] && start < end) {
+                    expected.add(String.valueOf(interval[2]));
+                }
+            }
+            assertEquals(expected, new HashSet<>(tree.getOverlapping(start, end)));
+        }
+        assertEquals(intervals.size(), tree.size());
+        assertTrue(tree.isBalanced());
+
+        Set<String> expectedPairs = new HashSet<>();
+        for (int[] first : intervals) {
+            for (int[] second : intervals) {
+                if (first[2] < second[2] && first[0] < first[1] && second[0] < second[1]
+                        && first[0] < second[1] && second[0] < first[1]) {
+                    expectedPairs.add(first[2] + " " + second[2]);
+                }
+            }
+        }
+        Set<String> pairs = new HashSet<>();
+        tree.forEachOverlappingPair((first, second) -> pairs.add(Math.min(Integer.parseInt(first),
+                Integer.parseInt(second)) + " " + Math.max(Integer.parseInt(first), Integer.parseInt(second))));
+        assertEquals(expectedPairs, pairs);
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class PersistentObservableListTest {
+
+    private final PersistentObservableList<String> list = new PersistentObservableList<>();
+    private final List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+    private final ListChangeListener<String> changeRecorder = changes::add;
+
+    /**
+     * Returns the list of {@code change} after each of its sub-changes is applied to a copy of {@code original}, in
+     * the way listeners apply them.
+     */
+    private static List<String> replay(List<String> original, ListChangeListener.Change<? extends String> change) {
+        List<String> replayed = new ArrayList<>(original);
+        change.reset();
+        while (change.next()) {
+            assertFalse(change.wasPermutated());
+            replayed.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+            replayed.addAll(change.getFrom(), change.getAddedSubList());
+        }
+        return replayed;
+    }
+
+    @Test
+    public void snapshot_laterChanges_snapshotUnchanged() {
+        list.setAll(Arrays.asList("a", "b", "c"));
+        PersistentList<String> snapshot = list.snapshot();
+
+        list.set(1, "B");
+        list.remove(0);
+        list.add("d");
+
+        assertEquals(Arrays.asList("a", "b", "c"), snapshot);
+        assertEquals(Arrays.asList("B", "c", "d"), list);
+        assertEquals(list, list.snapshot());
+    }
+
+    @Test
+    public void batch_severalChanges_listenersNotifiedOnce() {
+        list.setAll(Arrays.asList("a", "b", "c", "d", "e"));
+        List<String> original = new ArrayList<>(list);
+        list.addListener(changeRecorder);
+
+        list.batch(() -> {
+            list.remove(4);
+            list.set(2, "C");
+            list.add(0, "z");
+        });
+
+        assertEquals(Arrays.asList("z", "a", "b", "C", "d"), list);
+        assertEquals(1, changes.size());
+        assertEquals(list, replay(original, changes.get(0)));
+    }
+
+    @Test
+    public void setAll_persistentList_usedAsItIs() {
+        PersistentList<String> replacement = PersistentList.of(Arrays.asList("c", "d"));
+        list.setAll(Arrays.asList("a", "b"));
+        List<String> original = new ArrayList<>(list);
+        list.addListener(changeRecorder);
+
+        list.setAll(replacement);
+        assertSame(replacement, list.snapshot());
+        assertEquals(list, replay(original, changes.get(0)));
+
+        list.clear();
+        assertEquals(Collections.emptyList(), list);
+        assertEquals(2, changes.size());
+        assertEquals(Collections.emptyList(), replay(replacement, changes.get(1)));
+    }
+
+    @Test
+    public void indexOf_elements_positionsFound() {
+        list.setAll(Arrays.asList("a", "b", "c", "b"));
+        assertEquals(1, list.indexOf("b"));
+        assertEquals(-1, list.indexOf("e"));
+    }
+}
@@ -95,6 +95,19 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_unchangedData_storageNotUsed() throws Exception {
+        JsonProductiveNusStorage productiveNusStorage =
+                new JsonProductiveNusIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionProductiveNus.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(productiveNusStorage, userPrefsStorage));
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, String.format(
+                Messages.MESSAGE_ASSIGNMENTS_LISTED_OVERVIEW, model.getFilteredAssignmentList().size()), model);
+        assertCommandException("delete 9", MESSAGE_INVALID_ASSIGNMENT_DISPLAYED_INDEX);
+    }
+
     @Test
     public void getFilteredAssignmentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredAssignmentList().remove(0));
@@ -136,7 +149,7 @@ public class LogicManagerTest {
      */
     private void assertCommandFailure(String inputCommand, Class<? extends Throwable> expectedException,
             String expectedMessage) {
-        Model expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs(), null);
+        Model expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs());
         assertCommandFailure(inputCommand, expectedException, expectedMessage, expectedModel);
     }
 
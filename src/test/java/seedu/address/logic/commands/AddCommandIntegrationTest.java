@@ -22,14 +22,14 @@ public class AddCommandIntegrationTest {
 
     @BeforeEach
     public void setUp() {
-        model = new ModelManager(getTypicalProductiveNus(), new UserPrefs(), null);
+        model = new ModelManager(getTypicalProductiveNus(), new UserPrefs());
     }
 
     @Test
     public void execute_newAssignment_success() {
         Assignment validAssignment = new AssignmentBuilder().build();
 
-        Model expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs(), null);
+        Model expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs());
         expectedModel.addAssignment(validAssignment);
 
         assertCommandSuccess(new AddCommand(validAssignment), model,
@@ -9,6 +9,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -22,6 +23,7 @@ import seedu.address.model.ProductiveNus;
 import seedu.address.model.ReadOnlyProductiveNus;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.assignment.Assignment;
+import seedu.address.model.task.Conflict;
 import seedu.address.model.task.Task;
 import seedu.address.testutil.AssignmentBuilder;
 import seedu.address.timetable.TimetableData;
@@ -104,22 +106,37 @@ public class AddCommandTest {
         }
 
         @Override
-        public void setPreviousModel(Model previousModel) {
+        public void goToPreviousModel() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void goToPreviousModel() {
+        public FilteredList<Assignment> getFilteredAssignments() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public FilteredList<Assignment> getFilteredAssignments() {
+        public List<Conflict> getConflicts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getUndoableCommandCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getRedoableCommandCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undo(int steps) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public Model getPreviousModel() {
+        public void redo(int steps) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -169,7 +186,12 @@ public class AddCommandTest {
         }
 
         @Override
-        public void importTimetable(TimetableData data) {
+        public long getProductiveNusVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> importTimetable(TimetableData data) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -183,11 +205,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deleteAssignments(List<Assignment> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAssignment(Assignment target, Assignment editedAssignment) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setAssignments(List<Assignment> targets, List<Assignment> editedAssignments) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Assignment> getFilteredAssignmentList() {
             throw new AssertionError("This method should not be called.");
@@ -25,8 +25,8 @@ public class ClearCommandTest {
 
     @Test
     public void execute_nonEmptyProductiveNus_success() {
-        Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs(), null);
-        Model expectedModel = new ModelManager(getTypicalProductiveNus(), new UserPrefs(), null);
+        Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalProductiveNus(), new UserPrefs());
         expectedModel.setProductiveNus(new ProductiveNus());
 
         assertCommandSuccess(new ClearCommand("clear"), model, ClearCommand.MESSAGE_SUCCESS, expectedModel);
@@ -0,0 +1,59 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAssignments.getTypicalProductiveNus;
+import static seedu.address.testutil.TypicalLessons.CS2100_LEC_2;
+import static seedu.address.testutil.TypicalLessons.CS2100_TUT;
+import static seedu.address.testutil.TypicalLessons.LECTURE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ProductiveNus;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.task.Conflict;
+import seedu.address.model.task.Time;
+import seedu.address.testutil.AssignmentBuilder;
+
+public class ConflictsCommandTest {
+
+    @Test
+    public void execute_noClashes_success() {
+        ProductiveNus productiveNus = new ProductiveNus();
+        productiveNus.addLesson(CS2100_TUT);
+        productiveNus.addLesson(CS2100_LEC_2);
+        productiveNus.addLesson(LECTURE);
+        Model model = new ModelManager(productiveNus, new UserPrefs());
+        Model expectedModel = new ModelManager(productiveNus, new UserPrefs());
+        assertCommandSuccess(new ConflictsCommand("conflicts"), model, ConflictsCommand.MESSAGE_NO_CONFLICTS,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_clashes_listsEveryClash() {
+        Assignment scheduledAssignment = new AssignmentBuilder().withSchedule(new Time("01-01-2020 0830"),
+                new Time("01-01-2020 0930")).build();
+        ProductiveNus productiveNus = new ProductiveNus();
+        productiveNus.addLesson(CS2100_TUT);
+        productiveNus.addLesson(CS2100_LEC_2);
+        productiveNus.addAssignment(scheduledAssignment);
+        Model model = new ModelManager(productiveNus, new UserPrefs());
+        Model expectedModel = new ModelManager(productiveNus, new UserPrefs());
+
+        String expectedMessage = String.format(ConflictsCommand.MESSAGE_CONFLICTS, 2,
+                "\n1. " + new Conflict(CS2100_TUT, scheduledAssignment)
+                + "\n2. " + new Conflict(scheduledAssignment, CS2100_LEC_2));
+        assertCommandSuccess(new ConflictsCommand("conflicts"), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_wrongCommandFormat_fail() {
+        Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs());
+        assertCommandFailure(new ConflictsCommand("conflicts 3"), model,
+                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, ConflictsCommand.MESSAGE_USAGE));
+    }
+}
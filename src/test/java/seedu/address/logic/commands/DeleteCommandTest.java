@@ -29,7 +29,7 @@ import seedu.address.model.assignment.Assignment;
  */
 public class DeleteCommandTest {
 
-    private Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs(), null);
+    private Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs());
 
     private List<Index> indexesToDelete = new ArrayList<>();
     private List<Assignment> assignmentsToDelete = new ArrayList<>();
@@ -47,7 +47,7 @@ public class DeleteCommandTest {
 
         String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_TASK_SUCCESS, assignmentsToDelete);
 
-        ModelManager expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs(), null);
+        ModelManager expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs());
         expectedModel.deleteAssignment(assignmentToDelete);
 
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
@@ -67,7 +67,7 @@ public class DeleteCommandTest {
         DeleteCommand deleteCommand = new DeleteCommand(indexesToDelete);
 
         String expectedMessage = String.format(MESSAGE_DELETE_TASK_SUCCESS, assignmentsToDelete);
-        Model expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs(), null);
+        Model expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs());
         expectedModel.deleteAssignment(firstAssignmentToDelete);
         showNoAssignment(expectedModel);
 
@@ -92,7 +92,7 @@ public class DeleteCommandTest {
 
         String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_TASK_SUCCESS, assignmentsToDelete);
 
-        ModelManager expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs(), null);
+        ModelManager expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs());
 
         expectedModel.deleteAssignment(secondAssignmentToDelete);
         expectedModel.deleteAssignment(firstAssignmentToDelete);
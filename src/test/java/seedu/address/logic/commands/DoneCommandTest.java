@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
@@ -31,7 +32,7 @@ import seedu.address.testutil.AssignmentBuilder;
  */
 public class DoneCommandTest {
 
-    private Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs(), null);
+    private Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs());
 
     private List<Index> indexesToMarkDone = new ArrayList<>();
     private List<Assignment> assignmentsToMarkDone = new ArrayList<>();
@@ -52,7 +53,7 @@ public class DoneCommandTest {
         String expectedMessage = String.format(DoneCommand.MESSAGE_MARK_ASSIGNMENT_AS_DONE_SUCCESS,
                 assignmentsToMarkDone);
 
-        ModelManager expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs(), null);
+        ModelManager expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs());
         expectedModel.setAssignment(model.getFilteredAssignmentList().get(0), assignmentToMarkDone);
 
         assertCommandSuccess(doneCommand, model, expectedMessage, expectedModel);
@@ -76,7 +77,7 @@ public class DoneCommandTest {
         String expectedMessage = String.format(DoneCommand.MESSAGE_MARK_ASSIGNMENTS_AS_DONE_SUCCESS,
                 assignmentsToMarkDone);
 
-        ModelManager expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs(), null);
+        ModelManager expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs());
         expectedModel.setAssignment(model.getFilteredAssignmentList().get(0), firstAssignmentToMarkDone);
         expectedModel.setAssignment(model.getFilteredAssignmentList().get(1), secondAssignmentToMarkDone);
 
@@ -106,7 +107,7 @@ public class DoneCommandTest {
                 assignmentsToMarkDone);
 
         Model expectedModel = new ModelManager(
-                model.getProductiveNus(), new UserPrefs(), null, model.getFilteredAssignments());
+                model.getProductiveNus(), new UserPrefs(), model.getFilteredAssignments());
         expectedModel.setAssignment(model.getFilteredAssignmentList().get(0), assignmentToMarkDone);
 
         assertCommandSuccess(doneCommand, model, expectedMessage, expectedModel);
@@ -157,6 +158,21 @@ public class DoneCommandTest {
                 String.format(DoneCommand.MESSAGE_MULTIPLE_ALREADY_MARKED_ASSIGNMENT_AS_DONE, "[1]"));
     }
 
+    @Test
+    public void execute_alreadyMarkedDonePartialAssignmentsUnfilteredList_noAssignmentMarkedDone() {
+        indexesToMarkDone.add(INDEX_FIRST_ASSIGNMENT);
+        indexesToMarkDone.add(INDEX_SECOND_ASSIGNMENT);
+
+        Assignment firstAssignment = model.getFilteredAssignmentList().get(INDEX_FIRST_ASSIGNMENT.getZeroBased());
+        Assignment firstAssignmentMarkedDone = new AssignmentBuilder(firstAssignment).withDoneStatusSet().build();
+        model.setAssignment(firstAssignment, firstAssignmentMarkedDone);
+
+        DoneCommand doneCommand = new DoneCommand(indexesToMarkDone);
+
+        assertThrows(CommandException.class, () -> doneCommand.execute(model));
+        assertFalse(model.getFilteredAssignmentList().get(INDEX_SECOND_ASSIGNMENT.getZeroBased()).isMarkedDone());
+    }
+
     @Test
     public void execute_alreadyMarkedDoneAllAssignmentsUnfilteredList_failure() {
         indexesToMarkDone.add(INDEX_FIRST_ASSIGNMENT);
@@ -32,7 +32,7 @@ import seedu.address.testutil.EditAssignmentDescriptorBuilder;
  */
 public class EditCommandTest {
 
-    private Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs(), null);
+    private Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs());
 
     @Test
     public void execute_allFieldsSpecifiedUnfilteredList_success() {
@@ -42,7 +42,7 @@ public class EditCommandTest {
 
         String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_ASSIGNMENT_SUCCESS, editedAssignment);
 
-        Model expectedModel = new ModelManager(new ProductiveNus(model.getProductiveNus()), new UserPrefs(), null);
+        Model expectedModel = new ModelManager(new ProductiveNus(model.getProductiveNus()), new UserPrefs());
         expectedModel.setAssignment(model.getFilteredAssignmentList().get(0), editedAssignment);
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
@@ -63,7 +63,7 @@ public class EditCommandTest {
 
         String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_ASSIGNMENT_SUCCESS, editedAssignment);
 
-        Model expectedModel = new ModelManager(new ProductiveNus(model.getProductiveNus()), new UserPrefs(), null);
+        Model expectedModel = new ModelManager(new ProductiveNus(model.getProductiveNus()), new UserPrefs());
         expectedModel.setAssignment(lastAssignment, editedAssignment);
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
@@ -84,7 +84,7 @@ public class EditCommandTest {
 
         String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_ASSIGNMENT_SUCCESS, editedAssignment);
 
-        Model expectedModel = new ModelManager(new ProductiveNus(model.getProductiveNus()), new UserPrefs(), null);
+        Model expectedModel = new ModelManager(new ProductiveNus(model.getProductiveNus()), new UserPrefs());
         expectedModel.setAssignment(lastAssignment, editedAssignment);
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
@@ -96,8 +96,7 @@ public class EditCommandTest {
         Assignment editedAssignment = model.getFilteredAssignmentList().get(INDEX_FIRST_ASSIGNMENT.getZeroBased());
 
         String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_ASSIGNMENT_SUCCESS, editedAssignment);
-        Model expectedModel = new ModelManager(new ProductiveNus(model.getProductiveNus()), new UserPrefs(),
-                model.getPreviousModel());
+        Model expectedModel = new ModelManager(new ProductiveNus(model.getProductiveNus()), new UserPrefs());
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
@@ -114,7 +113,7 @@ public class EditCommandTest {
 
         String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_ASSIGNMENT_SUCCESS, editedAssignment);
 
-        Model expectedModel = new ModelManager(new ProductiveNus(model.getProductiveNus()), new UserPrefs(), null);
+        Model expectedModel = new ModelManager(new ProductiveNus(model.getProductiveNus()), new UserPrefs());
         expectedModel.setAssignment(model.getFilteredAssignmentList().get(0), editedAssignment);
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
@@ -31,8 +31,8 @@ import seedu.address.model.assignment.PriorityContainsKeywordsPredicate;
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
  */
 public class FindCommandTest {
-    private Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs(), null);
-    private Model expectedModel = new ModelManager(getTypicalProductiveNus(), new UserPrefs(), null);
+    private Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalProductiveNus(), new UserPrefs());
 
     @Test
     public void equals() {
@@ -1,14 +1,21 @@
 package seedu.address.logic.commands;
 
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.ImportCommand.MESSAGE_IMPORT_FAILED;
+import static seedu.address.logic.commands.ImportCommand.MESSAGE_STALE_MODULES;
 import static seedu.address.logic.commands.ImportCommand.MESSAGE_SUCCESS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalTimetableData.DATA;
 
+import java.io.IOException;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.timetable.TimetableData;
 
 public class ImportCommandTest {
     @Test
@@ -18,10 +25,41 @@ public class ImportCommandTest {
 
     @Test
     public void execute_import_success() {
-        Model model = new ModelManager();
+        // the lessons are not retrieved from NUSMods, so that the test does not depend on it
+        Model model = new ModelManager() {
+            @Override
+            public List<String> importTimetable(TimetableData data) {
+                return List.of();
+            }
+        };
         Model expectedModel = new ModelManager();
-        expectedModel.importTimetable(DATA);
         CommandResult expectedCommandResult = new CommandResult(MESSAGE_SUCCESS);
         assertCommandSuccess(new ImportCommand(DATA), model, expectedCommandResult, expectedModel);
     }
+
+    @Test
+    public void execute_modulesFromCachedData_staleModulesReported() {
+        Model model = new ModelManager() {
+            @Override
+            public List<String> importTimetable(TimetableData data) {
+                return List.of("CS2100", "EC1301");
+            }
+        };
+        Model expectedModel = new ModelManager();
+        CommandResult expectedCommandResult = new CommandResult(MESSAGE_SUCCESS
+                + String.format(MESSAGE_STALE_MODULES, "CS2100, EC1301"));
+        assertCommandSuccess(new ImportCommand(DATA), model, expectedCommandResult, expectedModel);
+    }
+
+    @Test
+    public void execute_modulesNotRetrieved_throwsCommandException() {
+        String problems = "CS2100: java.io.IOException: HttpResponseCode: 404";
+        Model model = new ModelManager() {
+            @Override
+            public List<String> importTimetable(TimetableData data) throws IOException {
+                throw new IOException(problems);
+            }
+        };
+        assertCommandFailure(new ImportCommand(DATA), model, String.format(MESSAGE_IMPORT_FAILED, problems));
+    }
 }
@@ -33,7 +33,7 @@ public class ListCommandTest {
         return assignment -> {
             DateTimeFormatter inputFormat = DateTimeFormatter.ofPattern(Time.TIME_DATE_TIME_FORMAT)
                     .withResolverStyle(ResolverStyle.STRICT);
-            String dateAndTimeToParse = assignment.getDeadline().value;
+            String dateAndTimeToParse = assignment.getDeadline().toString();
             LocalDateTime currentDateAndTime = LocalDateTime.now();
             assert index.isPresent();
             int zeroBaseValue = index.get().getZeroBased();
@@ -50,8 +50,8 @@ public class ListCommandTest {
 
     @BeforeEach
     public void setUp() {
-        model = new ModelManager(getTypicalProductiveNus(), new UserPrefs(), null);
-        expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs(), null);
+        model = new ModelManager(getTypicalProductiveNus(), new UserPrefs());
+        expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs());
     }
 
     @Test
@@ -16,7 +16,7 @@ import seedu.address.model.assignment.Priority;
 import seedu.address.testutil.AssignmentBuilder;
 
 public class PrioritizeCommandTest {
-    private Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs(), null);
+    private Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs());
 
     @Test
     public void execute_allFieldsSpecifiedUnfilteredList_success() {
@@ -28,7 +28,7 @@ public class PrioritizeCommandTest {
         String expectedMessage = String.format(PrioritizeCommand.MESSAGE_PRIORITIZE_ASSIGNMENT_SUCCESS,
                 prioritizedAssignment);
 
-        Model expectedModel = new ModelManager(new ProductiveNus(model.getProductiveNus()), new UserPrefs(), null);
+        Model expectedModel = new ModelManager(new ProductiveNus(model.getProductiveNus()), new UserPrefs());
         expectedModel.setAssignment(model.getFilteredAssignmentList().get(0), prioritizedAssignment);
 
         assertCommandSuccess(prioritizeCommand, model, expectedMessage, expectedModel);
@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAssignments.getTypicalProductiveNus;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_ASSIGNMENT;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class RedoCommandTest {
+    private Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs());
+
+    @Test
+    public void execute_noUndoneCommand_fail() {
+        assertCommandFailure(new RedoCommand(1), model, RedoCommand.MESSAGE_REDO_FAIL);
+    }
+
+    @Test
+    public void execute_haveUndoneCommands_success() throws CommandException {
+        model.preUpdateModel();
+        new DeleteCommand(Arrays.asList(INDEX_FIRST_ASSIGNMENT)).execute(model);
+        model.preUpdateModel();
+        new DeleteCommand(Arrays.asList(INDEX_FIRST_ASSIGNMENT)).execute(model);
+        Model expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs());
+        model.undo(2);
+
+        assertCommandSuccess(new RedoCommand(2), model,
+                String.format(RedoCommand.MESSAGE_REDO_MULTIPLE_SUCCESS, 2), expectedModel);
+    }
+
+    @Test
+    public void execute_newCommandAfterUndo_fail() throws CommandException {
+        model.preUpdateModel();
+        new DeleteCommand(Arrays.asList(INDEX_FIRST_ASSIGNMENT)).execute(model);
+        model.undo(1);
+        model.preUpdateModel();
+        new DeleteCommand(Arrays.asList(INDEX_FIRST_ASSIGNMENT)).execute(model);
+
+        assertCommandFailure(new RedoCommand(1), model, RedoCommand.MESSAGE_REDO_FAIL);
+    }
+
+    @Test
+    public void execute_moreStepsThanUndoneCommands_fail() throws CommandException {
+        model.preUpdateModel();
+        new DeleteCommand(Arrays.asList(INDEX_FIRST_ASSIGNMENT)).execute(model);
+        model.undo(1);
+
+        assertCommandFailure(new RedoCommand(2), model, String.format(RedoCommand.MESSAGE_NOT_ENOUGH_COMMANDS, 1));
+    }
+
+    @Test
+    public void equals() {
+        RedoCommand redoOneCommand = new RedoCommand(1);
+
+        assertTrue(redoOneCommand.equals(redoOneCommand));
+        assertTrue(redoOneCommand.equals(new RedoCommand(1)));
+        assertFalse(redoOneCommand.equals(new RedoCommand(2)));
+        assertFalse(redoOneCommand.equals(null));
+    }
+}
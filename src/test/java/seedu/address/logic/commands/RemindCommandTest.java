@@ -31,7 +31,7 @@ import seedu.address.testutil.AssignmentBuilder;
  */
 public class RemindCommandTest {
 
-    private Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs(), null);
+    private Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs());
 
     private List<Index> indexesToRemind = new ArrayList<>();
     private List<Assignment> assignmentsToRemind = new ArrayList<>();
@@ -51,7 +51,7 @@ public class RemindCommandTest {
 
         String expectedMessage = String.format(RemindCommand.MESSAGE_REMIND_ASSIGNMENT_SUCCESS, assignmentsToRemind);
 
-        ModelManager expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs(), null);
+        ModelManager expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs());
         expectedModel.setAssignment(model.getFilteredAssignmentList().get(0), assignmentToRemind);
 
         assertCommandSuccess(remindCommand, model, expectedMessage, expectedModel);
@@ -72,8 +72,7 @@ public class RemindCommandTest {
         String expectedMessageLast = String.format(
                 RemindCommand.MESSAGE_REMIND_ASSIGNMENT_SUCCESS, assignmentsToRemind);
 
-        ModelManager expectedModelLast = new ModelManager(model.getProductiveNus(), new UserPrefs(),
-                model.getPreviousModel());
+        ModelManager expectedModelLast = new ModelManager(model.getProductiveNus(), new UserPrefs());
         expectedModelLast.setAssignment(model.getProductiveNus().getAssignmentList()
                 .get(indexLastAssignment.getZeroBased()), assignmentToRemindLast);
 
@@ -109,7 +108,7 @@ public class RemindCommandTest {
         String expectedMessage = String.format(RemindCommand.MESSAGE_REMIND_ASSIGNMENT_SUCCESS, assignmentsToRemind);
 
         Model expectedModel = new ModelManager(
-                model.getProductiveNus(), new UserPrefs(), null, model.getFilteredAssignments());
+                model.getProductiveNus(), new UserPrefs(), model.getFilteredAssignments());
         expectedModel.setAssignment(model.getFilteredAssignmentList().get(0), assignmentToRemind);
 
         assertCommandSuccess(remindCommand, model, expectedMessage, expectedModel);
@@ -155,7 +154,7 @@ public class RemindCommandTest {
 
         String expectedMessage = String.format(RemindCommand.MESSAGE_REMIND_ASSIGNMENTS_SUCCESS, assignmentsToRemind);
 
-        ModelManager expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs(), null);
+        ModelManager expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs());
         expectedModel.setAssignment(model.getFilteredAssignmentList().get(0), firstAssignmentToRemind);
         expectedModel.setAssignment(model.getFilteredAssignmentList().get(1), secondAssignmentToRemind);
 
@@ -31,7 +31,7 @@ import seedu.address.model.assignment.Assignment;
  */
 public class ScheduleCommandTest {
 
-    private Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs(), null);
+    private Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs());
 
     public static void assertExecuteSuccess(Command command, Model actualModel, String expectedMessage) {
         try {
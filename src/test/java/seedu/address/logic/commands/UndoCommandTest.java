@@ -1,16 +1,19 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalAssignments.getTypicalProductiveNus;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_ASSIGNMENT;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
-import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -18,11 +21,11 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 
 public class UndoCommandTest {
-    private Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs(), null);
+    private Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs());
 
     @Test
     public void execute_noPreviousCommand_fail() {
-        assertCommandFailure(new UndoCommand("undo"), model, UndoCommand.MESSAGE_UNDO_FAIL);
+        assertCommandFailure(new UndoCommand(1), model, UndoCommand.MESSAGE_UNDO_FAIL);
     }
 
     @Test
@@ -36,9 +39,9 @@ public class UndoCommandTest {
 
         String expectedMessage = UndoCommand.MESSAGE_UNDO_SUCCESS;
 
-        Model expectedModel = new ModelManager(getTypicalProductiveNus(), new UserPrefs(), null);
+        Model expectedModel = new ModelManager(getTypicalProductiveNus(), new UserPrefs());
 
-        UndoCommand undoCommand = new UndoCommand("undo");
+        UndoCommand undoCommand = new UndoCommand(1);
 
         assertCommandSuccess(undoCommand, model, expectedMessage, expectedModel);
     }
@@ -49,14 +52,40 @@ public class UndoCommandTest {
         try {
             undoneCommand.execute(model);
         } catch (CommandException ignored) {
-            UndoCommand undoCommand = new UndoCommand("undo");
+            UndoCommand undoCommand = new UndoCommand(1);
             assertCommandFailure(undoCommand, model, UndoCommand.MESSAGE_UNDO_FAIL);
         }
     }
 
     @Test
-    public void execute_wrongCommandFormat_fail() {
-        assertCommandFailure(new UndoCommand("undo 3"), model,
-                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, UndoCommand.MESSAGE_USAGE));
+    public void execute_severalPreviousCommands_undoesAllOfThem() throws CommandException {
+        model.preUpdateModel();
+        new DeleteCommand(Arrays.asList(INDEX_FIRST_ASSIGNMENT)).execute(model);
+        model.preUpdateModel();
+        new DeleteCommand(Arrays.asList(INDEX_FIRST_ASSIGNMENT)).execute(model);
+
+        Model expectedModel = new ModelManager(getTypicalProductiveNus(), new UserPrefs());
+
+        assertCommandSuccess(new UndoCommand(2), model,
+                String.format(UndoCommand.MESSAGE_UNDO_MULTIPLE_SUCCESS, 2), expectedModel);
+        assertEquals(2, model.getRedoableCommandCount());
+    }
+
+    @Test
+    public void execute_moreStepsThanPreviousCommands_fail() throws CommandException {
+        model.preUpdateModel();
+        new DeleteCommand(Arrays.asList(INDEX_FIRST_ASSIGNMENT)).execute(model);
+
+        assertCommandFailure(new UndoCommand(3), model, String.format(UndoCommand.MESSAGE_NOT_ENOUGH_COMMANDS, 1));
+    }
+
+    @Test
+    public void equals() {
+        UndoCommand undoOneCommand = new UndoCommand(1);
+
+        assertTrue(undoOneCommand.equals(undoOneCommand));
+        assertTrue(undoOneCommand.equals(new UndoCommand(1)));
+        assertFalse(undoOneCommand.equals(new UndoCommand(2)));
+        assertFalse(undoOneCommand.equals(null));
     }
 }
@@ -23,7 +23,7 @@ import seedu.address.testutil.AssignmentBuilder;
 
 public class UndoneCommandTest {
 
-    private Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs(), null);
+    private Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs());
 
     @Test
     public void constructor_nullAssignment_throwsNullPointerException() {
@@ -40,8 +40,7 @@ public class UndoneCommandTest {
         String expectedMessage = String.format(
                 UndoneCommand.MESSAGE_MARK_ASSIGNMENT_AS_UNDONE_SUCCESS, assignmentToMarkUndone);
 
-        ModelManager expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs(),
-                model.getPreviousModel());
+        ModelManager expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs());
         expectedModel.setAssignment(model.getFilteredAssignmentList().get(0), assignmentToMarkUndone);
 
         assertCommandSuccess(undoneCommand, model, expectedMessage, expectedModel);
@@ -69,7 +68,7 @@ public class UndoneCommandTest {
         String expectedMessage = String.format(
                 UndoneCommand.MESSAGE_MARK_ASSIGNMENT_AS_UNDONE_SUCCESS, assignmentToMarkAsUndone);
 
-        Model expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs(), model.getPreviousModel());
+        Model expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs());
         expectedModel.setAssignment(model.getFilteredAssignmentList().get(0), assignmentToMarkAsUndone);
 
         assertCommandSuccess(undoneCommand, model, expectedMessage, expectedModel);
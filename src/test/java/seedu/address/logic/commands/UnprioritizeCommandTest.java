@@ -22,7 +22,7 @@ import seedu.address.model.assignment.Assignment;
 import seedu.address.testutil.AssignmentBuilder;
 
 public class UnprioritizeCommandTest {
-    private Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs(), null);
+    private Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs());
 
     @Test
     public void constructor_nullAssignment_throwsNullPointerException() {
@@ -39,8 +39,7 @@ public class UnprioritizeCommandTest {
         String expectedMessage = String.format(
                 UnprioritizeCommand.MESSAGE_UNPRIORITIZE_ASSIGNMENT_SUCCESS, assignmentToUnprioritize);
 
-        ModelManager expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs(),
-                model.getPreviousModel());
+        ModelManager expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs());
         expectedModel.setAssignment(model.getFilteredAssignmentList().get(0), assignmentToUnprioritize);
 
         assertCommandSuccess(unprioritizeCommand, model, expectedMessage, expectedModel);
@@ -68,7 +67,7 @@ public class UnprioritizeCommandTest {
         String expectedMessage = String.format(
                 UnprioritizeCommand.MESSAGE_UNPRIORITIZE_ASSIGNMENT_SUCCESS, assignmentToUnprioritize);
 
-        Model expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs(), model.getPreviousModel());
+        Model expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs());
         expectedModel.setAssignment(model.getFilteredAssignmentList().get(0), assignmentToUnprioritize);
 
         assertCommandSuccess(unprioritizeCommand, model, expectedMessage, expectedModel);
@@ -20,7 +20,7 @@ import seedu.address.testutil.AssignmentBuilder;
 
 public class UnremindCommandTest {
 
-    private Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs(), null);
+    private Model model = new ModelManager(getTypicalProductiveNus(), new UserPrefs());
     private final Index indexLastAssignment = Index.fromOneBased(
             model.getProductiveNus().getAssignmentList().size());
 
@@ -39,8 +39,7 @@ public class UnremindCommandTest {
         String expectedMessage = String.format(
                 UnremindCommand.MESSAGE_UNREMIND_ASSIGNMENT_SUCCESS, assignmentToUnremind);
 
-        ModelManager expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs(),
-                model.getPreviousModel());
+        ModelManager expectedModel = new ModelManager(model.getProductiveNus(), new UserPrefs());
         expectedModel.setAssignment(model.getRemindedAssignmentsList().get(0), assignmentToUnremind);
 
         assertCommandSuccess(unremindCommand, model, expectedMessage, expectedModel);
@@ -59,8 +58,7 @@ public class UnremindCommandTest {
         String expectedMessageLast = String.format(
                 UnremindCommand.MESSAGE_UNREMIND_ASSIGNMENT_SUCCESS, assignmentToUnremindLast);
 
-        ModelManager expectedModelLast = new ModelManager(model.getProductiveNus(), new UserPrefs(),
-                model.getPreviousModel());
+        ModelManager expectedModelLast = new ModelManager(model.getProductiveNus(), new UserPrefs());
         expectedModelLast.setAssignment(model.getRemindedAssignmentsList()
                 .get(indexLastRemindedAssignment.getZeroBased()), assignmentToUnremindLast);
 
@@ -0,0 +1,124 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandJournalTest {
+
+    private final List<Integer> values = new ArrayList<>();
+    private final CommandJournal journal = new CommandJournal(UserPrefs.DEFAULT_UNDO_LIMIT);
+
+    /**
+     * Adds {@code value} to {@code values} and records the change in the journal.
+     */
+    private void add(int value) {
+        values.add(value);
+        journal.record(() -> values.remove(values.size() - 1), () -> values.add(value));
+    }
+
+    @Test
+    public void record_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> journal.record(null, () -> {}));
+        assertThrows(NullPointerException.class, () -> journal.record(() -> {}, null));
+    }
+
+    @Test
+    public void undo_commandWithSeveralChanges_undoesChangesInReverseOrder() {
+        journal.startCommand();
+        add(1);
+        add(2);
+        journal.startCommand();
+        add(3);
+
+        journal.undo(1);
+        assertEquals(Arrays.asList(1, 2), values);
+        journal.undo(1);
+        assertEquals(Arrays.asList(), values);
+        assertEquals(0, journal.getUndoableCount());
+        assertEquals(2, journal.getRedoableCount());
+    }
+
+    @Test
+    public void redo_undoneCommands_redoesChangesInOrder() {
+        journal.startCommand();
+        add(1);
+        add(2);
+        journal.startCommand();
+        add(3);
+        journal.undo(2);
+
+        journal.redo(2);
+        assertEquals(Arrays.asList(1, 2, 3), values);
+        assertEquals(2, journal.getUndoableCount());
+        assertEquals(0, journal.getRedoableCount());
+    }
+
+    @Test
+    public void startCommand_commandWithoutChanges_notUndoable() {
+        journal.startCommand();
+        add(1);
+        journal.undo(1);
+        journal.startCommand();
+
+        assertEquals(0, journal.getUndoableCount());
+        assertEquals(1, journal.getRedoableCount());
+    }
+
+    @Test
+    public void record_afterUndo_discardsUndoneCommands() {
+        journal.startCommand();
+        add(1);
+        journal.undo(1);
+        journal.startCommand();
+        add(2);
+
+        assertEquals(0, journal.getRedoableCount());
+        assertThrows(IllegalArgumentException.class, () -> journal.redo(1));
+    }
+
+    @Test
+    public void discardCommand_revertsOnlyCurrentCommand() {
+        journal.startCommand();
+        add(1);
+        journal.undo(1);
+        journal.startCommand();
+        add(2);
+
+        journal.discardCommand();
+        assertEquals(Arrays.asList(), values);
+        assertEquals(0, journal.getUndoableCount());
+        assertEquals(1, journal.getRedoableCount());
+    }
+
+    @Test
+    public void setLimit_fewerCommandsThanKept_discardsOldestCommands() {
+        for (int i = 0; i < 5; i++) {
+            journal.startCommand();
+            add(i);
+        }
+        journal.setLimit(2);
+
+        assertEquals(2, journal.getUndoableCount());
+        journal.undo(2);
+        assertEquals(Arrays.asList(0, 1, 2), values);
+        assertThrows(IllegalArgumentException.class, () -> journal.undo(1));
+    }
+
+    @Test
+    public void undo_manyCommands_onlyKeepsLimit() {
+        for (int i = 0; i < 10000; i++) {
+            journal.startCommand();
+            add(i);
+        }
+
+        assertEquals(UserPrefs.DEFAULT_UNDO_LIMIT, journal.getUndoableCount());
+        journal.undo(UserPrefs.DEFAULT_UNDO_LIMIT);
+        assertEquals(10000 - UserPrefs.DEFAULT_UNDO_LIMIT, values.size());
+    }
+}
@@ -72,6 +72,71 @@ public class ModelManagerTest {
         assertEquals(path, modelManager.getProductiveNusFilePath());
     }
 
+    @Test
+    public void goToPreviousModel_afterChanges_revertsOnlyCurrentCommand() {
+        modelManager.preUpdateModel();
+        modelManager.addAssignment(CS1231S_HW);
+        modelManager.preUpdateModel();
+        modelManager.deleteAssignment(CS1231S_HW);
+        modelManager.addAssignment(CS2103T_TUT);
+
+        modelManager.goToPreviousModel();
+        assertTrue(modelManager.hasAssignment(CS1231S_HW));
+        assertFalse(modelManager.hasAssignment(CS2103T_TUT));
+        assertEquals(1, modelManager.getUndoableCommandCount());
+        assertEquals(0, modelManager.getRedoableCommandCount());
+    }
+
+    @Test
+    public void undo_severalCommands_restoresEachPreviousState() {
+        modelManager.addAssignment(CS1231S_HW);
+        modelManager.addAssignment(CS2103T_TUT);
+        modelManager.preUpdateModel();
+        modelManager.deleteAssignment(CS1231S_HW);
+        modelManager.preUpdateModel();
+        modelManager.updateFilteredAssignmentList(new NameContainsKeywordsPredicate(Arrays.asList("Tutorial")));
+        modelManager.setAssignment(CS2103T_TUT, CS1231S_HW);
+
+        modelManager.undo(1);
+        assertEquals(Arrays.asList(CS2103T_TUT), modelManager.getFilteredAssignmentList());
+
+        // the deleted assignment is added back at its old position
+        modelManager.undo(1);
+        assertEquals(Arrays.asList(CS1231S_HW, CS2103T_TUT), modelManager.getFilteredAssignmentList());
+        assertEquals(1, modelManager.getUndoableCommandCount());
+        assertEquals(2, modelManager.getRedoableCommandCount());
+
+        modelManager.redo(2);
+        assertTrue(modelManager.getFilteredAssignmentList().isEmpty());
+        assertEquals(Arrays.asList(CS1231S_HW), modelManager.getProductiveNus().getAssignmentList());
+    }
+
+    @Test
+    public void deleteAssignments_undone_restoresOrder() {
+        ProductiveNus productiveNus = new ProductiveNusBuilder()
+                .withAssignment(CS1231S_HW).withAssignment(CS2103T_TUT).build();
+        modelManager = new ModelManager(productiveNus, new UserPrefs());
+        modelManager.preUpdateModel();
+        modelManager.deleteAssignments(Arrays.asList(CS2103T_TUT, CS1231S_HW));
+
+        modelManager.undo(1);
+        assertEquals(productiveNus, modelManager.getProductiveNus());
+    }
+
+    @Test
+    public void undo_beyondUndoLimit_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoLimit(1);
+        modelManager.setUserPrefs(userPrefs);
+        modelManager.preUpdateModel();
+        modelManager.addAssignment(CS1231S_HW);
+        modelManager.preUpdateModel();
+        modelManager.addAssignment(CS2103T_TUT);
+
+        assertEquals(1, modelManager.getUndoableCommandCount());
+        assertThrows(IllegalArgumentException.class, () -> modelManager.undo(2));
+    }
+
     @Test
     public void hasAssignment_nullAssignment_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.hasAssignment(null));
@@ -107,8 +172,8 @@ public class ModelManagerTest {
         UserPrefs userPrefs = new UserPrefs();
 
         // same values -> returns true
-        modelManager = new ModelManager(productiveNus, userPrefs, null);
-        ModelManager modelManagerCopy = new ModelManager(productiveNus, userPrefs, null);
+        modelManager = new ModelManager(productiveNus, userPrefs);
+        ModelManager modelManagerCopy = new ModelManager(productiveNus, userPrefs);
 
         assertTrue(modelManager.equals(modelManagerCopy));
 
@@ -122,12 +187,12 @@ public class ModelManagerTest {
         assertFalse(modelManager.equals(5));
 
         // different productiveNus -> returns false
-        assertFalse(modelManager.equals(new ModelManager(differentProductiveNus, userPrefs, null)));
+        assertFalse(modelManager.equals(new ModelManager(differentProductiveNus, userPrefs)));
 
         // different filteredList -> returns false
         String[] keywords = CS1231S_HW.getName().fullName.split("\\s+");
         modelManager.updateFilteredAssignmentList(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
-        assertFalse(modelManager.equals(new ModelManager(differentProductiveNus, userPrefs, null)));
+        assertFalse(modelManager.equals(new ModelManager(differentProductiveNus, userPrefs)));
 
         // resets modelManager to initial state for upcoming tests
         modelManager.updateFilteredAssignmentList(PREDICATE_SHOW_ALL_ASSIGNMENT);
@@ -135,6 +200,6 @@ public class ModelManagerTest {
         // different userPrefs -> returns false
         UserPrefs differentUserPrefs = new UserPrefs();
         differentUserPrefs.setProductiveNusFilePath(Paths.get("differentFilePath"));
-        assertFalse(modelManager.equals(new ModelManager(productiveNus, differentUserPrefs, null)));
+        assertFalse(modelManager.equals(new ModelManager(productiveNus, differentUserPrefs)));
     }
 }
@@ -2,12 +2,16 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_MODULE_CODE_HW;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAssignments.CS1231S_HW;
 import static seedu.address.testutil.TypicalAssignments.CS2103T_TUT;
 import static seedu.address.testutil.TypicalAssignments.getTypicalProductiveNus;
+import static seedu.address.testutil.TypicalLessons.CS2100_LEC_2;
+import static seedu.address.testutil.TypicalLessons.CS2100_TUT;
+import static seedu.address.testutil.TypicalLessons.LECTURE;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -21,9 +25,11 @@ import javafx.collections.ObservableList;
 import seedu.address.model.assignment.Assignment;
 import seedu.address.model.assignment.exceptions.DuplicateAssignmentException;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.task.Conflict;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.Time;
 import seedu.address.testutil.AssignmentBuilder;
-import seedu.address.timetable.TimetableData;
+import seedu.address.testutil.LessonBuilder;
 
 
 public class ProductiveNusTest {
@@ -58,6 +64,82 @@ public class ProductiveNusTest {
         assertThrows(DuplicateAssignmentException.class, () -> productiveNus.resetData(newData));
     }
 
+    @Test
+    public void snapshot_laterChanges_snapshotUnchanged() {
+        productiveNus.addAssignment(CS1231S_HW);
+        ProductiveNusSnapshot snapshot = productiveNus.snapshot();
+
+        productiveNus.addAssignment(CS2103T_TUT);
+        productiveNus.removeAssignment(CS1231S_HW);
+
+        assertEquals(Collections.singletonList(CS1231S_HW), snapshot.getAssignmentList());
+    }
+
+    @Test
+    public void resetData_withSnapshot_restoresData() {
+        productiveNus.addAssignment(CS1231S_HW);
+        ProductiveNusSnapshot snapshot = productiveNus.snapshot();
+        productiveNus.addAssignment(CS2103T_TUT);
+
+        productiveNus.resetData(snapshot);
+
+        assertEquals(Collections.singletonList(CS1231S_HW), productiveNus.getAssignmentList());
+        assertTrue(productiveNus.hasAssignment(CS1231S_HW));
+        assertFalse(productiveNus.hasAssignment(CS2103T_TUT));
+    }
+
+    @Test
+    public void getVersion_dataChanged_versionChanged() {
+        long version = productiveNus.getVersion();
+        productiveNus.hasAssignment(CS1231S_HW);
+        productiveNus.getConflicts();
+        assertEquals(version, productiveNus.getVersion());
+
+        productiveNus.addAssignment(CS1231S_HW);
+        assertNotEquals(version, productiveNus.getVersion());
+
+        version = productiveNus.getVersion();
+        productiveNus.addLesson(LECTURE);
+        assertNotEquals(version, productiveNus.getVersion());
+    }
+
+    @Test
+    public void conflictsWith_changedTasks_keptUpToDate() {
+        Assignment scheduledAssignment = new AssignmentBuilder().withSchedule(new Time("01-01-2020 0830"),
+                new Time("01-01-2020 0930")).build();
+        productiveNus.addLessons(Arrays.asList(CS2100_TUT, CS2100_LEC_2, LECTURE));
+        productiveNus.addAssignment(scheduledAssignment);
+        assertEquals(Arrays.asList(CS2100_TUT, scheduledAssignment, CS2100_LEC_2),
+                productiveNus.conflictsWith(new Time("01-01-2020 0800"), new Time("01-01-2020 1100")));
+        assertEquals(Arrays.asList(new Conflict(CS2100_TUT, scheduledAssignment),
+                new Conflict(scheduledAssignment, CS2100_LEC_2)), productiveNus.getConflicts());
+
+        Assignment rescheduledAssignment = new AssignmentBuilder().withSchedule(new Time("01-01-2020 1000"),
+                new Time("01-01-2020 1200")).build();
+        productiveNus.setAssignment(scheduledAssignment, rescheduledAssignment);
+        assertEquals(Collections.emptyList(), productiveNus.getConflicts());
+
+        productiveNus.clearLessons();
+        assertEquals(Arrays.asList(rescheduledAssignment),
+                productiveNus.conflictsWith(new Time("01-01-2020 0800"), new Time("01-01-2020 1100")));
+    }
+
+    @Test
+    public void addAssignment_sameNameModuleAndTimeAsLesson_bothKeptAsTasks() {
+        Lesson lesson = new LessonBuilder().withName("CS2103T Lecture Friday").withModuleCode("CS2103T")
+                .withTime("01-01-2099 1200").withEndTime("01-01-2099 1400").build();
+        Assignment assignment = new AssignmentBuilder().withName("CS2103T Lecture Friday").withModuleCode("CS2103T")
+                .withDeadline("01-01-2099 1200").build();
+        productiveNus.addLesson(lesson);
+        productiveNus.addAssignment(assignment);
+        assertEquals(Arrays.asList(lesson, assignment), productiveNus.getTaskList());
+
+        ProductiveNus restored = new ProductiveNus();
+        restored.resetData(new ProductiveNusStub(Collections.singletonList(assignment),
+                Collections.singletonList(lesson)));
+        assertEquals(Arrays.asList(assignment, lesson), restored.getTaskList());
+    }
+
     @Test
     public void hasAssignment_nullAssignment_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> productiveNus.hasAssignment(null));
@@ -115,10 +197,6 @@ public class ProductiveNusTest {
         public ObservableList<Lesson> getLessonList() {
             return lessons;
         }
-
-        @Override
-        public void importTimetable(TimetableData data) {
-        }
     }
 
 }
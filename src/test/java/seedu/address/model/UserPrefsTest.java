@@ -1,5 +1,6 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +19,15 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setProductiveNusFilePath(null));
     }
 
+    @Test
+    public void setUndoLimit_negativeLimit_treatedAsZero() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoLimit(-5);
+        assertEquals(0, userPrefs.getUndoLimit());
+        assertEquals(userPrefs, new UserPrefs(userPrefs));
+
+        userPrefs.setUndoLimit(3);
+        assertEquals(3, userPrefs.getUndoLimit());
+    }
+
 }
@@ -5,15 +5,20 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_MODULE_CODE_HW;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAssignments.CS1231S_HW;
+import static seedu.address.testutil.TypicalAssignments.CS2103T_TUT;
+import static seedu.address.testutil.TypicalAssignments.CS2106_LAB;
 import static seedu.address.testutil.TypicalAssignments.HW;
 import static seedu.address.testutil.TypicalAssignments.LAB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.assignment.exceptions.AssignmentNotFoundException;
 import seedu.address.model.assignment.exceptions.DuplicateAssignmentException;
 import seedu.address.testutil.AssignmentBuilder;
@@ -116,6 +121,18 @@ public class UniqueAssignmentListTest {
         assertThrows(AssignmentNotFoundException.class, () -> uniqueAssignmentList.remove(HW));
     }
 
+    @Test
+    public void add_atIndex_keepsOtherAssignmentsReachable() {
+        uniqueAssignmentList.add(CS1231S_HW);
+        uniqueAssignmentList.add(CS2106_LAB);
+        uniqueAssignmentList.add(1, CS2103T_TUT);
+        assertEquals(Arrays.asList(CS1231S_HW, CS2103T_TUT, CS2106_LAB),
+                uniqueAssignmentList.asUnmodifiableObservableList());
+        assertEquals(2, uniqueAssignmentList.indexOf(CS2106_LAB));
+        assertEquals(-1, uniqueAssignmentList.indexOf(HW));
+        assertThrows(DuplicateAssignmentException.class, () -> uniqueAssignmentList.add(0, CS2106_LAB));
+    }
+
     @Test
     public void remove_existingAssignment_removesAssignment() {
         uniqueAssignmentList.add(HW);
@@ -124,6 +141,108 @@ public class UniqueAssignmentListTest {
         assertEquals(expectedUniqueAssignmentList, uniqueAssignmentList);
     }
 
+    @Test
+    public void remove_assignmentBeforeOthers_keepsOthersReachable() {
+        uniqueAssignmentList.setAssignments(Arrays.asList(CS1231S_HW, CS2103T_TUT, CS2106_LAB));
+        uniqueAssignmentList.remove(CS1231S_HW);
+        uniqueAssignmentList.remove(CS2106_LAB);
+        assertFalse(uniqueAssignmentList.contains(CS1231S_HW));
+        assertEquals(Collections.singletonList(CS2103T_TUT), uniqueAssignmentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setAssignment_editedAssignmentEqualToAnotherInList_throwsDuplicateAssignmentException() {
+        uniqueAssignmentList.add(HW);
+        Assignment otherModuleHw = new AssignmentBuilder(HW).withModuleCode("CS2100").build();
+        uniqueAssignmentList.add(otherModuleHw);
+        Assignment editedHw = new AssignmentBuilder(HW).withModuleCode("CS2100").withRemindersSet().build();
+        assertThrows(DuplicateAssignmentException.class, () -> uniqueAssignmentList.setAssignment(HW, editedHw));
+    }
+
+    @Test
+    public void contains_assignmentWithNameInDifferentCase_returnsTrue() {
+        uniqueAssignmentList.add(HW);
+        Assignment upperCaseHw = new AssignmentBuilder(HW).withName(HW.getName().fullName.toUpperCase()).build();
+        assertTrue(uniqueAssignmentList.contains(upperCaseHw));
+    }
+
+    @Test
+    public void setAssignments_targetsAndEditedAssignments_replacesAllTargets() {
+        uniqueAssignmentList.setAssignments(Arrays.asList(CS1231S_HW, CS2103T_TUT, CS2106_LAB));
+        Assignment remindedHw = new AssignmentBuilder(CS1231S_HW).withRemindersSet().build();
+        Assignment remindedLab = new AssignmentBuilder(CS2106_LAB).withRemindersSet().build();
+        uniqueAssignmentList.setAssignments(Arrays.asList(CS2106_LAB, CS1231S_HW), Arrays.asList(remindedLab,
+                remindedHw));
+        assertEquals(Arrays.asList(remindedHw, CS2103T_TUT, remindedLab),
+                uniqueAssignmentList.asUnmodifiableObservableList());
+        assertTrue(uniqueAssignmentList.asUnmodifiableObservableList().get(2).isReminded());
+    }
+
+    @Test
+    public void setAssignments_targetNotInList_listUnchanged() {
+        uniqueAssignmentList.add(CS1231S_HW);
+        Assignment remindedHw = new AssignmentBuilder(CS1231S_HW).withRemindersSet().build();
+        assertThrows(AssignmentNotFoundException.class, () -> uniqueAssignmentList.setAssignments(
+                Arrays.asList(CS1231S_HW, CS2106_LAB), Arrays.asList(remindedHw, CS2106_LAB)));
+        assertFalse(uniqueAssignmentList.asUnmodifiableObservableList().get(0).isReminded());
+    }
+
+    @Test
+    public void setAssignments_editedAssignmentsNotUnique_throwsDuplicateAssignmentException() {
+        uniqueAssignmentList.setAssignments(Arrays.asList(CS1231S_HW, CS2103T_TUT));
+        assertThrows(DuplicateAssignmentException.class, () -> uniqueAssignmentList.setAssignments(
+                Collections.singletonList(CS1231S_HW), Collections.singletonList(CS2103T_TUT)));
+        assertEquals(Arrays.asList(CS1231S_HW, CS2103T_TUT), uniqueAssignmentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setAssignments_duplicateTargets_listUnchanged() {
+        uniqueAssignmentList.setAssignments(Arrays.asList(CS1231S_HW, CS2103T_TUT));
+        Assignment remindedHw = new AssignmentBuilder(CS1231S_HW).withRemindersSet().build();
+        Assignment editedHw = new AssignmentBuilder(CS1231S_HW).withModuleCode(VALID_MODULE_CODE_HW).build();
+        assertThrows(DuplicateAssignmentException.class, () -> uniqueAssignmentList.setAssignments(
+                Arrays.asList(CS1231S_HW, CS1231S_HW), Arrays.asList(remindedHw, editedHw)));
+        assertThrows(IllegalArgumentException.class, () -> uniqueAssignmentList.setAssignments(
+                Arrays.asList(CS1231S_HW, CS2103T_TUT), Collections.singletonList(remindedHw)));
+
+        assertEquals(Arrays.asList(CS1231S_HW, CS2103T_TUT), uniqueAssignmentList.asUnmodifiableObservableList());
+        assertFalse(uniqueAssignmentList.asUnmodifiableObservableList().get(0).isReminded());
+        assertEquals(0, uniqueAssignmentList.indexOf(CS1231S_HW));
+        assertEquals(-1, uniqueAssignmentList.indexOf(editedHw));
+    }
+
+    @Test
+    public void removeAll_existingAssignments_removesAssignments() {
+        uniqueAssignmentList.setAssignments(Arrays.asList(CS1231S_HW, CS2103T_TUT, CS2106_LAB));
+        uniqueAssignmentList.removeAll(Arrays.asList(CS2106_LAB, CS1231S_HW));
+        assertEquals(Collections.singletonList(CS2103T_TUT), uniqueAssignmentList.asUnmodifiableObservableList());
+        assertFalse(uniqueAssignmentList.contains(CS2106_LAB));
+    }
+
+    @Test
+    public void removeAll_assignmentNotInList_listUnchanged() {
+        uniqueAssignmentList.add(CS1231S_HW);
+        assertThrows(AssignmentNotFoundException.class, () -> uniqueAssignmentList.removeAll(
+                Arrays.asList(CS1231S_HW, CS2106_LAB)));
+        assertTrue(uniqueAssignmentList.contains(CS1231S_HW));
+    }
+
+    @Test
+    public void removeAll_severalAssignments_onlyRemovedPositionsReported() {
+        uniqueAssignmentList.setAssignments(Arrays.asList(CS1231S_HW, CS2103T_TUT, CS2106_LAB));
+        List<Integer> removedSizes = new ArrayList<>();
+        ListChangeListener<Assignment> listener = change -> {
+            while (change.next()) {
+                removedSizes.add(change.getRemovedSize());
+            }
+        };
+        uniqueAssignmentList.asUnmodifiableObservableList().addListener(listener);
+
+        uniqueAssignmentList.removeAll(Arrays.asList(CS2106_LAB, CS1231S_HW));
+        assertEquals(Arrays.asList(1, 1), removedSizes);
+        assertEquals(0, uniqueAssignmentList.indexOf(CS2103T_TUT));
+    }
+
     @Test
     public void setAssignments_nullUniqueAssignmentList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueAssignmentList
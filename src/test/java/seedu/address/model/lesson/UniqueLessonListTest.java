@@ -4,11 +4,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.CS2100_LEC_1;
+import static seedu.address.testutil.TypicalLessons.CS2100_TUT;
 import static seedu.address.testutil.TypicalLessons.LECTURE;
 import static seedu.address.testutil.TypicalLessons.VALID_MODULE_CODE;
 import static seedu.address.testutil.TypicalLessons.VALID_NAME;
 import static seedu.address.testutil.TypicalLessons.VALID_TIME;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.lesson.exceptions.DuplicateLessonException;
@@ -71,4 +76,40 @@ public class UniqueLessonListTest {
         UniqueLessonList expectedUniquePersonList = new UniqueLessonList();
         assertEquals(expectedUniquePersonList, uniqueLessonList);
     }
+
+    @Test
+    public void addAll_uniqueLessons_addsLessonsInOrder() {
+        uniqueLessonList.add(LECTURE);
+        uniqueLessonList.addAll(Arrays.asList(CS2100_TUT, CS2100_LEC_1));
+        assertEquals(Arrays.asList(LECTURE, CS2100_TUT, CS2100_LEC_1), uniqueLessonList.asUnmodifiableObservableList());
+        assertTrue(uniqueLessonList.contains(CS2100_LEC_1));
+    }
+
+    @Test
+    public void addAll_lessonAlreadyInList_throwsDuplicateLessonException() {
+        uniqueLessonList.add(LECTURE);
+        assertThrows(DuplicateLessonException.class, () -> uniqueLessonList.addAll(Arrays.asList(CS2100_TUT, LECTURE)));
+        assertEquals(Collections.singletonList(LECTURE), uniqueLessonList.asUnmodifiableObservableList());
+        assertFalse(uniqueLessonList.contains(CS2100_TUT));
+    }
+
+    @Test
+    public void addAll_duplicateLessons_throwsDuplicateLessonException() {
+        assertThrows(DuplicateLessonException.class, () -> uniqueLessonList.addAll(Arrays.asList(LECTURE, LECTURE)));
+    }
+
+    @Test
+    public void setLessons_listWithDuplicateLessons_throwsDuplicateLessonException() {
+        assertThrows(DuplicateLessonException.class, ()
+            -> uniqueLessonList.setLessons(Arrays.asList(LECTURE, LECTURE)));
+    }
+
+    @Test
+    public void removeAll_lessonsInList_lessonsCanBeAddedAgain() {
+        uniqueLessonList.add(LECTURE);
+        uniqueLessonList.removeAll();
+        assertFalse(uniqueLessonList.contains(LECTURE));
+        uniqueLessonList.add(LECTURE);
+        assertTrue(uniqueLessonList.contains(LECTURE));
+    }
 }
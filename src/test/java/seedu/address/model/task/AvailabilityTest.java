@@ -0,0 +1,67 @@
+package seedu.address.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+public class AvailabilityTest {
+
+    private final Availability availability = new Availability(new Time("01-01-2021 0000"),
+            new Time("03-01-2021 0000"));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Availability(null, new Time("01-01-2021 0000")));
+        assertThrows(NullPointerException.class, () -> new Availability(new Time("01-01-2021 0000"), null));
+    }
+
+    @Test
+    public void isFree_nothingMarked_returnsTrue() {
+        assertTrue(availability.isFree(new Time("01-01-2021 0000"), new Time("03-01-2021 0000")));
+    }
+
+    @Test
+    public void isFree_touchingBusyTime_returnsTrue() {
+        availability.markBusy(new Time("01-01-2021 1000"), new Time("01-01-2021 1200"));
+        assertTrue(availability.isFree(new Time("01-01-2021 0800"), new Time("01-01-2021 1000")));
+        assertTrue(availability.isFree(new Time("01-01-2021 1200"), new Time("01-01-2021 1400")));
+    }
+
+    @Test
+    public void isFree_overlappingBusyTime_returnsFalse() {
+        availability.markBusy(new Time("01-01-2021 1000"), new Time("01-01-2021 1200"));
+        assertFalse(availability.isFree(new Time("01-01-2021 0900"), new Time("01-01-2021 1100")));
+        assertFalse(availability.isFree(new Time("01-01-2021 1100"), new Time("01-01-2021 1300")));
+        assertFalse(availability.isFree(new Time("01-01-2021 0800"), new Time("01-01-2021 1400")));
+    }
+
+    @Test
+    public void markBusy_partOfSlot_marksWholeSlot() {
+        availability.markBusy(new Time("01-01-2021 1010"), new Time("01-01-2021 1020"));
+        assertFalse(availability.isFree(new Time("01-01-2021 1000"), new Time("01-01-2021 1015")));
+        assertFalse(availability.isFree(new Time("01-01-2021 1015"), new Time("01-01-2021 1030")));
+        assertTrue(availability.isFree(new Time("01-01-2021 1030"), new Time("01-01-2021 1100")));
+    }
+
+    @Test
+    public void markBusy_outsideWindow_ignored() {
+        availability.markBusy(new Time("31-12-2020 1000"), new Time("01-01-2021 0100"));
+        availability.markBusy(new Time("02-01-2021 2300"), new Time("05-01-2021 0000"));
+        assertFalse(availability.isFree(new Time("01-01-2021 0000"), new Time("01-01-2021 0200")));
+        assertTrue(availability.isFree(new Time("01-01-2021 0100"), new Time("02-01-2021 2300")));
+        assertFalse(availability.isFree(new Time("02-01-2021 2200"), new Time("03-01-2021 0000")));
+    }
+
+    @Test
+    public void markBusyOutside_workingHours_onlyWorkingHoursFree() {
+        availability.markBusyOutside(LocalTime.of(6, 0), LocalTime.of(23, 59));
+        assertTrue(availability.isFree(new Time("01-01-2021 0600"), new Time("01-01-2021 2300")));
+        assertTrue(availability.isFree(new Time("02-01-2021 0600"), new Time("02-01-2021 2300")));
+        assertFalse(availability.isFree(new Time("01-01-2021 0500"), new Time("01-01-2021 0700")));
+        assertFalse(availability.isFree(new Time("01-01-2021 2200"), new Time("02-01-2021 0000")));
+    }
+}
@@ -1,9 +1,12 @@
 package seedu.address.model.task;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -37,4 +40,30 @@ public class NameTest {
         assertTrue(Name.isValidName("Capital Tan")); // with capital letters
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
+
+    @Test
+    public void equals_differentCase_sameHashCode() {
+        Name name = new Name("Lab Report");
+        Name lowerCaseName = new Name("lab report");
+
+        assertTrue(name.equals(lowerCaseName));
+        assertEquals(name.hashCode(), lowerCaseName.hashCode());
+
+        assertFalse(name.equals(new Name("Lab Reports")));
+    }
+
+    @Test
+    public void equals_differentCaseInTurkishLocale_sameHashCode() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            // "I" is not the upper case of "i" in Turkish
+            Locale.setDefault(new Locale("tr", "TR"));
+            Name name = new Name("INTRO");
+            Name lowerCaseName = new Name("intro");
+            assertTrue(name.equals(lowerCaseName));
+            assertEquals(name.hashCode(), lowerCaseName.hashCode());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
 }
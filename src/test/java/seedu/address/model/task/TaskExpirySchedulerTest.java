@@ -0,0 +1,46 @@
+package seedu.address.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class TaskExpirySchedulerTest {
+
+    private final TaskExpiryScheduler scheduler = new TaskExpiryScheduler();
+
+    @Test
+    public void schedule_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> scheduler.schedule(null, LocalDateTime.now()));
+        assertThrows(NullPointerException.class, () -> scheduler.schedule(() -> {}, null));
+    }
+
+    @Test
+    public void schedule_pastExpiry_notifiesListener() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        Runnable listener = latch::countDown;
+        scheduler.schedule(listener, LocalDateTime.now().minusMinutes(1));
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void schedule_sameListenerTwice_replacesExpiry() {
+        Runnable listener = () -> {};
+        scheduler.schedule(listener, LocalDateTime.now().plusDays(1));
+        scheduler.schedule(listener, LocalDateTime.now().plusDays(2));
+        assertEquals(1, scheduler.size());
+    }
+
+    @Test
+    public void cancel_scheduledListener_stopsTracking() {
+        Runnable listener = () -> {};
+        scheduler.schedule(listener, LocalDateTime.now().plusDays(1));
+        scheduler.cancel(listener);
+        assertEquals(0, scheduler.size());
+    }
+}
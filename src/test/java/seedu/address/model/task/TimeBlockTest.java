@@ -0,0 +1,37 @@
+package seedu.address.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class TimeBlockTest {
+
+    private final TimeBlock morning = new TimeBlock(new Time("01-01-2021 0800"), new Time("01-01-2021 1200"));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TimeBlock(null, new Time("01-01-2021 0800")));
+    }
+
+    @Test
+    public void overlaps() {
+        // shares some time -> returns true
+        assertTrue(morning.overlaps(new TimeBlock(new Time("01-01-2021 1100"), new Time("01-01-2021 1300"))));
+        assertTrue(morning.overlaps(new TimeBlock(new Time("01-01-2021 0900"), new Time("01-01-2021 1000"))));
+
+        // touching -> returns false
+        assertFalse(morning.overlaps(new TimeBlock(new Time("01-01-2021 1200"), new Time("01-01-2021 1300"))));
+
+        // no time taken up -> returns false
+        assertFalse(morning.overlaps(new TimeBlock(new Time("01-01-2021 0900"), new Time("01-01-2021 0900"))));
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(morning.equals(new TimeBlock(new Time("01-01-2021 0800"), new Time("01-01-2021 1200"))));
+        assertFalse(morning.equals(new TimeBlock(new Time("01-01-2021 0800"), new Time("01-01-2021 1300"))));
+        assertFalse(morning.equals(null));
+    }
+}
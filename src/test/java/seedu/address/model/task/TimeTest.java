@@ -1,9 +1,12 @@
 package seedu.address.model.task;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDateTime;
+
 import org.junit.jupiter.api.Test;
 
 public class TimeTest {
@@ -79,4 +82,43 @@ public class TimeTest {
         assertTrue(Time.isValidTime("31-12-2020 0059")); // boundary value of hour
 
     }
+
+    @Test
+    public void constructor_localDateTime_dropsSeconds() {
+        Time time = new Time(LocalDateTime.of(2020, 4, 30, 18, 0, 59));
+        assertEquals(new Time("30-04-2020 1800"), time);
+        assertEquals("30-04-2020 1800", time.toString());
+        assertEquals(LocalDateTime.of(2020, 4, 30, 18, 0), time.toLocalDateTime());
+    }
+
+    @Test
+    public void compareTo() {
+        Time earlier = new Time("31-12-2019 2359");
+        Time later = new Time("01-01-2020 0000");
+
+        assertTrue(earlier.compareTo(later) < 0);
+        assertTrue(later.compareTo(earlier) > 0);
+        assertEquals(0, later.compareTo(new Time("01-01-2020 0000")));
+
+        assertTrue(earlier.isBefore(later));
+        assertFalse(later.isBefore(earlier));
+        assertFalse(later.isBefore(later));
+        assertTrue(later.isAfter(earlier));
+        assertFalse(later.isAfter(later));
+        assertEquals(1, later.minutesSince(earlier));
+    }
+
+    @Test
+    public void equals() {
+        Time time = new Time("01-01-2020 1800");
+
+        assertTrue(time.equals(new Time("01-01-2020 1800")));
+        assertTrue(time.equals(new Time(LocalDateTime.of(2020, 1, 1, 18, 0))));
+        assertEquals(time.hashCode(), new Time(LocalDateTime.of(2020, 1, 1, 18, 0)).hashCode());
+        assertTrue(time.equals(time));
+
+        assertFalse(time.equals(null));
+        assertFalse(time.equals("01-01-2020 1800"));
+        assertFalse(time.equals(new Time("01-01-2020 1801")));
+    }
 }
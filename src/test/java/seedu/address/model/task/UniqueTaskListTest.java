@@ -0,0 +1,143 @@
+package seedu.address.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAssignments.CS1231S_HW;
+import static seedu.address.testutil.TypicalAssignments.CS2103T_TUT;
+import static seedu.address.testutil.TypicalLessons.CS2100_LEC_1;
+import static seedu.address.testutil.TypicalLessons.CS2100_LEC_2;
+import static seedu.address.testutil.TypicalLessons.CS2100_TUT;
+import static seedu.address.testutil.TypicalLessons.LECTURE;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.assignment.exceptions.DuplicateTaskException;
+import seedu.address.model.assignment.exceptions.TaskNotFoundException;
+import seedu.address.testutil.AssignmentBuilder;
+
+public class UniqueTaskListTest {
+
+    private final UniqueTaskList uniqueTaskList = new UniqueTaskList();
+
+    @Test
+    public void contains_nullTask_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueTaskList.contains(null));
+    }
+
+    @Test
+    public void contains_taskNotInList_returnsFalse() {
+        assertFalse(uniqueTaskList.contains(LECTURE));
+    }
+
+    @Test
+    public void contains_taskInList_returnsTrue() {
+        uniqueTaskList.add(LECTURE);
+        assertTrue(uniqueTaskList.contains(LECTURE));
+    }
+
+    @Test
+    public void add_duplicateTask_throwsDuplicateTaskException() {
+        uniqueTaskList.add(LECTURE);
+        assertThrows(DuplicateTaskException.class, () -> uniqueTaskList.add(LECTURE));
+    }
+
+    @Test
+    public void add_assignmentWithSameNameModuleAndTimeAsLesson_bothAdded() {
+        Assignment assignment = new AssignmentBuilder().withName(LECTURE.getName().fullName)
+                .withModuleCode(LECTURE.getModuleCode().toString()).withDeadline(LECTURE.getTime().toString()).build();
+        uniqueTaskList.add(LECTURE);
+        uniqueTaskList.add(assignment);
+        assertEquals(Arrays.asList(LECTURE, assignment), uniqueTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_unsortedTasks_keepsListSortedByTime() {
+        uniqueTaskList.add(CS2100_LEC_1); // 1600
+        uniqueTaskList.add(CS2100_TUT); // 0800
+        uniqueTaskList.add(LECTURE); // 1200
+        uniqueTaskList.add(CS2100_LEC_2); // 0900
+        assertEquals(Arrays.asList(CS2100_TUT, CS2100_LEC_2, LECTURE, CS2100_LEC_1),
+                uniqueTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_unsortedTasks_mergesTasksByTime() {
+        uniqueTaskList.add(LECTURE); // 1200
+        uniqueTaskList.addAll(Arrays.asList(CS2100_LEC_1, CS2100_TUT)); // 1600, 0800
+        assertEquals(Arrays.asList(CS2100_TUT, LECTURE, CS2100_LEC_1), uniqueTaskList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(LocalDateTime.of(2020, 1, 1, 9, 0)), uniqueTaskList.getEarliestEndTime());
+    }
+
+    @Test
+    public void addAll_taskAlreadyInList_throwsDuplicateTaskException() {
+        uniqueTaskList.add(LECTURE);
+        assertThrows(DuplicateTaskException.class, () -> uniqueTaskList.addAll(Arrays.asList(CS2100_TUT, LECTURE)));
+        assertEquals(Arrays.asList(LECTURE), uniqueTaskList.asUnmodifiableObservableList());
+        assertFalse(uniqueTaskList.contains(CS2100_TUT));
+    }
+
+    @Test
+    public void setTasks_duplicateTasks_throwsDuplicateTaskException() {
+        assertThrows(DuplicateTaskException.class, () -> uniqueTaskList.setTasks(Arrays.asList(LECTURE, LECTURE)));
+    }
+
+    @Test
+    public void remove_taskDoesNotExist_throwsTaskNotFoundException() {
+        assertThrows(TaskNotFoundException.class, () -> uniqueTaskList.remove(LECTURE));
+    }
+
+    @Test
+    public void remove_existingTask_removesTask() {
+        uniqueTaskList.add(LECTURE);
+        uniqueTaskList.add(CS2100_TUT);
+        uniqueTaskList.remove(LECTURE);
+        UniqueTaskList expectedUniqueTaskList = new UniqueTaskList();
+        expectedUniqueTaskList.add(CS2100_TUT);
+        assertEquals(expectedUniqueTaskList, uniqueTaskList);
+    }
+
+    @Test
+    public void setTask_targetNotInList_throwsTaskNotFoundException() {
+        assertThrows(TaskNotFoundException.class, () -> uniqueTaskList.setTask(CS1231S_HW, CS1231S_HW));
+    }
+
+    @Test
+    public void setTask_editedTaskWithDifferentTime_movesTask() {
+        uniqueTaskList.add(CS1231S_HW); // 01-01-2020
+        uniqueTaskList.add(CS2103T_TUT); // 02-03-2020
+        Assignment editedHomework = new AssignmentBuilder(CS1231S_HW).withDeadline("01-04-2020 1800").build();
+        uniqueTaskList.setTask(CS1231S_HW, editedHomework);
+        assertEquals(Arrays.asList(CS2103T_TUT, editedHomework), uniqueTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setTasks_unsortedList_sortsTasks() {
+        uniqueTaskList.setTasks(Arrays.asList(CS2100_LEC_1, CS2100_TUT, LECTURE));
+        assertEquals(Arrays.asList(CS2100_TUT, LECTURE, CS2100_LEC_1), uniqueTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeTasksEndingBefore_removesOnlyTasksThatEnded() {
+        uniqueTaskList.setTasks(Arrays.asList(CS2100_TUT, LECTURE, CS2100_LEC_1));
+
+        // CS2100_TUT ends at 0900, LECTURE at 1400 and CS2100_LEC_1 at 1800
+        assertTrue(uniqueTaskList.removeTasksEndingBefore(LocalDateTime.of(2020, 1, 1, 15, 0)));
+        assertEquals(Arrays.asList(CS2100_LEC_1), uniqueTaskList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(LocalDateTime.of(2020, 1, 1, 18, 0)), uniqueTaskList.getEarliestEndTime());
+
+        assertFalse(uniqueTaskList.removeTasksEndingBefore(LocalDateTime.of(2020, 1, 1, 15, 0)));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, ()
+            -> uniqueTaskList.asUnmodifiableObservableList().remove(0));
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAssignments.QUIZ;
+import static seedu.address.testutil.TypicalAssignments.getTypicalProductiveNus;
+import static seedu.address.testutil.TypicalLessons.CS2100_LEC_1;
+import static seedu.address.testutil.TypicalLessons.CS2100_LEC_2;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ProductiveNus;
+import seedu.address.model.task.Time;
+import seedu.address.testutil.AssignmentBuilder;
+
+public class BinaryProductiveNusFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_writtenData_success() throws Exception {
+        ProductiveNus productiveNus = getTypicalProductiveNus();
+        productiveNus.addAssignment(QUIZ);
+        productiveNus.addAssignment(new AssignmentBuilder().withName("Scheduled work").withModuleCode("CS2103T")
+                .withDeadline("01-01-2021 1200").withSchedule(new Time("31-12-2020 1000"), new Time("31-12-2020 1200"))
+                .withDoneStatusSet().withPriority("MEDIUM").build());
+        productiveNus.addLesson(CS2100_LEC_1);
+        productiveNus.addLesson(CS2100_LEC_2);
+        Path filePath = write(productiveNus, 5);
+
+        StoredProductiveNus data = read(filePath);
+        assertEquals(productiveNus, new ProductiveNus(data.toModelType()));
+        assertEquals(5, data.getJournalSequence());
+    }
+
+    @Test
+    public void write_sharedStrings_storedOnce() throws Exception {
+        ProductiveNus productiveNus = new ProductiveNus();
+        productiveNus.addLesson(CS2100_LEC_1);
+        productiveNus.addLesson(CS2100_LEC_2);
+        byte[] content = Files.readAllBytes(write(productiveNus, 0));
+
+        // header, string table of a name and a module code, two lessons, checksum
+        int stringTableLength = Integer.BYTES + 2 * Integer.BYTES
+                + CS2100_LEC_1.getName().fullName.length() + CS2100_LEC_1.getModuleCode().moduleCode.length();
+        int lessonsLength = Integer.BYTES + 2 * (2 * Integer.BYTES + 2 * Long.BYTES);
+        assertEquals(2 * Integer.BYTES + Long.BYTES + stringTableLength + Integer.BYTES + lessonsLength
+                + Integer.BYTES, content.length);
+    }
+
+    @Test
+    public void isBinary_jsonAndBinaryFiles_toldApart() throws Exception {
+        Path jsonFilePath = testFolder.resolve("data.json");
+        Files.write(jsonFilePath, "{}".getBytes());
+        try (FileChannel channel = FileChannel.open(jsonFilePath, StandardOpenOption.READ)) {
+            assertFalse(BinaryProductiveNusFile.isBinary(channel));
+        }
+        try (FileChannel channel = FileChannel.open(write(new ProductiveNus(), 0), StandardOpenOption.READ)) {
+            assertTrue(BinaryProductiveNusFile.isBinary(channel));
+        }
+    }
+
+    @Test
+    public void read_newerVersion_throwsIoException() throws Exception {
+        Path filePath = write(getTypicalProductiveNus(), 0);
+        byte[] content = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(content).putInt(Integer.BYTES, BinaryProductiveNusFile.VERSION + 1);
+        Files.write(filePath, content);
+        assertThrows(IOException.class, () -> read(filePath));
+    }
+
+    @Test
+    public void read_damagedData_throwsIoException() throws Exception {
+        Path filePath = write(getTypicalProductiveNus(), 0);
+        byte[] content = Files.readAllBytes(filePath);
+        // the last byte before the checksum
+        content[content.length - Integer.BYTES - 1] ^= 1;
+        Files.write(filePath, content);
+        assertThrows(IOException.class, () -> read(filePath));
+    }
+
+    @Test
+    public void read_truncatedData_throwsIoException() throws Exception {
+        Path filePath = write(getTypicalProductiveNus(), 0);
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length - 1));
+        assertThrows(IOException.class, () -> read(filePath));
+        Files.write(filePath, Arrays.copyOf(content, Integer.BYTES));
+        assertThrows(IOException.class, () -> read(filePath));
+    }
+
+    private Path write(ProductiveNus productiveNus, long journalSequence) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryProductiveNusFile.write(out, productiveNus, journalSequence);
+        Path filePath = testFolder.resolve("data.bin");
+        Files.write(filePath, out.toByteArray());
+        return filePath;
+    }
+
+    private StoredProductiveNus read(Path filePath) throws Exception {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return BinaryProductiveNusFile.read(channel);
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.storage.JournalingProductiveNusStorage.getJournalPath;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAssignments.CS1231S_HW;
+import static seedu.address.testutil.TypicalAssignments.CS2106_LAB;
+import static seedu.address.testutil.TypicalAssignments.IS1103_MISSION;
+import static seedu.address.testutil.TypicalAssignments.ORAL_PRESENTATION;
+import static seedu.address.testutil.TypicalAssignments.READ;
+import static seedu.address.testutil.TypicalAssignments.SLIDE;
+import static seedu.address.testutil.TypicalAssignments.getTypicalProductiveNus;
+import static seedu.address.testutil.TypicalLessons.CS2100_LEC_1;
+import static seedu.address.testutil.TypicalLessons.CS2100_TUT;
+import static seedu.address.testutil.TypicalLessons.LECTURE;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFormat;
+import seedu.address.commons.core.SyncPolicy;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ProductiveNus;
+import seedu.address.model.ReadOnlyProductiveNus;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.testutil.AssignmentBuilder;
+
+public class JournalingProductiveNusStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JournalingProductiveNusStorage createStorage(Path filePath) {
+        return new JournalingProductiveNusStorage(filePath, SyncPolicy.ALWAYS, 0);
+    }
+
+    /**
+     * Waits for {@code storage} to finish writing, then reads its data as the app would when it is started again.
+     */
+    private ProductiveNus readAfterRestart(JournalingProductiveNusStorage storage) throws Exception {
+        storage.readProductiveNus();
+        return new ProductiveNus(createStorage(storage.getProductiveNusFilePath()).readProductiveNus().get());
+    }
+
+    private List<String> readJournal(Path filePath) throws Exception {
+        return Files.readAllLines(getJournalPath(filePath));
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new JournalingProductiveNusStorage(null, SyncPolicy.NEVER, 0));
+        assertThrows(NullPointerException.class, () ->
+                new JournalingProductiveNusStorage(testFolder.resolve("data.json"), null, 0));
+    }
+
+    @Test
+    public void readProductiveNus_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                createStorage(testFolder.resolve("data.json")).readProductiveNus(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage(testFolder.resolve("NonExistentFile.json")).readProductiveNus().isPresent());
+    }
+
+    @Test
+    public void saveProductiveNus_nullProductiveNus_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                createStorage(testFolder.resolve("data.json")).saveProductiveNus(null));
+    }
+
+    @Test
+    public void saveProductiveNus_changes_onlyChangesAppended() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalingProductiveNusStorage storage = createStorage(filePath);
+        ProductiveNus original = getTypicalProductiveNus();
+        storage.saveProductiveNus(original);
+        assertEquals(original, new ProductiveNus(storage.readProductiveNus().get()));
+
+        // saving without changes writes nothing
+        storage.saveProductiveNus(original);
+        storage.flush();
+        assertFalse(Files.exists(getJournalPath(filePath)));
+
+        original.addAssignment(READ);
+        original.removeAssignment(CS1231S_HW);
+        original.setAssignment(CS2106_LAB, SLIDE);
+        storage.saveProductiveNus(original);
+        storage.flush();
+        assertEquals(3, readJournal(filePath).size());
+
+        // the snapshot is left as it was
+        assertEquals(getTypicalProductiveNus(),
+                new ProductiveNus(new JsonProductiveNusStorage(filePath).readProductiveNus().get()));
+        assertEquals(original, new ProductiveNus(storage.readProductiveNus().get()));
+        assertEquals(original, readAfterRestart(storage));
+    }
+
+    @Test
+    public void saveProductiveNus_severalChangesInOneCommand_replayedInOrder() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalingProductiveNusStorage storage = createStorage(filePath);
+        ProductiveNus original = getTypicalProductiveNus();
+        storage.saveProductiveNus(original);
+
+        original.removeAssignments(Arrays.asList(ORAL_PRESENTATION, CS1231S_HW, IS1103_MISSION));
+        original.addLessons(Arrays.asList(LECTURE, CS2100_TUT, CS2100_LEC_1));
+        storage.saveProductiveNus(original);
+        assertEquals(original, readAfterRestart(storage));
+
+        original.clearLessons();
+        original.addLesson(CS2100_TUT);
+        original.setAssignments(Arrays.asList(READ, SLIDE));
+        storage.saveProductiveNus(original);
+        assertEquals(original, readAfterRestart(storage));
+    }
+
+    @Test
+    public void saveProductiveNus_anotherProductiveNus_replacesData() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalingProductiveNusStorage storage = createStorage(filePath);
+        ProductiveNus original = getTypicalProductiveNus();
+        storage.saveProductiveNus(original);
+        original.addAssignment(READ);
+        storage.saveProductiveNus(original);
+
+        ProductiveNus other = new ProductiveNus();
+        other.addAssignment(SLIDE);
+        storage.saveProductiveNus(other);
+        assertEquals(other, readAfterRestart(storage));
+
+        // changes to the ProductiveNus saved before are no longer recorded
+        original.addAssignment(SLIDE);
+        other.addLesson(LECTURE);
+        storage.saveProductiveNus(other);
+        assertEquals(other, readAfterRestart(storage));
+    }
+
+    @Test
+    public void saveProductiveNus_manyChanges_journalCompacted() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalingProductiveNusStorage storage = createStorage(filePath);
+        ProductiveNus original = new ProductiveNus();
+        storage.saveProductiveNus(original);
+
+        int changeCount = JournalingProductiveNusStorage.MIN_CHANGES_BEFORE_COMPACTION + 10;
+        for (int i = 0; i < changeCount; i++) {
+            original.addAssignment(new AssignmentBuilder().withName("Assignment " + i).build());
+            storage.saveProductiveNus(original);
+        }
+        assertEquals(original, new ProductiveNus(storage.readProductiveNus().get()));
+        assertEquals(changeCount - JournalingProductiveNusStorage.MIN_CHANGES_BEFORE_COMPACTION - 1,
+                readJournal(filePath).size());
+        assertEquals(original, readAfterRestart(storage));
+    }
+
+    @Test
+    public void saveProductiveNus_largeChange_journalCompacted() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalingProductiveNusStorage storage = createStorage(filePath);
+        ProductiveNus original = new ProductiveNus();
+        original.addAssignment(READ);
+        storage.saveProductiveNus(original);
+
+        // one record adding more items than the limit
+        List<Assignment> assignments = new ArrayList<>();
+        for (int i = 0; i <= JournalingProductiveNusStorage.MIN_CHANGES_BEFORE_COMPACTION; i++) {
+            assignments.add(new AssignmentBuilder().withName("Assignment " + i).build());
+        }
+        original.setAssignments(assignments);
+        storage.saveProductiveNus(original);
+        storage.flush();
+        assertFalse(Files.exists(getJournalPath(filePath)));
+        assertEquals(original, readAfterRestart(storage));
+    }
+
+    @Test
+    public void saveProductiveNus_burstOfSaves_writtenTogether() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalingProductiveNusStorage storage = new JournalingProductiveNusStorage(filePath, SyncPolicy.NEVER,
+                Long.MAX_VALUE);
+        ProductiveNus original = getTypicalProductiveNus();
+        storage.saveProductiveNus(original);
+        original.addAssignment(READ);
+        storage.saveProductiveNus(original);
+        original.addAssignment(SLIDE);
+        storage.saveProductiveNus(original);
+
+        // nothing is written until the window has passed
+        assertFalse(Files.exists(filePath));
+        storage.flush();
+        assertEquals(2, readJournal(filePath).size());
+        assertEquals(original, readAfterRestart(storage));
+
+        original.removeAssignment(READ);
+        storage.saveProductiveNus(original);
+        original.removeAssignment(SLIDE);
+        storage.saveProductiveNus(original);
+        assertEquals(2, readJournal(filePath).size());
+        storage.flush();
+        assertEquals(4, readJournal(filePath).size());
+        assertEquals(original, readAfterRestart(storage));
+
+        // a new snapshot replaces the changes waiting to be written
+        original.addAssignment(READ);
+        storage.saveProductiveNus(original);
+        ProductiveNus other = new ProductiveNus();
+        storage.saveProductiveNus(other);
+        storage.flush();
+        assertFalse(Files.exists(getJournalPath(filePath)));
+        assertEquals(other, readAfterRestart(storage));
+    }
+
+    @Test
+    public void saveProductiveNus_writeFails_failureReported() throws Exception {
+        Path notDirectory = testFolder.resolve("notDirectory");
+        Files.write(notDirectory, new byte[0]);
+        JournalingProductiveNusStorage storage = createStorage(notDirectory.resolve("data.json"));
+        CountDownLatch isFailureReported = new CountDownLatch(1);
+        storage.setSaveFailureHandler(exception -> isFailureReported.countDown());
+
+        storage.saveProductiveNus(getTypicalProductiveNus());
+        assertTrue(isFailureReported.await(10, TimeUnit.SECONDS));
+
+        // the data is kept to be written again
+        assertThrows(IOException.class, storage::flush);
+        assertThrows(IOException.class, storage::flush);
+    }
+
+    @Test
+    public void readProductiveNus_incompleteLastRecord_recordIgnoredAndRemoved() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalingProductiveNusStorage storage = createStorage(filePath);
+        ProductiveNus original = getTypicalProductiveNus();
+        storage.saveProductiveNus(original);
+        original.addAssignment(READ);
+        storage.saveProductiveNus(original);
+        storage.flush();
+
+        long journalSize = Files.size(getJournalPath(filePath));
+        Files.write(getJournalPath(filePath), "{\"sequence\":99,\"list\":\"assi".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertEquals(original, readAfterRestart(storage));
+        assertEquals(journalSize, Files.size(getJournalPath(filePath)));
+    }
+
+    @Test
+    public void readProductiveNus_invalidRecord_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalingProductiveNusStorage storage = createStorage(filePath);
+        storage.saveProductiveNus(getTypicalProductiveNus());
+        storage.flush();
+        Files.write(getJournalPath(filePath), "not a record\n".getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataConversionException.class, () -> createStorage(filePath).readProductiveNus());
+
+        Files.write(getJournalPath(filePath), "{\"sequence\":2,\"list\":\"assignments\",\"index\":50,\"removed\":1}\n"
+                .getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataConversionException.class, () -> createStorage(filePath).readProductiveNus());
+    }
+
+    @Test
+    public void readProductiveNus_recordsAlreadyInSnapshot_recordsSkipped() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalingProductiveNusStorage storage = createStorage(filePath);
+        ProductiveNus original = getTypicalProductiveNus();
+        storage.saveProductiveNus(original);
+        original.addAssignment(READ);
+        storage.saveProductiveNus(original);
+        storage.flush();
+        byte[] records = Files.readAllBytes(getJournalPath(filePath));
+
+        // as if the app crashed after writing a new snapshot, before deleting the journal
+        ProductiveNus copy = new ProductiveNus(original);
+        storage.saveProductiveNus(copy);
+        storage.flush();
+        Files.write(getJournalPath(filePath), records);
+        assertEquals(original, readAfterRestart(storage));
+
+        // records that are not in the snapshot yet are still applied
+        copy.addAssignment(SLIDE);
+        storage.saveProductiveNus(copy);
+        assertEquals(copy, readAfterRestart(storage));
+    }
+
+    @Test
+    public void readProductiveNus_damagedSnapshot_previousGenerationRead() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalingProductiveNusStorage storage = createStorage(filePath);
+        ProductiveNus original = getTypicalProductiveNus();
+        storage.saveProductiveNus(original);
+        storage.flush();
+        ProductiveNus copy = new ProductiveNus(original);
+        copy.addAssignment(READ);
+        storage.saveProductiveNus(copy);
+        copy.addAssignment(SLIDE);
+        storage.saveProductiveNus(copy);
+        storage.flush();
+
+        // the records in the journal follow on from the damaged snapshot, so they cannot be applied
+        byte[] snapshot = Files.readAllBytes(filePath);
+        snapshot[snapshot.length / 2] ^= 1;
+        Files.write(filePath, snapshot);
+        assertEquals(original, new ProductiveNus(createStorage(filePath).readProductiveNus().get()));
+    }
+
+    @Test
+    public void saveProductiveNus_withoutReadingFirst_continuesSequence() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ProductiveNus original = getTypicalProductiveNus();
+        JournalingProductiveNusStorage storage = createStorage(filePath);
+        storage.saveProductiveNus(original);
+        original.addAssignment(READ);
+        storage.saveProductiveNus(original);
+
+        ProductiveNus readBack = readAfterRestart(storage);
+        JournalingProductiveNusStorage newStorage = createStorage(filePath);
+        newStorage.saveProductiveNus(readBack);
+        readBack.addAssignment(SLIDE);
+        newStorage.saveProductiveNus(readBack);
+        assertEquals(readBack, readAfterRestart(newStorage));
+    }
+
+    @Test
+    public void saveProductiveNus_otherFilePath_savedAsSnapshot() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        ReadOnlyProductiveNus original = getTypicalProductiveNus();
+        createStorage(testFolder.resolve("data.json")).saveProductiveNus(original, otherFilePath);
+        assertEquals(original, new ProductiveNus(createStorage(otherFilePath).readProductiveNus().get()));
+        assertFalse(Files.exists(getJournalPath(otherFilePath)));
+    }
+
+    @Test
+    public void saveProductiveNus_binarySnapshots_readBack() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        JournalingProductiveNusStorage storage = new JournalingProductiveNusStorage(filePath, SyncPolicy.ALWAYS, 0,
+                DataFormat.BINARY, ProductiveNusFile.NO_COMPRESSION);
+        ProductiveNus original = getTypicalProductiveNus();
+        storage.saveProductiveNus(original);
+        original.addAssignment(READ);
+        storage.saveProductiveNus(original);
+        assertEquals(original, readAfterRestart(storage));
+
+        // exported data is still json
+        Path otherFilePath = testFolder.resolve("other.json");
+        storage.saveProductiveNus(original, otherFilePath);
+        assertTrue(new String(Files.readAllBytes(otherFilePath), StandardCharsets.UTF_8).startsWith("{"));
+    }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
@@ -120,4 +121,25 @@ public class JsonUserPrefsStorageTest {
         assertEquals(original, readBack);
     }
 
+    @Test
+    public void saveUserPrefs_unchangedPrefs_notWrittenAgain() throws DataConversionException, IOException {
+        UserPrefs original = new UserPrefs();
+        Path prefsFilePath = testFolder.resolve("TempPrefs.json");
+        JsonUserPrefsStorage jsonUserPrefsStorage = new JsonUserPrefsStorage(prefsFilePath);
+        jsonUserPrefsStorage.saveUserPrefs(original);
+
+        Files.delete(prefsFilePath);
+        jsonUserPrefsStorage.saveUserPrefs(original);
+        assertFalse(Files.exists(prefsFilePath));
+
+        original.setGuiSettings(new GuiSettings(5, 5, 5, 5));
+        jsonUserPrefsStorage.saveUserPrefs(original);
+        assertEquals(original, jsonUserPrefsStorage.readUserPrefs().get());
+
+        // prefs just read are not written again either
+        Files.delete(prefsFilePath);
+        jsonUserPrefsStorage.saveUserPrefs(original);
+        assertFalse(Files.exists(prefsFilePath));
+    }
+
 }
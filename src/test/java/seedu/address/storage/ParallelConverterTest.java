@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelConverterTest {
+
+    private static final String MESSAGE_NOT_A_NUMBER = "Not a number";
+
+    private ParallelConverter<String, Integer> createConverter() {
+        return new ParallelConverter<>("Number", item -> {
+            if (!item.matches("\\d+")) {
+                throw new IllegalValueException(MESSAGE_NOT_A_NUMBER);
+            }
+            return Integer.parseInt(item);
+        });
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ParallelConverter<String, String>(null, item -> item));
+        assertThrows(NullPointerException.class, () -> new ParallelConverter<String, String>("Item", null));
+    }
+
+    @Test
+    public void getResults_noItems_emptyList() throws Exception {
+        assertTrue(createConverter().getResults().isEmpty());
+    }
+
+    @Test
+    public void getResults_severalChunks_resultsInOrder() throws Exception {
+        ParallelConverter<String, Integer> converter = createConverter();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 3 * ParallelConverter.CHUNK_SIZE + 5; i++) {
+            converter.add(Integer.toString(i));
+            expected.add(i);
+        }
+        assertEquals(expected, converter.getResults());
+    }
+
+    @Test
+    public void getResults_invalidItems_allReportedWithPositions() {
+        ParallelConverter<String, Integer> converter = createConverter();
+        for (int i = 0; i < 2 * ParallelConverter.CHUNK_SIZE; i++) {
+            converter.add(i == 2 || i == ParallelConverter.CHUNK_SIZE + 1 ? "x" : Integer.toString(i));
+        }
+        String expectedMessage = String.format(ParallelConverter.MESSAGE_INVALID_ITEM, "Number", 3,
+                MESSAGE_NOT_A_NUMBER) + "\n" + String.format(ParallelConverter.MESSAGE_INVALID_ITEM, "Number",
+                ParallelConverter.CHUNK_SIZE + 2, MESSAGE_NOT_A_NUMBER);
+        assertThrows(IllegalValueException.class, expectedMessage, converter::getResults);
+    }
+
+    @Test
+    public void getResults_manyInvalidItems_firstOnesReported() {
+        ParallelConverter<String, Integer> converter = createConverter();
+        int invalidCount = ParallelConverter.MAX_REPORTED_ERRORS + 4;
+        StringBuilder expectedMessage = new StringBuilder();
+        for (int i = 0; i < invalidCount; i++) {
+            converter.add("x");
+            if (i < ParallelConverter.MAX_REPORTED_ERRORS) {
+                expectedMessage.append(String.format(ParallelConverter.MESSAGE_INVALID_ITEM, "Number", i + 1,
+                        MESSAGE_NOT_A_NUMBER)).append('\n');
+            }
+        }
+        expectedMessage.append(String.format(ParallelConverter.MESSAGE_MORE_ERRORS, 4, "number"));
+        assertThrows(IllegalValueException.class, expectedMessage.toString(), converter::getResults);
+    }
+}
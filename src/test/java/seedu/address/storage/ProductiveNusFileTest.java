@@ -0,0 +1,171 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.storage.ProductiveNusFile.getPreviousGenerationPath;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAssignments.READ;
+import static seedu.address.testutil.TypicalAssignments.getTypicalProductiveNus;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ProductiveNus;
+
+public class ProductiveNusFileTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data",
+            "JsonSerializableProductiveNusTest");
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private ProductiveNus first;
+    private ProductiveNus second;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("data.json");
+        first = getTypicalProductiveNus();
+        second = new ProductiveNus(first);
+        second.addAssignment(READ);
+        ProductiveNusFile.write(filePath, first, 0, DataFormat.JSON, ProductiveNusFile.NO_COMPRESSION, true);
+        ProductiveNusFile.write(filePath, second, 0, DataFormat.JSON, ProductiveNusFile.NO_COMPRESSION, true);
+    }
+
+    @Test
+    public void write_existingFile_previousGenerationKept() throws Exception {
+        ProductiveNusFile.write(filePath, first, 0, DataFormat.JSON, ProductiveNusFile.NO_COMPRESSION, true);
+        assertEquals(first, read(filePath));
+        assertEquals(second, read(getPreviousGenerationPath(filePath)));
+        assertFalse(Files.exists(filePath.resolveSibling(filePath.getFileName() + FileUtil.TEMPORARY_FILE_EXTENSION)));
+    }
+
+    @Test
+    public void export_existingFile_replacedWithoutPreviousGeneration() throws Exception {
+        Path exportPath = testFolder.resolve("export.json");
+        ProductiveNusFile.export(exportPath, first);
+        ProductiveNusFile.export(exportPath, second);
+        assertEquals(second, read(exportPath));
+        assertFalse(Files.exists(getPreviousGenerationPath(exportPath)));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(ProductiveNusFile.read(testFolder.resolve("missing.json")).isPresent());
+    }
+
+    @Test
+    public void read_writtenFile_success() throws Exception {
+        assertEquals(second, read(filePath));
+        assertEquals(first, read(getPreviousGenerationPath(filePath)));
+        List<String> lines = Files.readAllLines(filePath);
+        assertTrue(lines.get(lines.size() - 1).startsWith("#length="));
+    }
+
+    @Test
+    public void read_fileWithoutTrailer_readAsIs() throws Exception {
+        Path legacyFilePath = TEST_DATA_FOLDER.resolve("typicalAssignmentsProductiveNus.json");
+        assertTrue(ProductiveNusFile.read(legacyFilePath).isPresent());
+    }
+
+    @Test
+    public void read_unknownFields_ignored() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        Files.write(otherFilePath, ("{\"version\":{\"major\":2},\"assignments\":[],\"notes\":[1,[2]],"
+                + "\"journalSequence\":7}").getBytes(StandardCharsets.UTF_8));
+        StoredProductiveNus data = ProductiveNusFile.read(otherFilePath).get();
+        assertEquals(new ProductiveNus(), data.toModelType());
+        assertEquals(7, data.getJournalSequence());
+    }
+
+    @Test
+    public void read_truncatedFile_previousGenerationRead() throws Exception {
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length / 2));
+        assertEquals(first, read(filePath));
+    }
+
+    @Test
+    public void read_damagedFile_previousGenerationRead() throws Exception {
+        // still valid json, but not what was written
+        String content = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        Files.write(filePath, content.replaceFirst("\\[", "[ ").getBytes(StandardCharsets.UTF_8));
+        assertEquals(first, read(filePath));
+    }
+
+    @Test
+    public void read_fileMovedAside_previousGenerationRead() throws Exception {
+        Files.delete(filePath);
+        assertEquals(first, read(filePath));
+    }
+
+    @Test
+    public void read_damagedFileWithoutPreviousGeneration_throwsDataConversionException() throws Exception {
+        Files.delete(getPreviousGenerationPath(filePath));
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length / 2));
+        assertThrows(DataConversionException.class, () -> ProductiveNusFile.read(filePath));
+    }
+
+    @Test
+    public void read_binaryFile_success() throws Exception {
+        ProductiveNusFile.write(filePath, first, 3, DataFormat.BINARY, ProductiveNusFile.NO_COMPRESSION, true);
+        StoredProductiveNus data = ProductiveNusFile.read(filePath).get();
+        assertEquals(first, new ProductiveNus(data.toModelType()));
+        assertEquals(3, data.getJournalSequence());
+        assertEquals(second, read(getPreviousGenerationPath(filePath)));
+    }
+
+    @Test
+    public void read_damagedBinaryFile_jsonPreviousGenerationRead() throws Exception {
+        ProductiveNusFile.write(filePath, first, 0, DataFormat.BINARY, ProductiveNusFile.NO_COMPRESSION, true);
+        byte[] content = Files.readAllBytes(filePath);
+        content[content.length / 2] ^= 1;
+        Files.write(filePath, content);
+        assertEquals(second, read(filePath));
+    }
+
+    @Test
+    public void read_compressedJsonFile_success() throws Exception {
+        long uncompressedSize = Files.size(filePath);
+        ProductiveNusFile.write(filePath, first, 5, DataFormat.JSON, 9, true);
+        assertTrue(Files.size(filePath) < uncompressedSize);
+        StoredProductiveNus data = ProductiveNusFile.read(filePath).get();
+        assertEquals(first, new ProductiveNus(data.toModelType()));
+        assertEquals(5, data.getJournalSequence());
+    }
+
+    @Test
+    public void read_compressedBinaryFile_success() throws Exception {
+        ProductiveNusFile.write(filePath, first, 3, DataFormat.BINARY, 1, true);
+        StoredProductiveNus data = ProductiveNusFile.read(filePath).get();
+        assertEquals(first, new ProductiveNus(data.toModelType()));
+        assertEquals(3, data.getJournalSequence());
+    }
+
+    @Test
+    public void read_truncatedCompressedFile_previousGenerationRead() throws Exception {
+        ProductiveNusFile.write(filePath, first, 0, DataFormat.JSON, 6, true);
+        byte[] content = Files.readAllBytes(filePath);
+        // only the checksum at the end of the compressed data is missing
+        Files.write(filePath, Arrays.copyOf(content, content.length - 4));
+        assertEquals(second, read(filePath));
+    }
+
+    private ProductiveNus read(Path filePath) throws Exception {
+        return new ProductiveNus(ProductiveNusFile.read(filePath).get().toModelType());
+    }
+}
@@ -0,0 +1,193 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.storage.SegmentedProductiveNusStorage.MANIFEST_FILE_NAME;
+import static seedu.address.storage.SegmentedProductiveNusStorage.getSegmentsDirectory;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAssignments.CS2106_LAB;
+import static seedu.address.testutil.TypicalAssignments.IS1103_MISSION;
+import static seedu.address.testutil.TypicalAssignments.getTypicalProductiveNus;
+import static seedu.address.testutil.TypicalLessons.CS2100_LEC_1;
+import static seedu.address.testutil.TypicalLessons.CS2100_TUT;
+import static seedu.address.testutil.TypicalLessons.LECTURE;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFormat;
+import seedu.address.commons.core.SyncPolicy;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ProductiveNus;
+import seedu.address.model.ReadOnlyProductiveNus;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.testutil.AssignmentBuilder;
+
+public class SegmentedProductiveNusStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private ProductiveNus original;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("data.json");
+        original = getTypicalProductiveNus();
+        // assignments of the same module that are not next to each other
+        original.addAssignment(new AssignmentBuilder().withName("CS1231S Quiz").withModuleCode("CS1231S")
+                .withDeadline("05-01-2020 1800").build());
+        original.addLesson(CS2100_TUT);
+        original.addLesson(LECTURE);
+        original.addLesson(CS2100_LEC_1);
+    }
+
+    private SegmentedProductiveNusStorage createStorage() {
+        return new SegmentedProductiveNusStorage(filePath, DataFormat.JSON, ProductiveNusFile.NO_COMPRESSION);
+    }
+
+    /**
+     * Saves {@code productiveNus} to {@code storage}, and waits for it to be written.
+     */
+    private void save(SegmentedProductiveNusStorage storage, ReadOnlyProductiveNus productiveNus) throws Exception {
+        storage.saveProductiveNus(productiveNus);
+        storage.flush();
+    }
+
+    private ProductiveNus readAfterRestart() throws Exception {
+        return new ProductiveNus(createStorage().readProductiveNus().get());
+    }
+
+    private Set<String> getSegmentFileNames() throws Exception {
+        try (Stream<Path> files = Files.list(getSegmentsDirectory(filePath))) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(SegmentedProductiveNusStorage.SEGMENT_FILE_PREFIX))
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SegmentedProductiveNusStorage(null, DataFormat.JSON, 0));
+        assertThrows(NullPointerException.class, () -> new SegmentedProductiveNusStorage(filePath, null, 0));
+        assertThrows(NullPointerException.class, () -> new SegmentedProductiveNusStorage(filePath, null, 0,
+                DataFormat.JSON, 0));
+    }
+
+    @Test
+    public void readProductiveNus_missingData_emptyResult() throws Exception {
+        assertFalse(createStorage().readProductiveNus().isPresent());
+    }
+
+    @Test
+    public void saveProductiveNus_severalModules_readBackInOrder() throws Exception {
+        save(createStorage(), original);
+        assertEquals(original, readAfterRestart());
+        // one segment for each of the 8 modules
+        assertEquals(8, getSegmentFileNames().size());
+    }
+
+    @Test
+    public void saveProductiveNus_binarySegments_readBack() throws Exception {
+        save(new SegmentedProductiveNusStorage(filePath, DataFormat.BINARY, 0), original);
+        assertEquals(original, readAfterRestart());
+    }
+
+    @Test
+    public void saveProductiveNus_compressedSegments_readBack() throws Exception {
+        save(new SegmentedProductiveNusStorage(filePath, DataFormat.JSON, 6), original);
+        assertEquals(original, readAfterRestart());
+    }
+
+    @Test
+    public void saveProductiveNus_oneModuleChanged_onlyItsSegmentWritten() throws Exception {
+        SegmentedProductiveNusStorage storage = createStorage();
+        save(storage, original);
+        Set<String> segmentFileNames = getSegmentFileNames();
+
+        original.setAssignment(CS2106_LAB, new AssignmentBuilder(CS2106_LAB).withRemindersSet().build());
+        save(storage, original);
+        Set<String> unchangedFileNames = new HashSet<>(getSegmentFileNames());
+        unchangedFileNames.retainAll(segmentFileNames);
+        assertEquals(segmentFileNames.size() - 1, unchangedFileNames.size());
+        assertEquals(segmentFileNames.size(), getSegmentFileNames().size());
+        assertTrue(readAfterRestart().getAssignmentList().stream().anyMatch(Assignment::isReminded));
+
+        // after a restart, segments that were read are not written again
+        storage = createStorage();
+        ProductiveNus readBack = new ProductiveNus(storage.readProductiveNus().get());
+        segmentFileNames = getSegmentFileNames();
+        save(storage, readBack);
+        assertEquals(segmentFileNames, getSegmentFileNames());
+    }
+
+    @Test
+    public void saveProductiveNus_moduleRemoved_segmentDeleted() throws Exception {
+        SegmentedProductiveNusStorage storage = createStorage();
+        save(storage, original);
+        original.removeAssignment(IS1103_MISSION);
+        save(storage, original);
+        assertEquals(7, getSegmentFileNames().size());
+        assertEquals(original, readAfterRestart());
+    }
+
+    @Test
+    public void saveProductiveNus_burstOfSaves_onlyLatestWritten() throws Exception {
+        SegmentedProductiveNusStorage storage = new SegmentedProductiveNusStorage(filePath, SyncPolicy.NEVER,
+                Long.MAX_VALUE, DataFormat.JSON, ProductiveNusFile.NO_COMPRESSION);
+        storage.saveProductiveNus(new ProductiveNus());
+        storage.saveProductiveNus(original);
+
+        // nothing is written until the window has passed
+        assertFalse(Files.exists(getSegmentsDirectory(filePath)));
+        storage.flush();
+        assertEquals(8, getSegmentFileNames().size());
+        assertEquals(original, readAfterRestart());
+
+        // reading waits for data saved before to be written
+        original.removeAssignment(IS1103_MISSION);
+        storage.saveProductiveNus(original);
+        assertEquals(original, new ProductiveNus(storage.readProductiveNus().get()));
+    }
+
+    @Test
+    public void readProductiveNus_singleDataFile_movedIntoSegments() throws Exception {
+        new JsonProductiveNusStorage(filePath).saveProductiveNus(original);
+        SegmentedProductiveNusStorage storage = createStorage();
+        ProductiveNus readBack = new ProductiveNus(storage.readProductiveNus().get());
+        assertEquals(original, readBack);
+
+        save(storage, readBack);
+        assertTrue(Files.exists(getSegmentsDirectory(filePath).resolve(MANIFEST_FILE_NAME)));
+        assertEquals(original, readAfterRestart());
+    }
+
+    @Test
+    public void readProductiveNus_manifestDoesNotMatchSegments_throwsDataConversionException() throws Exception {
+        save(createStorage(), original);
+        Path manifestPath = getSegmentsDirectory(filePath).resolve(MANIFEST_FILE_NAME);
+        String manifest = new String(Files.readAllBytes(manifestPath), StandardCharsets.UTF_8);
+        Files.write(manifestPath, manifest.replaceFirst("\"count\" : 2", "\"count\" : 3")
+                .getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataConversionException.class, () -> createStorage().readProductiveNus());
+    }
+
+    @Test
+    public void saveProductiveNus_otherFilePath_savedAsSingleFile() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        createStorage().saveProductiveNus(original, otherFilePath);
+        assertEquals(original, new ProductiveNus(createStorage().readProductiveNus(otherFilePath).get()));
+        assertFalse(Files.exists(getSegmentsDirectory(otherFilePath)));
+    }
+}
@@ -26,7 +26,7 @@ public class AssignmentUtil {
     public static String getAssignmentDetails(Assignment assignment) {
         StringBuilder sb = new StringBuilder();
         sb.append(PREFIX_NAME + assignment.getName().fullName + " ");
-        sb.append(PREFIX_DEADLINE + assignment.getDeadline().value + " ");
+        sb.append(PREFIX_DEADLINE + assignment.getDeadline().toString() + " ");
         sb.append(PREFIX_MODULE_CODE + assignment.getModuleCode().moduleCode + " ");
         return sb.toString();
     }
@@ -37,7 +37,7 @@ public class AssignmentUtil {
     public static String getEditAssignmentDescriptorDetails(EditAssignmentDescriptor descriptor) {
         StringBuilder sb = new StringBuilder();
         descriptor.getName().ifPresent(name -> sb.append(PREFIX_NAME).append(name.fullName).append(" "));
-        descriptor.getDeadline().ifPresent(deadline -> sb.append(PREFIX_DEADLINE).append(deadline.value).append(" "));
+        descriptor.getDeadline().ifPresent(deadline -> sb.append(PREFIX_DEADLINE).append(deadline).append(" "));
         descriptor.getModuleCode().ifPresent(moduleCode -> sb.append(PREFIX_MODULE_CODE)
                 .append(moduleCode.moduleCode).append(" "));
         return sb.toString();
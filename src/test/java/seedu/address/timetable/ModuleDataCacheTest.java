@@ -0,0 +1,77 @@
+package seedu.address.timetable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ModuleDataCacheTest {
+
+    private static final String ACADEMIC_YEAR = "2020-2021";
+    private static final String JSON = "{\"moduleCode\":\"CS2100\"}";
+
+    @TempDir
+    public Path testFolder;
+
+    private static InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(ModuleDataCache.Entry entry) throws Exception {
+        try (InputStream in = entry.openStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ModuleDataCache(null, 0));
+    }
+
+    @Test
+    public void get_missingModule_emptyResult() {
+        ModuleDataCache cache = new ModuleDataCache(testFolder, ModuleDataCache.DEFAULT_MAX_SIZE_BYTES);
+        assertFalse(cache.get(ACADEMIC_YEAR, "CS2100").isPresent());
+    }
+
+    @Test
+    public void put_validatorsAndJson_readBack() throws Exception {
+        ModuleDataCache cache = new ModuleDataCache(testFolder, ModuleDataCache.DEFAULT_MAX_SIZE_BYTES);
+        cache.put(ACADEMIC_YEAR, "CS2100", "\"abc\"", "", toStream(JSON));
+
+        ModuleDataCache.Entry entry = new ModuleDataCache(testFolder, ModuleDataCache.DEFAULT_MAX_SIZE_BYTES)
+                .get(ACADEMIC_YEAR, "CS2100").get();
+        assertEquals(Optional.of("\"abc\""), entry.getEtag());
+        assertEquals(Optional.empty(), entry.getLastModified());
+        assertEquals(JSON, read(entry));
+        assertFalse(cache.get("2019-2020", "CS2100").isPresent());
+    }
+
+    @Test
+    public void put_overSizeLimit_leastRecentlyUsedEvicted() throws Exception {
+        Path yearFolder = testFolder.resolve(ACADEMIC_YEAR);
+        ModuleDataCache cache = new ModuleDataCache(testFolder, 2 * (JSON.length() + 2));
+        cache.put(ACADEMIC_YEAR, "CS2100", "", "", toStream(JSON));
+        cache.put(ACADEMIC_YEAR, "CS2103T", "", "", toStream(JSON));
+        // CS2100 was written first, but read more recently
+        Files.setLastModifiedTime(yearFolder.resolve("CS2103T.json"), FileTime.fromMillis(1000));
+        Files.setLastModifiedTime(yearFolder.resolve("CS2100.json"), FileTime.fromMillis(0));
+        read(cache.get(ACADEMIC_YEAR, "CS2100").get());
+
+        cache.put(ACADEMIC_YEAR, "EC1301", "", "", toStream(JSON));
+        assertTrue(cache.get(ACADEMIC_YEAR, "CS2100").isPresent());
+        assertFalse(cache.get(ACADEMIC_YEAR, "CS2103T").isPresent());
+        assertTrue(cache.get(ACADEMIC_YEAR, "EC1301").isPresent());
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.timetable;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class SemesterTimetableExtractorTest {
+
+    private static final String SEMESTER_1 = "{\"semester\":1,\"timetable\":["
+            + "{\"classNo\":\"01\",\"lessonType\":\"Tutorial\",\"day\":\"Monday\",\"startTime\":\"1000\","
+            + "\"endTime\":\"1100\",\"weeks\":[1,2]}]}";
+    private static final String SEMESTER_2 = "{\"examDate\":\"2021-04-28T01:00:00.000Z\",\"timetable\":["
+            + "{\"classNo\":\"01\",\"startTime\":\"1000\",\"endTime\":\"1200\",\"weeks\":[1,2,3],"
+            + "\"venue\":\"COM1-0203\",\"day\":\"Friday\",\"lessonType\":\"Tutorial\",\"size\":20},"
+            + "{\"classNo\":\"02\",\"startTime\":\"1400\",\"endTime\":\"1600\",\"weeks\":[4],"
+            + "\"venue\":\"COM1-0203\",\"day\":\"Friday\",\"lessonType\":\"Tutorial\",\"size\":20},"
+            + "{\"classNo\":\"1\",\"startTime\":\"0800\",\"endTime\":\"1000\",\"weeks\":[1,2,3,4,5,6,7,8,9,10,11,12,13,"
+            + "14,15,16,17],\"venue\":\"LT19\",\"day\":\"Wednesday\",\"lessonType\":\"Lecture\",\"size\":300}],"
+            + "\"semester\":2}";
+    private static final String MODULE_JSON = "{\"moduleCode\":\"CS2100\",\"description\":\"Computer [organisation]\","
+            + "\"prereqTree\":{\"or\":[\"CS1010\",{\"and\":[\"CS1101S\"]}]},\"semesterData\":[" + SEMESTER_1 + ","
+            + SEMESTER_2 + "],\"fulfillRequirements\":[\"CS2106\"]}";
+
+    private static Map<String, List<TimetableEntry>> extract(String json, int semester, Set<String> wantedKeys)
+            throws IOException {
+        return SemesterTimetableExtractor.extract(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+                semester, wantedKeys);
+    }
+
+    @Test
+    public void extract_wantedClasses_onlyThoseReturnedByKey() throws Exception {
+        Map<String, List<TimetableEntry>> entries = extract(MODULE_JSON, 2,
+                Set.of(TimetableEntry.getKey("Lecture", "1"), TimetableEntry.getKey("Tutorial", "01")));
+        assertEquals(2, entries.size());
+
+        List<TimetableEntry> tutorials = entries.get(TimetableEntry.getKey("Tutorial", "01"));
+        assertEquals(1, tutorials.size());
+        TimetableEntry tutorial = tutorials.get(0);
+        assertEquals("Tutorial", tutorial.getLessonType());
+        assertEquals("Friday", tutorial.getDay());
+        assertEquals("1000", tutorial.getStartTime());
+        assertEquals("1200", tutorial.getEndTime());
+        assertArrayEquals(new int[] {1, 2, 3}, tutorial.getWeeks());
+
+        TimetableEntry lecture = entries.get(TimetableEntry.getKey("Lecture", "1")).get(0);
+        assertEquals("Wednesday", lecture.getDay());
+        assertEquals(17, lecture.getWeeks().length);
+    }
+
+    @Test
+    public void extract_noWantedClasses_emptyMap() throws Exception {
+        assertEquals(Map.of(), extract(MODULE_JSON, 1, Set.of()));
+    }
+
+    @Test
+    public void extract_missingSemester_throwsIoException() {
+        String json = "{\"semesterData\":[" + SEMESTER_1 + "]}";
+        assertThrows(IOException.class, () -> extract(json, 2, Set.of()));
+        assertThrows(IOException.class, () -> extract("{\"moduleCode\":\"CS2100\"}", 1, Set.of()));
+    }
+
+    @Test
+    public void extract_incompleteClass_throwsIoException() {
+        String json = "{\"semesterData\":[{\"timetable\":[{\"classNo\":\"01\",\"lessonType\":\"Tutorial\"}]}]}";
+        assertThrows(IOException.class, () -> extract(json, 1, Set.of(TimetableEntry.getKey("Tutorial", "01"))));
+    }
+
+    @Test
+    public void extract_unwantedClassWithDateRangeWeeks_ignored() throws Exception {
+        String json = "{\"semesterData\":[{\"timetable\":["
+                + "{\"classNo\":\"1\",\"lessonType\":\"Laboratory\",\"day\":\"Monday\",\"startTime\":\"1400\","
+                + "\"endTime\":\"1600\",\"weeks\":{\"start\":\"2020-08-10\",\"end\":\"2020-11-13\","
+                + "\"weekInterval\":2}},"
+                + "{\"classNo\":\"1\",\"lessonType\":\"Lecture\",\"day\":\"Tuesday\",\"startTime\":\"0800\","
+                + "\"endTime\":\"1000\",\"weeks\":[1,2]}]}]}";
+        Map<String, List<TimetableEntry>> entries = extract(json, 1, Set.of(TimetableEntry.getKey("Lecture", "1")));
+        assertEquals(1, entries.size());
+        assertArrayEquals(new int[] {1, 2}, entries.get(TimetableEntry.getKey("Lecture", "1")).get(0).getWeeks());
+
+        assertThrows(IOException.class, () -> extract(json, 1, Set.of(TimetableEntry.getKey("Laboratory", "1"))));
+    }
+
+    @Test
+    public void extract_unwantedIncompleteClass_ignored() throws Exception {
+        String json = "{\"semesterData\":[{\"timetable\":[{\"classNo\":\"01\",\"lessonType\":\"Tutorial\"},"
+                + "{\"lessonType\":\"Lecture\"}]}]}";
+        assertEquals(Map.of(), extract(json, 1, Set.of(TimetableEntry.getKey("Lecture", "1"))));
+    }
+
+    @Test
+    public void extract_invalidJson_throwsIoException() {
+        assertThrows(IOException.class, () -> extract("[]", 1, Set.of()));
+        assertThrows(IOException.class, () -> extract("{\"semesterData\":[{\"timetable\":[", 1, Set.of()));
+    }
+}
@@ -0,0 +1,216 @@
+package seedu.address.timetable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.model.lesson.Lesson;
+import seedu.address.testutil.TimetableDataBuilder;
+
+public class TimetableRetrieverTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2020, 1, 1);
+    // the only module whose data is sent uncompressed
+    private static final String UNCOMPRESSED_MODULE = "ST2334";
+    private static final String ETAG = "\"v1\"";
+    private static final String MODULE_JSON = "{\"semesterData\":[{\"semester\":1,\"timetable\":["
+            + "{\"classNo\":\"01\",\"lessonType\":\"Tutorial\",\"day\":\"Monday\",\"startTime\":\"1000\","
+            + "\"endTime\":\"1100\",\"weeks\":[1,2,7]},"
+            + "{\"classNo\":\"1\",\"lessonType\":\"Lecture\",\"day\":\"Tuesday\",\"startTime\":\"1400\","
+            + "\"endTime\":\"1600\",\"weeks\":[1]}]}]}";
+
+    @TempDir
+    public Path testFolder;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private String apiUrl;
+    private final AtomicInteger requestsInFlight = new AtomicInteger();
+    private final AtomicInteger maxRequestsInFlight = new AtomicInteger();
+    private final AtomicInteger compressedResponses = new AtomicInteger();
+    private final AtomicInteger notModifiedResponses = new AtomicInteger();
+    private ModuleDataCache cache;
+    private CountDownLatch allRequestsArrived = new CountDownLatch(0);
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/modules/", this::handle);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+        apiUrl = "http://localhost:" + server.getAddress().getPort() + "/modules/";
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        maxRequestsInFlight.accumulateAndGet(requestsInFlight.incrementAndGet(), Math::max);
+        try {
+            allRequestsArrived.countDown();
+            allRequestsArrived.await(5, TimeUnit.SECONDS);
+            String path = exchange.getRequestURI().getPath();
+            if (path.contains("UNK")) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            if (path.endsWith("CS2100.json")) {
+                // the first module is the slowest, so its data arrives last
+                Thread.sleep(200);
+            }
+            if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModifiedResponses.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("ETag", ETAG);
+            byte[] body = MODULE_JSON.getBytes(StandardCharsets.UTF_8);
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            boolean isCompressed = acceptEncoding != null && acceptEncoding.contains("gzip")
+                    && !path.endsWith(UNCOMPRESSED_MODULE + ".json");
+            if (isCompressed) {
+                compressedResponses.incrementAndGet();
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+                exchange.sendResponseHeaders(200, 0);
+                try (OutputStream out = new GZIPOutputStream(exchange.getResponseBody())) {
+                    out.write(body);
+                }
+            } else {
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            requestsInFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private List<Lesson> retrieveLessons(TimetableData data, LocalDate today) throws IOException {
+        return retrieve(data, today).getLessons();
+    }
+
+    private RetrievedLessons retrieve(TimetableData data, LocalDate today) throws IOException {
+        return TimetableRetriever.retrieveLessons(data, apiUrl, today, cache);
+    }
+
+    private TimetableData createData(String[] moduleCodes, String[] moduleLessons) {
+        return new TimetableDataBuilder().withSemester(1).withModuleCodeArray(moduleCodes)
+                .withModuleLessonArray(moduleLessons).build();
+    }
+
+    @Test
+    public void retrieveLessons_severalModules_lessonsInModuleOrder() throws Exception {
+        TimetableData data = createData(new String[] {"CS2100", "EC1301"}, new String[] {"TUT:01,LEC:1", "LEC:1"});
+        List<String> names = retrieveLessons(data, TODAY).stream()
+                .map(lesson -> lesson.getName().fullName)
+                .collect(Collectors.toList());
+        assertEquals(List.of("CS2100 Tutorial Monday", "CS2100 Tutorial Monday", "CS2100 Tutorial Monday",
+                "CS2100 Lecture Tuesday", "EC1301 Lecture Tuesday"), names);
+    }
+
+    @Test
+    public void retrieveLessons_compressedAndPlainResponses_bothRead() throws Exception {
+        TimetableData data = createData(new String[] {"EC1301", UNCOMPRESSED_MODULE}, new String[] {"LEC:1", "LEC:1"});
+        assertEquals(2, retrieveLessons(data, TODAY).size());
+        assertEquals(1, compressedResponses.get());
+    }
+
+    @Test
+    public void retrieveLessons_lessonsBeforeToday_notRetrieved() throws Exception {
+        TimetableData data = createData(new String[] {"EC1301"}, new String[] {"TUT:01"});
+        // the tutorial of week 1 is on 10-08-2020, and the one of week 2 is on 17-08-2020
+        List<Lesson> lessons = retrieveLessons(data, LocalDate.of(2020, 8, 10));
+        assertEquals(2, lessons.size());
+        assertEquals("17-08-2020 1000", lessons.get(0).getTime().toString());
+        assertEquals("17-08-2020 1100", lessons.get(0).getEndTime().toString());
+        // week 7 comes after the recess week
+        assertEquals("28-09-2020 1000", lessons.get(1).getTime().toString());
+    }
+
+    @Test
+    public void retrieveLessons_severalModules_fetchedConcurrently() throws Exception {
+        String[] moduleCodes = {"CS2100", "EC1301", "CS2103T"};
+        allRequestsArrived = new CountDownLatch(moduleCodes.length);
+        retrieveLessons(createData(moduleCodes, new String[] {"LEC:1", "LEC:1", "LEC:1"}), TODAY);
+        assertEquals(moduleCodes.length, maxRequestsInFlight.get());
+    }
+
+    @Test
+    public void retrieveLessons_unknownModules_allErrorsReported() {
+        TimetableData data = createData(new String[] {"UNK1000", "CS2100", "UNK2000"},
+                new String[] {"LEC:1", "LEC:1", "LEC:1"});
+        String expectedMessage = "UNK1000: java.io.IOException: HttpResponseCode: 404\n"
+                + "UNK2000: java.io.IOException: HttpResponseCode: 404";
+        assertThrows(IOException.class, expectedMessage, () -> retrieveLessons(data, TODAY));
+    }
+
+    @Test
+    public void retrieveLessons_invalidModuleCode_notFetched() throws Exception {
+        cache = new ModuleDataCache(testFolder.resolve("cache"), ModuleDataCache.DEFAULT_MAX_SIZE_BYTES);
+        TimetableData data = createData(new String[] {"../../CS2100", "CS2100"}, new String[] {"LEC:1", "LEC:1"});
+        String expectedMessage = "../../CS2100: java.io.IOException: Invalid module code";
+        assertThrows(IOException.class, expectedMessage, () -> retrieveLessons(data, TODAY));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(List.of(testFolder.resolve("cache")), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void retrieveLessons_cachedModule_revalidated() throws Exception {
+        cache = new ModuleDataCache(testFolder, ModuleDataCache.DEFAULT_MAX_SIZE_BYTES);
+        TimetableData data = createData(new String[] {"CS2100"}, new String[] {"TUT:01"});
+        List<Lesson> lessons = retrieveLessons(data, TODAY);
+        assertEquals(0, notModifiedResponses.get());
+
+        RetrievedLessons revalidated = retrieve(data, TODAY);
+        assertEquals(lessons, revalidated.getLessons());
+        assertEquals(List.of(), revalidated.getStaleModuleCodes());
+        assertEquals(1, notModifiedResponses.get());
+    }
+
+    @Test
+    public void retrieveLessons_serverUnreachable_cachedModuleUsed() throws Exception {
+        cache = new ModuleDataCache(testFolder, ModuleDataCache.DEFAULT_MAX_SIZE_BYTES);
+        TimetableData data = createData(new String[] {"CS2100", "EC1301"}, new String[] {"TUT:01", "LEC:1"});
+        List<Lesson> lessons = retrieveLessons(data, TODAY);
+        server.stop(0);
+        RetrievedLessons fromCache = retrieve(data, TODAY);
+        assertEquals(lessons, fromCache.getLessons());
+        assertEquals(List.of("CS2100", "EC1301"), fromCache.getStaleModuleCodes());
+
+        TimetableData uncachedData = createData(new String[] {"CS2103T"}, new String[] {"LEC:1"});
+        assertThrows(IOException.class, () -> retrieveLessons(uncachedData, TODAY));
+    }
+}